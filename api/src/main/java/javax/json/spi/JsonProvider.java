@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2011-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -53,6 +53,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Optional;
@@ -77,16 +78,46 @@ public abstract class JsonProvider {
     protected JsonProvider() {
     }
 
+    /**
+     * The resolved providers by context class loader. The keys are weak,
+     * and only the providers defined by the class loader of this class are
+     * kept, so that a cached provider does not keep an undeployed
+     * application's class loader alive.
+     */
+    private static final Map<ClassLoader, JsonProvider> PROVIDERS
+            = new WeakHashMap<>();
+
     /**
      * Creates a JSON provider object. The provider is loaded using the
      * {@link ServiceLoader#load(Class)} method. If there are no available
      * service providers, this method returns the default service provider.
-     * Users are recommended to cache the result of this method.
+     * A provider defined by the class loader of the JSON Processing API is
+     * resolved once for each context class loader, later calls with the same
+     * context class loader return the same provider.
      *
      * @see ServiceLoader
      * @return a JSON provider
      */
     public static JsonProvider provider() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        synchronized (PROVIDERS) {
+            JsonProvider provider = PROVIDERS.get(loader);
+            if (provider != null) {
+                return provider;
+            }
+        }
+        // Resolved without the lock, another thread may resolve the same
+        // provider meanwhile
+        JsonProvider provider = loadProvider();
+        if (provider.getClass().getClassLoader() == JsonProvider.class.getClassLoader()) {
+            synchronized (PROVIDERS) {
+                PROVIDERS.put(loader, provider);
+            }
+        }
+        return provider;
+    }
+
+    private static JsonProvider loadProvider() {
         ServiceLoader<JsonProvider> loader = ServiceLoader.load(JsonProvider.class);
         Iterator<JsonProvider> it = loader.iterator();
         if (it.hasNext()) {
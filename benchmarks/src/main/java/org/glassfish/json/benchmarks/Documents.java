@@ -0,0 +1,185 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.json.Json;
+import javax.json.JsonReader;
+import javax.json.JsonStructure;
+
+/**
+ * Input documents shared by the benchmarks. Names ending in {@code .json}
+ * are loaded from the class path, the others are generated so that their
+ * shape stresses a particular part of the implementation:
+ * <ul>
+ *   <li>{@code large} - a wide array of small records (~1MB)</li>
+ *   <li>{@code deep} - objects and arrays nested {@link #DEEP_DEPTH} levels</li>
+ *   <li>{@code numbers} - arrays of integral and decimal numbers</li>
+ * </ul>
+ *
+ * The generated documents are deterministic, so results are comparable
+ * between runs.
+ */
+final class Documents {
+
+    static final String TWITTER = "twitter.json";
+    static final String FACEBOOK = "facebook.json";
+    static final String LARGE = "large";
+    static final String DEEP = "deep";
+    static final String NUMBERS = "numbers";
+
+    // below the parser's default maximum nesting depth
+    static final int DEEP_DEPTH = 500;
+
+    private Documents() {
+    }
+
+    static byte[] bytes(String name) {
+        switch (name) {
+            case LARGE:
+                return large().getBytes(StandardCharsets.UTF_8);
+            case DEEP:
+                return deep().getBytes(StandardCharsets.UTF_8);
+            case NUMBERS:
+                return numbers().getBytes(StandardCharsets.UTF_8);
+            default:
+                return load(name);
+        }
+    }
+
+    static String string(String name) {
+        return new String(bytes(name), StandardCharsets.UTF_8);
+    }
+
+    static JsonStructure read(String name) {
+        try (JsonReader reader = Json.createReader(new StringReader(string(name)))) {
+            return reader.read();
+        }
+    }
+
+    private static byte[] load(String name) {
+        try (InputStream in = Documents.class.getResourceAsStream("/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown document " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+            }
+            return out.toByteArray();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static String large() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(1 << 20);
+        sb.append('[');
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                .append(",\"name\":\"user").append(random.nextInt(100000)).append('"')
+                .append(",\"active\":").append(random.nextBoolean())
+                .append(",\"score\":").append(random.nextInt(1000) / 10.0)
+                .append(",\"email\":null")
+                .append(",\"tags\":[\"alpha\",\"beta\",\"gamma\"]")
+                .append(",\"address\":{\"street\":\"").append(random.nextInt(1000))
+                .append(" Main Street\",\"city\":\"Springfield\",\"zip\":\"")
+                .append(10000 + random.nextInt(90000)).append("\"}}");
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private static String deep() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < DEEP_DEPTH; i++) {
+            sb.append((i & 1) == 0 ? "{\"a\":" : "[");
+        }
+        sb.append("\"leaf\"");
+        for (int i = DEEP_DEPTH - 1; i >= 0; i--) {
+            sb.append((i & 1) == 0 ? '}' : ']');
+        }
+        return sb.toString();
+    }
+
+    private static String numbers() {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(1 << 20);
+        sb.append("{\"ints\":[");
+        for (int i = 0; i < 20000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(random.nextInt());
+        }
+        sb.append("],\"longs\":[");
+        for (int i = 0; i < 20000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(random.nextLong());
+        }
+        sb.append("],\"doubles\":[");
+        for (int i = 0; i < 20000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(random.nextDouble() * 1000);
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+
+import org.glassfish.json.api.PreparedName;
+import org.glassfish.json.api.PreparedNameGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code JsonGenerator} output driven call by call, the way
+ * streaming producers use it. The document is walked with the generator's
+ * typed {@code write} methods so that number and string formatting are
+ * exercised rather than {@code write(JsonValue)} alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({Documents.TWITTER, Documents.FACEBOOK, Documents.LARGE, Documents.DEEP, Documents.NUMBERS})
+    public String document;
+
+    @Param({"false", "true"})
+    public boolean prettyPrinting;
+
+    // writes the keys as PreparedNames, looked up by name
+    @Param({"false", "true"})
+    public boolean preparedNames;
+
+    private JsonGeneratorFactory factory;
+    private JsonValue value;
+    private Map<String, PreparedName> names;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> config = new HashMap<>();
+        if (prettyPrinting) {
+            config.put(JsonGenerator.PRETTY_PRINTING, true);
+        }
+        factory = Json.createGeneratorFactory(config);
+        value = Documents.read(document);
+        names = preparedNames ? new HashMap<>() : null;
+        if (preparedNames) {
+            prepareNames(value, names);
+        }
+    }
+
+    private static void prepareNames(JsonValue value, Map<String, PreparedName> names) {
+        if (value instanceof JsonObject) {
+            for (Map.Entry<String, JsonValue> e : ((JsonObject) value).entrySet()) {
+                names.computeIfAbsent(e.getKey(), PreparedName::of);
+                prepareNames(e.getValue(), names);
+            }
+        } else if (value instanceof JsonArray) {
+            for (JsonValue v : (JsonArray) value) {
+                prepareNames(v, names);
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateBytes() {
+        try (JsonGenerator generator = factory.createGenerator(
+                Sinks.NULL_STREAM, StandardCharsets.UTF_8)) {
+            write(generator, value, names);
+        }
+    }
+
+    @Benchmark
+    public void generateChars() {
+        try (JsonGenerator generator = factory.createGenerator(Sinks.NULL_WRITER)) {
+            write(generator, value, names);
+        }
+    }
+
+    private static void write(JsonGenerator generator, JsonValue value,
+            Map<String, PreparedName> names) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                generator.writeStartObject();
+                for (Map.Entry<String, JsonValue> e : ((JsonObject) value).entrySet()) {
+                    if (names != null) {
+                        ((PreparedNameGenerator) generator).writeKey(names.get(e.getKey()));
+                    } else {
+                        generator.writeKey(e.getKey());
+                    }
+                    write(generator, e.getValue(), names);
+                }
+                generator.writeEnd();
+                break;
+            case ARRAY:
+                generator.writeStartArray();
+                for (JsonValue v : (JsonArray) value) {
+                    write(generator, v, names);
+                }
+                generator.writeEnd();
+                break;
+            case STRING:
+                generator.write(((JsonString) value).getString());
+                break;
+            case NUMBER:
+                JsonNumber number = (JsonNumber) value;
+                if (number.isIntegral()) {
+                    generator.write(number.longValue());
+                } else {
+                    generator.write(number.doubleValue());
+                }
+                break;
+            case TRUE:
+                generator.write(true);
+                break;
+            case FALSE:
+                generator.write(false);
+                break;
+            case NULL:
+                generator.writeNull();
+                break;
+        }
+    }
+
+}
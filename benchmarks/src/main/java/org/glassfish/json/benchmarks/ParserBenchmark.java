@@ -0,0 +1,221 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+
+import org.glassfish.json.JsonParserImpl;
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.ThreadLocalBufferPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code JsonParser} event iteration, consuming every key and value
+ * the way a data binding layer would, and skipping the values of the top
+ * level object or array with {@code skipObject()}/{@code skipArray()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({Documents.TWITTER, Documents.FACEBOOK, Documents.LARGE, Documents.DEEP, Documents.NUMBERS})
+    public String document;
+
+    // run with -t to compare the pools under contention
+    @Param({"default", "threadLocal"})
+    public String bufferPool;
+
+    private JsonParserFactory factory;
+    private JsonParserFactory relaxedFactory;
+    private byte[] bytes;
+    private String chars;
+
+    @Setup
+    public void setup() {
+        factory = Json.createParserFactory("threadLocal".equals(bufferPool)
+                ? Collections.singletonMap(BufferPool.class.getName(), new ThreadLocalBufferPool())
+                : null);
+        Map<String, Object> relaxed = new HashMap<>();
+        relaxed.put(JsonConfig.RELAXED_SKIPPING, true);
+        if ("threadLocal".equals(bufferPool)) {
+            relaxed.put(BufferPool.class.getName(), new ThreadLocalBufferPool());
+        }
+        relaxedFactory = Json.createParserFactory(relaxed);
+        bytes = Documents.bytes(document);
+        chars = Documents.string(document);
+    }
+
+    @Benchmark
+    public void parseBytes(Blackhole bh) {
+        try (JsonParser parser = factory.createParser(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            consume(parser, bh);
+        }
+    }
+
+    @Benchmark
+    public void parseChars(Blackhole bh) {
+        try (JsonParser parser = factory.createParser(new StringReader(chars))) {
+            consume(parser, bh);
+        }
+    }
+
+    // numbers read with JsonParserImpl.getDouble() instead of BigDecimal
+    @Benchmark
+    public void parseBytesAsDoubles(Blackhole bh) {
+        try (JsonParser parser = factory.createParser(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            while (parser.hasNext()) {
+                JsonParser.Event e = parser.next();
+                if (e == JsonParser.Event.VALUE_NUMBER) {
+                    bh.consume(((JsonParserImpl) parser).getDouble());
+                } else if (e == JsonParser.Event.KEY_NAME || e == JsonParser.Event.VALUE_STRING) {
+                    bh.consume(parser.getString());
+                } else {
+                    bh.consume(e);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void skipBytes(Blackhole bh) {
+        try (JsonParser parser = factory.createParser(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            skip(parser, bh);
+        }
+    }
+
+    @Benchmark
+    public void skipChars(Blackhole bh) {
+        try (JsonParser parser = factory.createParser(new StringReader(chars))) {
+            skip(parser, bh);
+        }
+    }
+
+    @Benchmark
+    public void skipBytesRelaxed(Blackhole bh) {
+        try (JsonParser parser = relaxedFactory.createParser(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            skip(parser, bh);
+        }
+    }
+
+    @Benchmark
+    public void skipCharsRelaxed(Blackhole bh) {
+        try (JsonParser parser = relaxedFactory.createParser(new StringReader(chars))) {
+            skip(parser, bh);
+        }
+    }
+
+    @Benchmark
+    public void parseEventsOnly(Blackhole bh) {
+        try (JsonParser parser = factory.createParser(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            while (parser.hasNext()) {
+                bh.consume(parser.next());
+            }
+        }
+    }
+
+    // Skips each container at the second level, consumes the other events
+    static void skip(JsonParser parser, Blackhole bh) {
+        parser.next();
+        while (parser.hasNext()) {
+            JsonParser.Event e = parser.next();
+            if (e == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (e == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+            bh.consume(e);
+        }
+    }
+
+    static void consume(JsonParser parser, Blackhole bh) {
+        while (parser.hasNext()) {
+            JsonParser.Event e = parser.next();
+            switch (e) {
+                case KEY_NAME:
+                case VALUE_STRING:
+                    bh.consume(parser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    if (parser.isIntegralNumber()) {
+                        bh.consume(parser.getLong());
+                    } else {
+                        bh.consume(parser.getBigDecimal());
+                    }
+                    break;
+                default:
+                    bh.consume(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonMergePatch;
+import javax.json.JsonPatch;
+import javax.json.JsonReader;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures applying and computing JSON Patch (RFC 6902) and JSON Merge Patch
+ * (RFC 7396) documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatchBenchmark {
+
+    @Param({Documents.TWITTER, Documents.FACEBOOK, Documents.LARGE})
+    public String document;
+
+    private JsonStructure source;
+    private JsonStructure target;
+    private JsonArray operations;
+    private JsonPatch patch;
+    private JsonMergePatch mergePatch;
+    private JsonValue mergeTarget;
+
+    @Setup
+    public void setup() {
+        source = Documents.read(document);
+        operations = (JsonArray) parse(patch(document));
+        patch = Json.createPatch(operations);
+        target = patch.apply(source);
+        mergePatch = Json.createMergePatch(parse(mergePatch(document)));
+        mergeTarget = mergePatch.apply(source);
+    }
+
+    @Benchmark
+    public JsonPatch createPatch() {
+        return Json.createPatch(operations);
+    }
+
+    @Benchmark
+    public JsonStructure applyPatch() {
+        return patch.apply(source);
+    }
+
+    @Benchmark
+    public JsonPatch diff() {
+        return Json.createDiff(source, target);
+    }
+
+    @Benchmark
+    public JsonValue applyMergePatch() {
+        return mergePatch.apply(source);
+    }
+
+    @Benchmark
+    public JsonMergePatch mergeDiff() {
+        return Json.createMergeDiff(source, mergeTarget);
+    }
+
+    private static JsonValue parse(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json.replace('\'', '"')))) {
+            return reader.readValue();
+        }
+    }
+
+    private static String patch(String document) {
+        switch (document) {
+            case Documents.TWITTER:
+                return "["
+                    + "{'op':'replace','path':'/statuses/0/text','value':'replaced'},"
+                    + "{'op':'add','path':'/statuses/0/user/verified','value':true},"
+                    + "{'op':'remove','path':'/statuses/1/metadata'},"
+                    + "{'op':'move','from':'/statuses/2/geo','path':'/statuses/2/location'},"
+                    + "{'op':'copy','from':'/search_metadata/query','path':'/search_metadata/original_query'},"
+                    + "{'op':'add','path':'/statuses/-','value':{'id':1,'text':'appended'}},"
+                    + "{'op':'remove','path':'/statuses/5'},"
+                    + "{'op':'test','path':'/search_metadata/count','value':15}"
+                    + "]";
+            case Documents.FACEBOOK:
+                return "["
+                    + "{'op':'replace','path':'/data/0/message','value':'replaced'},"
+                    + "{'op':'add','path':'/data/3/from/verified','value':true},"
+                    + "{'op':'remove','path':'/data/10/application'},"
+                    + "{'op':'move','from':'/data/20/type','path':'/data/20/kind'},"
+                    + "{'op':'copy','from':'/data/1/from','path':'/data/2/to'},"
+                    + "{'op':'remove','path':'/data/7'},"
+                    + "{'op':'test','path':'/data/0/message','value':'replaced'}"
+                    + "]";
+            case Documents.LARGE:
+                return "["
+                    + "{'op':'replace','path':'/0/name','value':'replaced'},"
+                    + "{'op':'add','path':'/5000/address/country','value':'US'},"
+                    + "{'op':'remove','path':'/9999/tags'},"
+                    + "{'op':'move','from':'/100/email','path':'/100/contact'},"
+                    + "{'op':'copy','from':'/1/address','path':'/2/previous_address'},"
+                    + "{'op':'remove','path':'/4000'},"
+                    + "{'op':'add','path':'/6000','value':{'id':-1}},"
+                    + "{'op':'test','path':'/0/id','value':0}"
+                    + "]";
+            default:
+                throw new IllegalArgumentException(document);
+        }
+    }
+
+    private static String mergePatch(String document) {
+        switch (document) {
+            case Documents.TWITTER:
+                return "{'search_metadata':{'count':20,'since_id':null,'refreshed':true}}";
+            case Documents.FACEBOOK:
+                return "{'paging':{'previous':null,'first':'https://graph.facebook.com/'}}";
+            case Documents.LARGE:
+                // arrays are replaced as a whole by a merge patch
+                return "{'records':[]}";
+            default:
+                throw new IllegalArgumentException(document);
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonPointer;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+import org.glassfish.json.api.JsonConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code JsonPointer} parsing, lookups and structural updates, and
+ * reading only the values selected by the pointers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointerBenchmark {
+
+    @Param({Documents.TWITTER, Documents.FACEBOOK, Documents.LARGE, Documents.DEEP})
+    public String document;
+
+    private JsonStructure value;
+    private String[] paths;
+    private JsonPointer[] pointers;
+    private JsonPointer leaf;
+    private byte[] bytes;
+    private JsonReaderFactory selectingFactory;
+
+    @Setup
+    public void setup() {
+        value = Documents.read(document);
+        paths = paths(document);
+        pointers = new JsonPointer[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            pointers[i] = Json.createPointer(paths[i]);
+        }
+        leaf = pointers[pointers.length - 1];
+        bytes = Documents.bytes(document);
+        selectingFactory = Json.createReaderFactory(
+                Collections.singletonMap(JsonConfig.SELECTED_POINTERS, Arrays.asList(paths)));
+    }
+
+    @Benchmark
+    public void createPointer(Blackhole bh) {
+        for (String path : paths) {
+            bh.consume(Json.createPointer(path));
+        }
+    }
+
+    @Benchmark
+    public void getValue(Blackhole bh) {
+        for (JsonPointer pointer : pointers) {
+            bh.consume(pointer.getValue(value));
+        }
+    }
+
+    @Benchmark
+    public void containsValue(Blackhole bh) {
+        for (JsonPointer pointer : pointers) {
+            bh.consume(pointer.containsValue(value));
+        }
+    }
+
+    @Benchmark
+    public JsonStructure replace() {
+        return leaf.replace(value, JsonValue.NULL);
+    }
+
+    @Benchmark
+    public JsonStructure readSelected() {
+        try (JsonReader reader = selectingFactory.createReader(
+                new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            return reader.read();
+        }
+    }
+
+    private static String[] paths(String document) {
+        switch (document) {
+            case Documents.TWITTER:
+                return new String[] {
+                    "/search_metadata/count",
+                    "/statuses/0/user/screen_name",
+                    "/statuses/7/entities/hashtags",
+                    "/statuses/14/metadata/result_type"
+                };
+            case Documents.FACEBOOK:
+                return new String[] {
+                    "/paging/next",
+                    "/data/0/from/name",
+                    "/data/12/created_time",
+                    "/data/24/id"
+                };
+            case Documents.LARGE:
+                return new String[] {
+                    "/0/id",
+                    "/5000/tags/1",
+                    "/9999/address/city"
+                };
+            case Documents.DEEP:
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < Documents.DEEP_DEPTH; i++) {
+                    sb.append((i & 1) == 0 ? "/a" : "/0");
+                }
+                return new String[] {
+                    "/a/0/a/0",
+                    sb.substring(0, sb.length() / 2),
+                    sb.toString()
+                };
+            default:
+                throw new IllegalArgumentException(document);
+        }
+    }
+
+}
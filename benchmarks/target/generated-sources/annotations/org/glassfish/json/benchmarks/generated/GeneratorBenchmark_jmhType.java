@@ -0,0 +1,4 @@
+package org.glassfish.json.benchmarks.generated;
+public class GeneratorBenchmark_jmhType extends GeneratorBenchmark_jmhType_B3 {
+}
+
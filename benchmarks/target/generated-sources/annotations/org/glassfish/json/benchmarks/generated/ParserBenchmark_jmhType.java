@@ -0,0 +1,4 @@
+package org.glassfish.json.benchmarks.generated;
+public class ParserBenchmark_jmhType extends ParserBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.glassfish.json.benchmarks.generated;
+public class PatchBenchmark_jmhType extends PatchBenchmark_jmhType_B3 {
+}
+
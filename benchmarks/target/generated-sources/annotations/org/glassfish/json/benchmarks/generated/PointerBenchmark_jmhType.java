@@ -0,0 +1,4 @@
+package org.glassfish.json.benchmarks.generated;
+public class PointerBenchmark_jmhType extends PointerBenchmark_jmhType_B3 {
+}
+
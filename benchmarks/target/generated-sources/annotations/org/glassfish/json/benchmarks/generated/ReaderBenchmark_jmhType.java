@@ -0,0 +1,4 @@
+package org.glassfish.json.benchmarks.generated;
+public class ReaderBenchmark_jmhType extends ReaderBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.glassfish.json.benchmarks.generated;
+public class WriterBenchmark_jmhType extends WriterBenchmark_jmhType_B3 {
+}
+
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -54,6 +54,7 @@ class BufferPoolImpl implements BufferPool {
 
     // volatile since multiple threads may access queue reference
     private volatile WeakReference<ConcurrentLinkedQueue<char[]>> queue;
+    private volatile WeakReference<ConcurrentLinkedQueue<byte[]>> byteQueue;
 
     /**
      * Gets a new object from the pool.
@@ -95,4 +96,44 @@ class BufferPoolImpl implements BufferPool {
         getQueue().offer(t);
     }
 
+    /**
+     * Gets a new byte[] object from the pool.
+     *
+     * <p>
+     * If no object is available in the pool, this method creates a new one.
+     *
+     * @return
+     *      always non-null.
+     */
+    @Override
+    public final byte[] takeBytes() {
+        byte[] t = getByteQueue().poll();
+        if (t==null)
+            return new byte[8192];
+        return t;
+    }
+
+    private ConcurrentLinkedQueue<byte[]> getByteQueue() {
+        WeakReference<ConcurrentLinkedQueue<byte[]>> q = byteQueue;
+        if (q != null) {
+            ConcurrentLinkedQueue<byte[]> d = q.get();
+            if (d != null)
+                return d;
+        }
+
+        // overwrite the queue
+        ConcurrentLinkedQueue<byte[]> d = new ConcurrentLinkedQueue<>();
+        byteQueue = new WeakReference<>(d);
+
+        return d;
+    }
+
+    /**
+     * Returns a byte[] object back to the pool.
+     */
+    @Override
+    public final void recycleBytes(byte[] t) {
+        getByteQueue().offer(t);
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import javax.json.JsonException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Puts the bytes into caller supplied {@code ByteBuffer}s, heap or
+ * direct. When the buffer is full, and on {@code flush()} and
+ * {@code close()}, it is handed to the callback, which returns the
+ * buffer for the next bytes.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+    private final UnaryOperator<ByteBuffer> bufferFull;
+    private ByteBuffer buffer;
+
+    ByteBufferOutputStream(ByteBuffer buffer, UnaryOperator<ByteBuffer> bufferFull) {
+        this.buffer = buffer;
+        this.bufferFull = bufferFull;
+    }
+
+    @Override
+    public void write(int b) {
+        if (!buffer.hasRemaining()) {
+            nextBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            if (!buffer.hasRemaining()) {
+                nextBuffer();
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.put(b, off, count);
+            off += count;
+            len -= count;
+        }
+    }
+
+    @Override
+    public void flush() {
+        buffer = handOver();
+    }
+
+    @Override
+    public void close() {
+        if (buffer != null) {
+            bufferFull.apply(buffer);
+            buffer = null;
+        }
+    }
+
+    private void nextBuffer() {
+        ByteBuffer next = handOver();
+        if (!next.hasRemaining()) {
+            throw new JsonException(JsonMessages.GENERATOR_BUFFER_FULL());
+        }
+        buffer = next;
+    }
+
+    private ByteBuffer handOver() {
+        ByteBuffer next = bufferFull.apply(buffer);
+        if (next == null) {
+            throw new JsonException(JsonMessages.GENERATOR_BUFFER_FULL());
+        }
+        return next;
+    }
+
+}
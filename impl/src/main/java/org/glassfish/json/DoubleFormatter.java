@@ -0,0 +1,297 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import java.math.BigInteger;
+
+/**
+ * Formats a double into chars, without creating a String, in the same
+ * layout as {@link Double#toString(double)}: plain notation from 10^-3
+ * (inclusive) to 10^7 (exclusive) and computerized scientific notation
+ * otherwise, for example {@code 0.001}, {@code 100.0} and {@code 1.0E7}.
+ *
+ * <p>The digits are the shortest ones that parse back to the same double,
+ * and the closest to it if there are several. They are computed with the
+ * Schubfach algorithm of Raffaello Giulietti, "The Schubfach way to render
+ * doubles", 2020, which only needs a few multiplications of longs and a
+ * table of 128-bit approximations of the powers of ten.
+ */
+final class DoubleFormatter {
+
+    // Enough for the longest double, like -2.2250738585072014E-308
+    static final int MAX_CHARS = 24;
+
+    private static final int P = 53;            // precision of a double
+    private static final int Q_MIN = -1074;     // exponent of Double.MIN_VALUE
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long T_MASK = C_MIN - 1;
+    private static final int BQ_MASK = 0x7ff;
+    // subnormals below it need one more digit of precision
+    private static final int C_TINY = 3;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    private static final long[] POW10 = new long[18];
+
+    // For each k between K_MIN and K_MAX, 10^-k = b 2^r with 2^125 <= b < 2^126.
+    // Then g = floor(b) + 1 is stored as its higher 63 bits and lower 63 bits
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = 10 * POW10[i - 1];
+        }
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            BigInteger g;
+            if (k <= 0) {
+                BigInteger pow = BigInteger.TEN.pow(-k);
+                int r = pow.bitLength() - 126;
+                g = r < 0 ? pow.shiftLeft(-r) : pow.shiftRight(r);
+            } else {
+                BigInteger pow = BigInteger.TEN.pow(k);
+                g = BigInteger.ONE.shiftLeft(125 + pow.bitLength()).divide(pow);
+            }
+            g = g.add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    private DoubleFormatter() {
+    }
+
+    /**
+     * Writes the chars of the given finite double into the buffer.
+     *
+     * @param v finite double
+     * @param buf buffer with at least {@link #MAX_CHARS} chars from index
+     * @param index where the first char is written
+     * @return index after the last char written
+     */
+    static int format(double v, char[] buf, int index) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bits < 0) {
+            buf[index++] = '-';
+        }
+        if (bq != 0) {
+            // normal value, v = c 2^q
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                // fast path for small integers
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return chars(f, 0, buf, index);
+                }
+            }
+            return toDecimal(-mq, c, 0, buf, index);
+        }
+        if (t != 0) {
+            // subnormal value
+            return t < C_TINY
+                    ? toDecimal(Q_MIN, 10 * t, -1, buf, index)
+                    : toDecimal(Q_MIN, t, 0, buf, index);
+        }
+        buf[index++] = '0';
+        buf[index++] = '.';
+        buf[index++] = '0';
+        return index;
+    }
+
+    // Shortest decimal for c 2^q, with dk added to its exponent
+    private static int toDecimal(int q, long c, int dk, char[] buf, int index) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // the interval of the doubles that round to v is asymmetric
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // try one digit less first
+            long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return chars(upin ? sp10 : tp10, k, buf, index);
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return chars(uin ? s : t, k + dk, buf, index);
+        }
+        // both are in the interval, pick the closest one, or the even one
+        long cmp = vb - ((s + t) << 1);
+        return chars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buf, index);
+    }
+
+    // Rounded odd product of g and cp, scaled by 2^-127
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+
+    // Same as Math.multiplyHigh() of Java 9
+    static long multiplyHigh(long x, long y) {
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    // floor(log10(2^q))
+    private static int flog10pow2(int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+
+    // floor(log10(3/4 2^q))
+    private static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661_971_961_083L - 274_743_187_321L >> 41);
+    }
+
+    // floor(log2(10^e))
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    // Writes f 10^e in the layout of Double.toString(), f > 0
+    private static int chars(long f, int e, char[] buf, int index) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int n = 1;
+        while (n < POW10.length && f >= POW10[n]) {
+            n++;
+        }
+        // f 10^e = 0.f 10^exp
+        int exp = e + n;
+        if (exp > 7 || exp < -2) {
+            // d.ddd, or d.0, then E and the exponent
+            digits(f, buf, index + 1, n);
+            buf[index] = buf[index + 1];
+            buf[index + 1] = '.';
+            if (n == 1) {
+                buf[index + 2] = '0';
+                index += 3;
+            } else {
+                index += n + 1;
+            }
+            buf[index++] = 'E';
+            int x = exp - 1;
+            if (x < 0) {
+                buf[index++] = '-';
+                x = -x;
+            }
+            int size = x < 10 ? 1 : x < 100 ? 2 : 3;
+            digits(x, buf, index, size);
+            return index + size;
+        }
+        if (exp <= 0) {
+            // 0.00ddd
+            buf[index++] = '0';
+            buf[index++] = '.';
+            for (; exp < 0; exp++) {
+                buf[index++] = '0';
+            }
+            digits(f, buf, index, n);
+            return index + n;
+        }
+        if (exp >= n) {
+            // ddd00.0
+            digits(f, buf, index, n);
+            index += n;
+            for (; n < exp; n++) {
+                buf[index++] = '0';
+            }
+            buf[index++] = '.';
+            buf[index++] = '0';
+            return index;
+        }
+        // dd.ddd
+        digits(f, buf, index, n);
+        System.arraycopy(buf, index + exp, buf, index + exp + 1, n - exp);
+        buf[index + exp] = '.';
+        return index + n + 1;
+    }
+
+    // Writes the n digits of f from the given index
+    private static void digits(long f, char[] buf, int index, int n) {
+        for (int i = index + n - 1; i >= index; i--) {
+            buf[i] = (char) ('0' + f % 10);
+            f /= 10;
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import java.math.BigInteger;
+
+/**
+ * Converts the decimal digits of a number into the closest double without
+ * going through {@code BigDecimal} or a {@code String}.
+ *
+ * <p>Small values that are exact in a double are computed with a single
+ * multiplication or division, as in W. Clinger, "How to read floating point
+ * numbers accurately", 1990. The others use the algorithm of Michael
+ * Eisel and Daniel Lemire, "Number parsing at a gigabyte per second", 2021,
+ * with a table of 128-bit approximations of the powers of ten. That
+ * algorithm gives up on the rare inputs that are too close to the middle of
+ * two doubles, the caller falls back to an exact conversion for them.
+ */
+final class DoubleParser {
+
+    private static final int MIN_EXPONENT = -348;
+    private static final int MAX_EXPONENT = 347;
+
+    // doubles that are exact powers of ten
+    private static final double[] POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // For each q between MIN_EXPONENT and MAX_EXPONENT, the 128 higher bits
+    // of 10^q, rounded down, as the higher and the lower long
+    private static final long[] POW10_128 = new long[2 * (MAX_EXPONENT - MIN_EXPONENT + 1)];
+
+    static {
+        BigInteger pow = BigInteger.ONE;
+        for (int q = 0; q <= MAX_EXPONENT; q++) {
+            int r = pow.bitLength() - 128;
+            set(q, r < 0 ? pow.shiftLeft(-r) : pow.shiftRight(r));
+            pow = pow.multiply(BigInteger.TEN);
+        }
+        pow = BigInteger.TEN;
+        for (int q = -1; q >= MIN_EXPONENT; q--) {
+            // 10^q = 2^(127 + bitLength) / pow 2^-(127 + bitLength)
+            set(q, BigInteger.ONE.shiftLeft(127 + pow.bitLength()).divide(pow));
+            pow = pow.multiply(BigInteger.TEN);
+        }
+    }
+
+    private static void set(int q, BigInteger m) {
+        POW10_128[2 * (q - MIN_EXPONENT)] = m.shiftRight(64).longValue();
+        POW10_128[2 * (q - MIN_EXPONENT) + 1] = m.longValue();
+    }
+
+    private DoubleParser() {
+    }
+
+    /**
+     * Returns the double closest to {@code w * 10^q}.
+     *
+     * @param negative whether the number has a minus sign
+     * @param w decimal significand, an unsigned long
+     * @param q decimal exponent
+     * @return the double, or NaN if it couldn't be determined here
+     */
+    static double toDouble(boolean negative, long w, int q) {
+        if (w == 0) {
+            // no negative zero, as in BigDecimal
+            return 0.0;
+        }
+        if (w > 0 && w <= 1L << 53 && q >= -22 && q <= 22) {
+            // w and 10^|q| are exact, so is the correctly rounded result
+            double d = q < 0 ? w / POW10[-q] : w * POW10[q];
+            return negative ? -d : d;
+        }
+        if (q < MIN_EXPONENT || q > MAX_EXPONENT) {
+            return Double.NaN;
+        }
+
+        // normalize w, 2^63 <= w < 2^64
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        // 217706 / 2^16 is close to log2(10)
+        long exp2 = ((217706 * q) >> 16) + 64 + 1023 - lz;
+
+        // higher 128 bits of w * 10^q
+        int index = 2 * (q - MIN_EXPONENT);
+        long hi = POW10_128[index];
+        long lo = POW10_128[index + 1];
+        long xHi = unsignedMultiplyHigh(w, hi);
+        long xLo = w * hi;
+        if ((xHi & 0x1FF) == 0x1FF && Long.compareUnsigned(xLo + w, w) < 0) {
+            // the lower bits of 10^q may change the rounding
+            long yHi = unsignedMultiplyHigh(w, lo);
+            long yLo = w * lo;
+            long mergedHi = xHi;
+            long mergedLo = xLo + yHi;
+            if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+                mergedHi++;
+            }
+            if ((mergedHi & 0x1FF) == 0x1FF && mergedLo == -1
+                    && Long.compareUnsigned(yLo + w, w) < 0) {
+                return Double.NaN;
+            }
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        // keep 54 bits, the last one for the rounding
+        long msb = xHi >>> 63;
+        long m = xHi >>> (msb + 9);
+        exp2 -= 1 ^ msb;
+        if (xLo == 0 && (xHi & 0x1FF) == 0 && (m & 3) == 1) {
+            // may be exactly halfway between two doubles
+            return Double.NaN;
+        }
+        m += m & 1;
+        m >>>= 1;
+        if ((m >>> 53) > 0) {
+            m >>>= 1;
+            exp2++;
+        }
+        if (exp2 <= 0 || exp2 >= 0x7FF) {
+            // subnormal or infinite
+            return Double.NaN;
+        }
+        long bits = exp2 << 52 | m & 0xFFFFFFFFFFFFFL;
+        if (negative) {
+            bits |= Long.MIN_VALUE;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return DoubleFormatter.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+}
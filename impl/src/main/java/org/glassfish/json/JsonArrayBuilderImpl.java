@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -48,6 +48,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -62,6 +63,13 @@ import java.util.Optional;
 
 class JsonArrayBuilderImpl implements JsonArrayBuilder {
     private ArrayList<JsonValue> valueList;
+    // Until a value of another kind is added, the numbers of a homogeneous
+    // int, long or double array are kept unboxed in one of these, and the
+    // array is built as a JsonNumberArrayImpl
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private int numberCount;
     private final BufferPool bufferPool;
 
     JsonArrayBuilderImpl(BufferPool bufferPool) {
@@ -110,19 +118,19 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
 
     @Override
     public JsonArrayBuilder add(int value) {
-        addValueList(JsonNumberImpl.getJsonNumber(value));
+        addValueList(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(long value) {
-        addValueList(JsonNumberImpl.getJsonNumber(value));
+        addValueList(value);
         return this;
     }
 
     @Override
     public JsonArrayBuilder add(double value) {
-        addValueList(JsonNumberImpl.getJsonNumber(value));
+        addValueList(value);
         return this;
     }
 
@@ -161,10 +169,12 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
         if (builder == null) {
             throw new NullPointerException(JsonMessages.ARRBUILDER_ARRAY_BUILDER_NULL());
         }
+        JsonArray array = builder.build();
+        boxNumbers();
         if (valueList == null) {
             valueList = new ArrayList<>();
         }
-        valueList.addAll(builder.build());
+        valueList.addAll(array);
         return this;
     }
 
@@ -322,6 +332,7 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
 
     @Override
     public JsonArrayBuilder remove(int index) {
+        boxNumbers();
         if (valueList == null) {
             throw new IndexOutOfBoundsException(JsonMessages.ARRBUILDER_VALUELIST_NULL(index, 0));
         }
@@ -331,6 +342,9 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
 
     @Override
     public JsonArray build() {
+        if (numberCount > 0) {
+            return buildNumbers();
+        }
         List<JsonValue> snapshot;
         if (valueList == null) {
             snapshot = Collections.emptyList();
@@ -343,6 +357,12 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
         return new JsonArrayImpl(snapshot, bufferPool);
     }
 
+    // Builds the array of the values, the list is not copied and must not
+    // be modified afterwards
+    static JsonArray of(List<JsonValue> values, BufferPool bufferPool) {
+        return new JsonArrayImpl(Collections.unmodifiableList(values), bufferPool);
+    }
+
     private void populate(Collection<?> collection) {
         for (Object value : collection) {
             if (value != null && value instanceof Optional) {
@@ -354,7 +374,103 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
         }
     }
 
+    private JsonArray buildNumbers() {
+        JsonArray array;
+        if (ints != null) {
+            array = JsonNumberArrayImpl.of(Arrays.copyOf(ints, numberCount), bufferPool);
+        } else if (longs != null) {
+            array = JsonNumberArrayImpl.of(Arrays.copyOf(longs, numberCount), bufferPool);
+        } else {
+            array = JsonNumberArrayImpl.of(Arrays.copyOf(doubles, numberCount), bufferPool);
+        }
+        ints = null;
+        longs = null;
+        doubles = null;
+        numberCount = 0;
+        return array;
+    }
+
+    private void addValueList(int value) {
+        if (valueList == null && doubles == null) {
+            if (longs != null) {
+                addLong(value);
+            } else {
+                if (ints == null) {
+                    ints = new int[8];
+                } else if (numberCount == ints.length) {
+                    ints = Arrays.copyOf(ints, numberCount << 1);
+                }
+                ints[numberCount++] = value;
+            }
+            return;
+        }
+        addValueList(JsonNumberImpl.getJsonNumber(value));
+    }
+
+    private void addValueList(long value) {
+        if (valueList == null && doubles == null) {
+            if (ints != null) {
+                // widen the ints seen so far
+                longs = new long[ints.length];
+                for (int i = 0; i < numberCount; i++) {
+                    longs[i] = ints[i];
+                }
+                ints = null;
+            }
+            addLong(value);
+            return;
+        }
+        addValueList(JsonNumberImpl.getJsonNumber(value));
+    }
+
+    private void addLong(long value) {
+        if (longs == null) {
+            longs = new long[8];
+        } else if (numberCount == longs.length) {
+            longs = Arrays.copyOf(longs, numberCount << 1);
+        }
+        longs[numberCount++] = value;
+    }
+
+    private void addValueList(double value) {
+        // Infinite and NaN are rejected by JsonNumberImpl.getJsonNumber()
+        if (valueList == null && ints == null && longs == null
+                && !Double.isNaN(value) && !Double.isInfinite(value)) {
+            if (doubles == null) {
+                doubles = new double[8];
+            } else if (numberCount == doubles.length) {
+                doubles = Arrays.copyOf(doubles, numberCount << 1);
+            }
+            doubles[numberCount++] = value;
+            return;
+        }
+        addValueList(JsonNumberImpl.getJsonNumber(value));
+    }
+
+    // Adds a decimal number read by the parser. It is kept as a double only
+    // if that doesn't change its value or scale, i.e. the number reads back
+    // the same from the double. That is decided from its digits, without
+    // creating a BigDecimal
+    void addParsedDecimal(JsonNumber value) {
+        if (valueList == null && ints == null && longs == null
+                && JsonNumberImpl.isSameAsDouble(value)) {
+            addValueList(value.doubleValue());
+            return;
+        }
+        addValueList(value);
+    }
+
+    // Switches to the list of JsonValue, before adding a value of another
+    // kind or modifying the array at an index
+    private void boxNumbers() {
+        if (numberCount > 0) {
+            JsonArray numbers = buildNumbers();
+            valueList = new ArrayList<>(numbers);
+        }
+    }
+
     private void addValueList(JsonValue value) {
+        boxNumbers();
         if (valueList == null) {
             valueList = new ArrayList<>();
         }
@@ -362,6 +478,7 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
     }
 
     private void addValueList(int index, JsonValue value) {
+        boxNumbers();
         if (valueList == null) {
             valueList = new ArrayList<>();
         }
@@ -369,6 +486,7 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder {
     }
 
     private void setValueList(int index, JsonValue value) {
+        boxNumbers();
         if (valueList == null) {
             throw new IndexOutOfBoundsException(JsonMessages.ARRBUILDER_VALUELIST_NULL(index, 0));
         }
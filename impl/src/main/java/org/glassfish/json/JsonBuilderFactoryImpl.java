@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -42,6 +42,9 @@ package org.glassfish.json;
 
 import java.util.Collection;
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonPersistentArray;
+import org.glassfish.json.api.JsonPersistentFactory;
+import org.glassfish.json.api.JsonPersistentObject;
 
 import javax.json.JsonObject;
 import javax.json.JsonArray;
@@ -54,7 +57,7 @@ import java.util.Map;
 /**
  * @author Jitendra Kotamraju
  */
-class JsonBuilderFactoryImpl implements JsonBuilderFactory {
+class JsonBuilderFactoryImpl implements JsonBuilderFactory, JsonPersistentFactory {
     private final Map<String, ?> config;
     private final BufferPool bufferPool;
 
@@ -93,6 +96,16 @@ class JsonBuilderFactoryImpl implements JsonBuilderFactory {
         return new JsonArrayBuilderImpl(collection, bufferPool);
     }
 
+    @Override
+    public JsonPersistentObject createPersistentObject(JsonObject object) {
+        return JsonPersistentObjectImpl.of(object, bufferPool);
+    }
+
+    @Override
+    public JsonPersistentArray createPersistentArray(JsonArray array) {
+        return JsonPersistentArrayImpl.of(array, bufferPool);
+    }
+
     @Override
     public Map<String, ?> getConfigInUse() {
         return config;
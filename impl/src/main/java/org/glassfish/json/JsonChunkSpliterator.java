@@ -0,0 +1,322 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * Splittable {@code Spliterator} over the values of UTF-8 input in a
+ * {@code ByteBuffer}: the records of JSON Lines, or the elements of a top
+ * level array. The input is split into chunks at record boundaries, and
+ * each chunk is read by its own parser. So a parallel stream reads the
+ * chunks concurrently on the fork-join pool.
+ *
+ * <p>
+ * JSON Lines are split at the first line break after the middle of the
+ * input, a line break never occurs inside a record. An array is
+ * pre-scanned once for the commas between its elements: only the nesting
+ * and the string boundaries are tracked, and a comma is kept as a chunk
+ * boundary every {@link #MIN_CHUNK} bytes. Each chunk is then fully parsed
+ * as {@code '[' + chunk + ']'}, which validates the scan together with the
+ * check that no chunk of a split array is empty.
+ *
+ * <p>
+ * The locations of the parsing errors in a chunk are relative to the
+ * chunk.
+ */
+abstract class JsonChunkSpliterator implements Spliterator<JsonValue> {
+
+    // Chunks are not split below this size
+    static final int MIN_CHUNK = 1 << 16;
+
+    private static final byte[] OPEN = { '[' };
+    private static final byte[] CLOSE = { ']' };
+
+    final ByteBuffer input;
+    final BufferPool bufferPool;
+    final JsonKeyTable keyTable;
+
+    private JsonChunkSpliterator(ByteBuffer input, BufferPool bufferPool, JsonKeyTable keyTable) {
+        this.input = input;
+        this.bufferPool = bufferPool;
+        this.keyTable = keyTable;
+    }
+
+    // The records of the JSON Lines from the position to the limit of input
+    static Spliterator<JsonValue> lines(ByteBuffer input, BufferPool bufferPool,
+            JsonKeyTable keyTable) {
+        int begin = skipBom(input, input.position(), input.limit());
+        return new Lines(input, bufferPool, keyTable, begin, input.limit());
+    }
+
+    // The elements of the array from the position to the limit of input
+    static Spliterator<JsonValue> array(ByteBuffer input, BufferPool bufferPool,
+            JsonKeyTable keyTable) {
+        int begin = skipBom(input, input.position(), input.limit());
+        int[] delimiters = scanArray(input, begin, input.limit(), MIN_CHUNK);
+        return new Array(input, bufferPool, keyTable, delimiters, 0, delimiters.length - 1);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private static final class Lines extends JsonChunkSpliterator {
+        private int begin;
+        private final int end;
+        private JsonLinesReaderImpl reader;     // created on the first read
+        private boolean done;
+
+        Lines(ByteBuffer input, BufferPool bufferPool, JsonKeyTable keyTable,
+                int begin, int end) {
+            super(input, bufferPool, keyTable);
+            this.begin = begin;
+            this.end = end;
+        }
+
+        @Override
+        public Spliterator<JsonValue> trySplit() {
+            if (reader != null || end - begin < 2 * MIN_CHUNK) {
+                return null;
+            }
+            int split = begin + (end - begin) / 2;
+            while (split < end && input.get(split++) != '\n') {
+            }
+            if (split >= end) {
+                return null;
+            }
+            Lines prefix = new Lines(input, bufferPool, keyTable, begin, split);
+            begin = split;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonValue> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (done) {
+                return false;
+            }
+            if (reader == null) {
+                reader = new JsonLinesReaderImpl(new ByteBufferInputStream(input, begin, end),
+                        StandardCharsets.UTF_8, bufferPool, keyTable);
+            }
+            JsonValue value = reader.readValue();
+            if (value == null) {
+                done = true;
+                reader.close();
+                return false;
+            }
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : end - begin;
+        }
+    }
+
+    private static final class Array extends JsonChunkSpliterator {
+        // offsets of the '[', the boundary commas and the ']' of the array.
+        // Chunk k is between the delimiters k and k+1
+        private final int[] delimiters;
+        private int chunk;
+        private final int chunkEnd;
+        private JsonParserImpl parser;          // parser of the current chunk
+
+        Array(ByteBuffer input, BufferPool bufferPool, JsonKeyTable keyTable,
+                int[] delimiters, int chunk, int chunkEnd) {
+            super(input, bufferPool, keyTable);
+            this.delimiters = delimiters;
+            this.chunk = chunk;
+            this.chunkEnd = chunkEnd;
+        }
+
+        @Override
+        public Spliterator<JsonValue> trySplit() {
+            if (parser != null || chunkEnd - chunk < 2) {
+                return null;
+            }
+            int split = (chunk + chunkEnd) >>> 1;
+            Array prefix = new Array(input, bufferPool, keyTable, delimiters, chunk, split);
+            chunk = split;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonValue> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            while (true) {
+                boolean started = false;
+                if (parser == null) {
+                    if (chunk >= chunkEnd) {
+                        return false;
+                    }
+                    InputStream in = new SequenceInputStream(new SequenceInputStream(
+                            new ByteArrayInputStream(OPEN),
+                            new ByteBufferInputStream(input, delimiters[chunk] + 1, delimiters[chunk + 1])),
+                            new ByteArrayInputStream(CLOSE));
+                    parser = new JsonParserImpl(in, StandardCharsets.UTF_8, bufferPool, keyTable);
+                    parser.next();
+                    started = true;
+                }
+                if (parser.next() != JsonParser.Event.END_ARRAY) {
+                    action.accept(parser.getValue());
+                    return true;
+                }
+                // only an array without boundary commas can be empty,
+                // otherwise an element is missing before the delimiter
+                if (started && delimiters.length > 2) {
+                    parser.close();
+                    parser = null;
+                    throw notArray(delimiters[chunk + 1]);
+                }
+                // fails if the chunk has more than a sequence of values
+                parser.hasNext();
+                parser.close();
+                parser = null;
+                chunk++;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return delimiters[chunkEnd] - delimiters[chunk];
+        }
+    }
+
+    // Offsets of the '[' and the ']' of the top level array in
+    // input[begin, end), and of the commas between its elements that are at
+    // least chunkSize bytes apart
+    static int[] scanArray(ByteBuffer input, int begin, int end, int chunkSize) {
+        int i = skipWhitespace(input, begin, end);
+        if (i == end || input.get(i) != '[') {
+            throw notArray(i);
+        }
+        int[] delimiters = new int[16];
+        int count = 0;
+        delimiters[count++] = i;
+        int depth = 1;
+        for (i++; i < end; i++) {
+            byte b = input.get(i);
+            switch (b) {
+                case '"':
+                    for (i++; i < end && (b = input.get(i)) != '"'; i++) {
+                        if (b == '\\') {
+                            i++;
+                        }
+                    }
+                    break;
+                case '[':
+                case '{':
+                    depth++;
+                    break;
+                case ']':
+                case '}':
+                    if (--depth == 0) {
+                        if (b != ']' || skipWhitespace(input, i + 1, end) != end) {
+                            throw notArray(b != ']' ? i : skipWhitespace(input, i + 1, end));
+                        }
+                        delimiters = ensureCapacity(delimiters, count);
+                        delimiters[count++] = i;
+                        return Arrays.copyOf(delimiters, count);
+                    }
+                    break;
+                case ',':
+                    if (depth == 1 && i - delimiters[count - 1] >= chunkSize) {
+                        delimiters = ensureCapacity(delimiters, count);
+                        delimiters[count++] = i;
+                    }
+                    break;
+            }
+        }
+        throw new JsonParsingException(JsonMessages.PARSER_SPLIT_ARRAY_EOF(),
+                new JsonLocationImpl(-1, -1, end));
+    }
+
+    private static int[] ensureCapacity(int[] array, int count) {
+        return count < array.length ? array : Arrays.copyOf(array, 2 * array.length);
+    }
+
+    private static JsonParsingException notArray(int offset) {
+        return new JsonParsingException(JsonMessages.PARSER_SPLIT_ARRAY_ERR(offset),
+                new JsonLocationImpl(-1, -1, offset));
+    }
+
+    private static int skipWhitespace(ByteBuffer input, int i, int end) {
+        while (i < end) {
+            byte b = input.get(i);
+            if (b != 0x20 && b != 0x09 && b != 0x0a && b != 0x0d) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    // Skips the UTF-8 byte order mark
+    private static int skipBom(ByteBuffer input, int begin, int end) {
+        if (end - begin >= 3 && input.get(begin) == (byte) 0xEF
+                && input.get(begin + 1) == (byte) 0xBB && input.get(begin + 2) == (byte) 0xBF) {
+            return begin + 3;
+        }
+        return begin;
+    }
+
+}
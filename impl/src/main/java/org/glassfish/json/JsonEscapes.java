@@ -0,0 +1,101 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.PreparedName;
+
+/**
+ * The chars that a generator escapes in strings and key names. JSON
+ * requires the quotation mark, the reverse solidus and the control chars
+ * to be escaped; the optional modes also escape the chars outside of
+ * ASCII, the HTML-sensitive chars {@code < > & '}, or the solidus of
+ * {@code </} so that the output can't close a {@code <script>} element.
+ */
+final class JsonEscapes {
+
+    static final JsonEscapes DEFAULT = new JsonEscapes(false, false, false);
+
+    // For each ASCII char, 0 if it is written as is. Otherwise the char
+    // written after the reverse solidus, 'u' for a \\uXXXX escape
+    final byte[] table = new byte[128];
+    final boolean nonAscii;
+    final boolean html;
+    final boolean closingTags;
+
+    private JsonEscapes(boolean nonAscii, boolean html, boolean closingTags) {
+        this.nonAscii = nonAscii;
+        this.html = html;
+        this.closingTags = closingTags;
+        for (int c = 0; c < 0x20; c++) {
+            table[c] = 'u';
+        }
+        table['"'] = '"';
+        table['\\'] = '\\';
+        table['\b'] = 'b';
+        table['\f'] = 'f';
+        table['\n'] = 'n';
+        table['\r'] = 'r';
+        table['\t'] = 't';
+        if (html) {
+            table['<'] = 'u';
+            table['>'] = 'u';
+            table['&'] = 'u';
+            table['\''] = 'u';
+        }
+        if (closingTags && !html) {
+            // only when it follows '<', not needed when '<' is escaped
+            table['/'] = '/';
+        }
+    }
+
+    static JsonEscapes of(boolean nonAscii, boolean html, boolean closingTags) {
+        return nonAscii || html || closingTags
+                ? new JsonEscapes(nonAscii, html, closingTags)
+                : DEFAULT;
+    }
+
+    // Whether the prepared chars of the name need no additional escapes
+    boolean isPrepared(PreparedName name) {
+        return (!nonAscii || name.isAscii())
+                && (!(html || closingTags) || name.isHtmlSafe());
+    }
+
+}
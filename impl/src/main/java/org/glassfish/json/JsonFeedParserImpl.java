@@ -0,0 +1,417 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonFeedParser;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * JsonFeedParser impl. The events come from the same state machine as
+ * {@link JsonParserImpl}, whose tokenizer reads the fed bytes. The
+ * tokenizer must never run out of input in the middle of a token, so the
+ * fed bytes are pre-scanned for the token boundaries, and an event is
+ * only parsed once its tokens are complete.
+ *
+ * <p>
+ * The scan tracks only the strings, the numbers, the literals and the
+ * nesting. It records the end offset and the nesting depth after each
+ * complete token that is not parsed yet. An event needs one token, or
+ * two when the first is a comma or a colon. An object or an array is
+ * complete when a token closes its depth.
+ */
+final class JsonFeedParserImpl extends JsonParserImpl implements JsonFeedParser {
+
+    private final FeedInput input;
+
+    JsonFeedParserImpl(BufferPool bufferPool, JsonKeyTable keyTable) {
+        this(new FeedInput(), bufferPool, keyTable);
+    }
+
+    private JsonFeedParserImpl(FeedInput input, BufferPool bufferPool, JsonKeyTable keyTable) {
+        super(input, StandardCharsets.UTF_8, bufferPool, keyTable);
+        this.input = input;
+    }
+
+    @Override
+    public void feed(byte[] bytes, int offset, int length) {
+        input.feed(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    @Override
+    public void feed(ByteBuffer bytes) {
+        input.feed(bytes);
+    }
+
+    @Override
+    public void endOfInput() {
+        input.ended = true;
+    }
+
+    @Override
+    public Event nextEvent() {
+        if (!isEventComplete()) {
+            return NEED_MORE_INPUT;
+        }
+        return super.next();
+    }
+
+    @Override
+    public boolean isStructureComplete() {
+        return input.ended || input.findDepth(getStreamOffset(), getDepth() - 1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !input.ended || super.hasNext();
+    }
+
+    @Override
+    public Event next() {
+        Event event = nextEvent();
+        if (event == NEED_MORE_INPUT) {
+            throw new IllegalStateException(JsonMessages.PARSER_NEED_MORE_INPUT());
+        }
+        return event;
+    }
+
+    @Override
+    public JsonValue getValue() {
+        Event event = getCurrentEvent();
+        if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+            requireStructure();
+        }
+        return super.getValue();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        if (getCurrentEvent() == Event.START_ARRAY) {
+            requireStructure();
+        }
+        return super.getArray();
+    }
+
+    @Override
+    public JsonObject getObject() {
+        if (getCurrentEvent() == Event.START_OBJECT) {
+            requireStructure();
+        }
+        return super.getObject();
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        if (getCurrentEvent() == Event.START_ARRAY) {
+            requireStructure();
+        }
+        return super.getArrayStream();
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        if (getCurrentEvent() == Event.START_OBJECT) {
+            requireStructure();
+        }
+        return super.getObjectStream();
+    }
+
+    @Override
+    public Stream<JsonValue> getValueStream() {
+        if (!input.ended) {
+            throw new IllegalStateException(JsonMessages.PARSER_NEED_MORE_INPUT());
+        }
+        return super.getValueStream();
+    }
+
+    @Override
+    public void skipArray() {
+        if (getDepth() > 0) {
+            requireStructure();
+        }
+        super.skipArray();
+    }
+
+    @Override
+    public void skipObject() {
+        if (getDepth() > 0) {
+            requireStructure();
+        }
+        super.skipObject();
+    }
+
+    private void requireStructure() {
+        if (!isStructureComplete()) {
+            throw new IllegalStateException(JsonMessages.PARSER_NEED_MORE_INPUT());
+        }
+    }
+
+    // Whether the tokens of the next event are fed
+    private boolean isEventComplete() {
+        if (input.ended) {
+            return true;
+        }
+        if (getDepth() == 0 && getCurrentEvent() != null) {
+            // the top level value is read, only the end of input is left
+            return false;
+        }
+        return input.hasTokens(getStreamOffset());
+    }
+
+    // The fed bytes, read by the tokenizer and pre-scanned for the tokens
+    private static final class FeedInput extends InputStream {
+        private static final int STRING = 1;
+        private static final int ESCAPE = 2;
+        private static final int NUMBER = 3;
+        private static final int LITERAL = 4;
+
+        // data[0] is at dataOffset in the stream. The bytes before both
+        // readPos and scanPos are not needed anymore
+        private byte[] data = new byte[256];
+        private long dataOffset;
+        private int readPos;
+        private int scanPos;
+        private int end;
+        boolean ended;
+
+        // scan state at scanPos
+        private int state;
+        private int literalLeft;
+        private int depth;
+
+        // complete tokens after the parsed ones, as
+        // end offset << 17 | depth after << 1 | separator
+        private long[] tokens = new long[16];
+        private int head;
+        private int count;
+
+        void feed(ByteBuffer bytes) {
+            if (ended) {
+                throw new IllegalStateException(JsonMessages.PARSER_INPUT_ENDED());
+            }
+            int len = bytes.remaining();
+            if (end + len > data.length) {
+                int keep = Math.min(readPos, scanPos);
+                int size = end - keep;
+                byte[] dst = size + len > data.length
+                        ? new byte[Math.max(2 * data.length, size + len)]
+                        : data;
+                System.arraycopy(data, keep, dst, 0, size);
+                data = dst;
+                dataOffset += keep;
+                readPos -= keep;
+                scanPos -= keep;
+                end = size;
+            }
+            bytes.get(data, end, len);
+            end += len;
+        }
+
+        @Override
+        public int read() {
+            return readPos < end ? data[readPos++] & 0xff : -1;
+        }
+
+        // Returns -1 when no fed bytes are left, the parser doesn't ask for
+        // more than the complete tokens
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int count = Math.min(len, end - readPos);
+            if (count == 0) {
+                return -1;
+            }
+            System.arraycopy(data, readPos, b, off, count);
+            readPos += count;
+            return count;
+        }
+
+        // Whether the tokens of the next event after the offset are complete
+        boolean hasTokens(long offset) {
+            dropTokens(offset);
+            while (count == 0 || (isSeparator(0) && count < 2)) {
+                if (!scanToken()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Whether a token after the offset closes to the depth
+        boolean findDepth(long offset, int closeDepth) {
+            dropTokens(offset);
+            for (int i = 0; i < count; i++) {
+                if (depthAfter(i) <= closeDepth) {
+                    return true;
+                }
+            }
+            while (scanToken()) {
+                if (depthAfter(count - 1) <= closeDepth) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void dropTokens(long offset) {
+            while (count > 0 && (tokens[head] >>> 17) <= offset) {
+                head = (head + 1) & (tokens.length - 1);
+                count--;
+            }
+        }
+
+        private boolean isSeparator(int i) {
+            return (tokens[(head + i) & (tokens.length - 1)] & 1) != 0;
+        }
+
+        private int depthAfter(int i) {
+            return (int) (tokens[(head + i) & (tokens.length - 1)] >>> 1) & 0xffff;
+        }
+
+        // Scans up to the end of the next token. Returns false if the fed
+        // bytes end before
+        private boolean scanToken() {
+            while (scanPos < end) {
+                int b = data[scanPos];
+                switch (state) {
+                    case STRING:
+                        scanPos++;
+                        if (b == '\\') {
+                            state = ESCAPE;
+                        } else if (b == '"') {
+                            return addToken(false);
+                        }
+                        break;
+                    case ESCAPE:
+                        scanPos++;
+                        state = STRING;
+                        break;
+                    case NUMBER:
+                        if ((b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E'
+                                || b == '+' || b == '-') {
+                            scanPos++;
+                            break;
+                        }
+                        // the number ends before this byte
+                        return addToken(false);
+                    case LITERAL:
+                        scanPos++;
+                        if (--literalLeft == 0) {
+                            return addToken(false);
+                        }
+                        break;
+                    default:
+                        scanPos++;
+                        switch (b) {
+                            case ' ':
+                            case '\t':
+                            case '\n':
+                            case '\r':
+                                break;
+                            case '"':
+                                state = STRING;
+                                break;
+                            case 't':
+                            case 'n':
+                                state = LITERAL;
+                                literalLeft = 3;
+                                break;
+                            case 'f':
+                                state = LITERAL;
+                                literalLeft = 4;
+                                break;
+                            case '{':
+                            case '[':
+                                depth++;
+                                return addToken(false);
+                            case '}':
+                            case ']':
+                                depth--;
+                                return addToken(false);
+                            case ',':
+                            case ':':
+                                return addToken(true);
+                            default:
+                                if ((b >= '0' && b <= '9') || b == '-') {
+                                    state = NUMBER;
+                                    break;
+                                }
+                                // the tokenizer fails on this byte
+                                return addToken(false);
+                        }
+                }
+            }
+            if (ended && state == NUMBER) {
+                return addToken(false);
+            }
+            return false;
+        }
+
+        private boolean addToken(boolean separator) {
+            state = 0;
+            if (count == tokens.length) {
+                long[] grown = new long[2 * tokens.length];
+                for (int i = 0; i < count; i++) {
+                    grown[i] = tokens[(head + i) & (tokens.length - 1)];
+                }
+                tokens = grown;
+                head = 0;
+            }
+            int d = Math.max(0, Math.min(depth, 0xffff));
+            tokens[(head + count) & (tokens.length - 1)] =
+                    (dataOffset + scanPos) << 17 | (long) d << 1 | (separator ? 1 : 0);
+            count++;
+            return true;
+        }
+    }
+
+}
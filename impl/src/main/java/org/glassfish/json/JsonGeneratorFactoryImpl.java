@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,49 +41,67 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonBufferGeneratorFactory;
 
 import javax.json.stream.JsonGenerator;
 import javax.json.stream.JsonGeneratorFactory;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonGeneratorFactoryImpl implements JsonGeneratorFactory {
+class JsonGeneratorFactoryImpl implements JsonGeneratorFactory, JsonBufferGeneratorFactory {
 
     private final boolean prettyPrinting;
+    private final JsonEscapes escapes;
     private final Map<String, ?> config;    // unmodifiable map
     private final BufferPool bufferPool;
 
     JsonGeneratorFactoryImpl(Map<String, ?> config, boolean prettyPrinting,
-            BufferPool bufferPool) {
+            JsonEscapes escapes, BufferPool bufferPool) {
         this.config = config;
         this.prettyPrinting = prettyPrinting;
+        this.escapes = escapes;
         this.bufferPool = bufferPool;
     }
 
     @Override
     public JsonGenerator createGenerator(Writer writer) {
-        return prettyPrinting
-                ? new JsonPrettyGeneratorImpl(writer, bufferPool)
-                : new JsonGeneratorImpl(writer, bufferPool);
+        return createGenerator(JsonOutput.of(writer, bufferPool));
     }
 
     @Override
     public JsonGenerator createGenerator(OutputStream out) {
-        return prettyPrinting
-                ? new JsonPrettyGeneratorImpl(out, bufferPool)
-                : new JsonGeneratorImpl(out, bufferPool);
+        return createGenerator(JsonOutput.of(out, StandardCharsets.UTF_8, bufferPool));
     }
 
     @Override
     public JsonGenerator createGenerator(OutputStream out, Charset charset) {
+        return createGenerator(JsonOutput.of(out, charset, bufferPool));
+    }
+
+    @Override
+    public JsonGenerator createGenerator(WritableByteChannel channel) {
+        return createGenerator(Channels.newOutputStream(channel));
+    }
+
+    @Override
+    public JsonGenerator createGenerator(ByteBuffer buffer, UnaryOperator<ByteBuffer> bufferFull) {
+        return createGenerator(new ByteBufferOutputStream(buffer, bufferFull));
+    }
+
+    private JsonGenerator createGenerator(JsonOutput output) {
         return prettyPrinting
-                ? new JsonPrettyGeneratorImpl(out, charset, bufferPool)
-                : new JsonGeneratorImpl(out, charset, bufferPool);
+                ? new JsonPrettyGeneratorImpl(output, escapes)
+                : new JsonGeneratorImpl(output, escapes);
     }
 
     @Override
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,11 +41,14 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.PreparedName;
+import org.glassfish.json.api.PreparedNameGenerator;
 
 import javax.json.*;
 import javax.json.stream.JsonGenerationException;
 import javax.json.stream.JsonGenerator;
-import java.io.*;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
@@ -57,45 +60,7 @@ import java.util.Map;
 /**
  * @author Jitendra Kotamraju
  */
-class JsonGeneratorImpl implements JsonGenerator {
-
-    private static final char[] INT_MIN_VALUE_CHARS = "-2147483648".toCharArray();
-    private static final int[] INT_CHARS_SIZE_TABLE = { 9, 99, 999, 9999, 99999,
-            999999, 9999999, 99999999, 999999999, Integer.MAX_VALUE };
-
-    private static final char [] DIGIT_TENS = {
-            '0', '0', '0', '0', '0', '0', '0', '0', '0', '0',
-            '1', '1', '1', '1', '1', '1', '1', '1', '1', '1',
-            '2', '2', '2', '2', '2', '2', '2', '2', '2', '2',
-            '3', '3', '3', '3', '3', '3', '3', '3', '3', '3',
-            '4', '4', '4', '4', '4', '4', '4', '4', '4', '4',
-            '5', '5', '5', '5', '5', '5', '5', '5', '5', '5',
-            '6', '6', '6', '6', '6', '6', '6', '6', '6', '6',
-            '7', '7', '7', '7', '7', '7', '7', '7', '7', '7',
-            '8', '8', '8', '8', '8', '8', '8', '8', '8', '8',
-            '9', '9', '9', '9', '9', '9', '9', '9', '9', '9',
-    } ;
-
-    private static final char [] DIGIT_ONES = {
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
-    } ;
-
-    /**
-     * All possible chars for representing a number as a String
-     */
-    private static final char[] DIGITS = {
-            '0' , '1' , '2' , '3' , '4' , '5' ,
-            '6' , '7' , '8' , '9'
-    };
+class JsonGeneratorImpl implements PreparedNameGenerator {
 
     private static enum Scope {
         IN_NONE,
@@ -104,21 +69,14 @@ class JsonGeneratorImpl implements JsonGenerator {
         IN_ARRAY
     }
 
-    private final BufferPool bufferPool;
-    private final Writer writer;
+    private final JsonOutput output;
+    // the chars escaped in strings and names
+    private final JsonEscapes escapes;
     private Context currentContext = new Context(Scope.IN_NONE);
     private final Deque<Context> stack = new ArrayDeque<>();
 
-    // Using own buffering mechanism as JDK's BufferedWriter uses synchronized
-    // methods. Also, flushBuffer() is useful when you don't want to actually
-    // flush the underlying output source
-    private final char buf[];     // capacity >= INT_MIN_VALUE_CHARS.length
-    private int len = 0;
-
     JsonGeneratorImpl(Writer writer, BufferPool bufferPool) {
-        this.writer = writer;
-        this.bufferPool = bufferPool;
-        this.buf = bufferPool.take();
+        this(JsonOutput.of(writer, bufferPool), JsonEscapes.DEFAULT);
     }
 
     JsonGeneratorImpl(OutputStream out, BufferPool bufferPool) {
@@ -126,17 +84,17 @@ class JsonGeneratorImpl implements JsonGenerator {
     }
 
     JsonGeneratorImpl(OutputStream out, Charset encoding, BufferPool bufferPool) {
-        this(new OutputStreamWriter(out, encoding), bufferPool);
+        this(JsonOutput.of(out, encoding, bufferPool), JsonEscapes.DEFAULT);
+    }
+
+    JsonGeneratorImpl(JsonOutput output, JsonEscapes escapes) {
+        this.output = output;
+        this.escapes = escapes;
     }
 
     @Override
     public void flush() {
-        flushBuffer();
-        try {
-            writer.flush();
-        } catch (IOException ioe) {
-            throw new JsonException(JsonMessages.GENERATOR_FLUSH_IO_ERR(), ioe);
-        }
+        output.flush();
     }
 
     @Override
@@ -174,6 +132,16 @@ class JsonGeneratorImpl implements JsonGenerator {
         return this;
     }
 
+    private void writeName(PreparedName name) {
+        writeComma();
+        if (escapes.isPrepared(name)) {
+            output.writeName(name);
+        } else {
+            writeEscapedString(name.getName());
+        }
+        writeColon();
+    }
+
     @Override
     public JsonGenerator write(String name, String fieldValue) {
         if (currentContext.scope != Scope.IN_OBJECT) {
@@ -203,7 +171,7 @@ class JsonGeneratorImpl implements JsonGenerator {
                     JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
         }
         writeName(name);
-        writeString(String.valueOf(value));
+        writeLong(value);
         return this;
     }
 
@@ -217,7 +185,7 @@ class JsonGeneratorImpl implements JsonGenerator {
             throw new NumberFormatException(JsonMessages.GENERATOR_DOUBLE_INFINITE_NAN());
         }
         writeName(name);
-        writeString(String.valueOf(value));
+        writeDouble(value);
         return this;
     }
 
@@ -228,7 +196,7 @@ class JsonGeneratorImpl implements JsonGenerator {
                     JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
         }
         writeName(name);
-        writeString(String.valueOf(value));
+        writeBigInteger(value);
         return this;
     }
 
@@ -273,9 +241,7 @@ class JsonGeneratorImpl implements JsonGenerator {
             case ARRAY:
                 JsonArray array = (JsonArray)value;
                 writeStartArray();
-                for(JsonValue child: array) {
-                    write(child);
-                }
+                writeValues(array);
                 writeEnd();
                 break;
             case OBJECT:
@@ -292,7 +258,8 @@ class JsonGeneratorImpl implements JsonGenerator {
                 break;
             case NUMBER:
                 JsonNumber number = (JsonNumber)value;
-                writeValue(number.toString());
+                writeComma();
+                writeNumber(number);
                 popFieldContext();
                 break;
             case TRUE:
@@ -309,6 +276,19 @@ class JsonGeneratorImpl implements JsonGenerator {
         return this;
     }
 
+    // Writes the elements of the array. The int and long numbers of a
+    // JsonNumberArrayImpl are written without boxing them, its doubles are
+    // boxed to print the same as JsonArrayBuilder.add(double)
+    private void writeValues(JsonArray array) {
+        if (array instanceof JsonNumberArrayImpl) {
+            ((JsonNumberArrayImpl) array).writeValues(this);
+        } else {
+            for(JsonValue child: array) {
+                write(child);
+            }
+        }
+    }
+
     @Override
     public JsonGenerator writeStartArray() {
         if (currentContext.scope == Scope.IN_OBJECT) {
@@ -347,9 +327,7 @@ class JsonGeneratorImpl implements JsonGenerator {
             case ARRAY:
                 JsonArray array = (JsonArray)value;
                 writeStartArray(name);
-                for(JsonValue child: array) {
-                    write(child);
-                }
+                writeValues(array);
                 writeEnd();
                 break;
             case OBJECT:
@@ -366,7 +344,8 @@ class JsonGeneratorImpl implements JsonGenerator {
                 break;
             case NUMBER:
                 JsonNumber number = (JsonNumber)value;
-                writeValue(name, number.toString());
+                writeName(name);
+                writeNumber(number);
                 break;
             case TRUE:
                 write(name, true);
@@ -403,7 +382,8 @@ class JsonGeneratorImpl implements JsonGenerator {
     @Override
     public JsonGenerator write(long value) {
         checkContextForValue();
-        writeValue(String.valueOf(value));
+        writeComma();
+        writeLong(value);
         popFieldContext();
         return this;
     }
@@ -414,7 +394,8 @@ class JsonGeneratorImpl implements JsonGenerator {
         if (Double.isInfinite(value) || Double.isNaN(value)) {
             throw new NumberFormatException(JsonMessages.GENERATOR_DOUBLE_INFINITE_NAN());
         }
-        writeValue(String.valueOf(value));
+        writeComma();
+        writeDouble(value);
         popFieldContext();
         return this;
     }
@@ -422,7 +403,8 @@ class JsonGeneratorImpl implements JsonGenerator {
     @Override
     public JsonGenerator write(BigInteger value) {
         checkContextForValue();
-        writeValue(value.toString());
+        writeComma();
+        writeBigInteger(value);
         popFieldContext();
         return this;
     }
@@ -473,11 +455,23 @@ class JsonGeneratorImpl implements JsonGenerator {
         writeString(value);
     }
 
-    private void writeValue(String name, String value) {
-        writeComma();
-        writeEscapedString(name);
-        writeColon();
-        writeString(value);
+    // BigInteger.toString() creates a new String each time, BigDecimal
+    // caches it
+    private void writeBigInteger(BigInteger value) {
+        if (value.bitLength() < 64) {
+            writeLong(value.longValue());
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    // Writes the number from its primitive value when it has one
+    private void writeNumber(JsonNumber number) {
+        if (number instanceof JsonNumberImpl) {
+            ((JsonNumberImpl) number).writeTo(output);
+        } else {
+            writeString(number.toString());
+        }
     }
 
     @Override
@@ -493,6 +487,45 @@ class JsonGeneratorImpl implements JsonGenerator {
         return this;
     }
 
+    @Override
+    public JsonGenerator writeKey(PreparedName name) {
+        if (currentContext.scope != Scope.IN_OBJECT) {
+            throw new JsonGenerationException(
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+        }
+        writeName(name);
+        stack.push(currentContext);
+        currentContext = new Context(Scope.IN_FIELD);
+        currentContext.first = false;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(PreparedName name) {
+        if (currentContext.scope != Scope.IN_OBJECT) {
+            throw new JsonGenerationException(
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+        }
+        writeName(name);
+        writeChar('{');
+        stack.push(currentContext);
+        currentContext = new Context(Scope.IN_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(PreparedName name) {
+        if (currentContext.scope != Scope.IN_OBJECT) {
+            throw new JsonGenerationException(
+                    JsonMessages.GENERATOR_ILLEGAL_METHOD(currentContext.scope));
+        }
+        writeName(name);
+        writeChar('[');
+        stack.push(currentContext);
+        currentContext = new Context(Scope.IN_ARRAY);
+        return this;
+    }
+
     @Override
     public JsonGenerator writeEnd() {
         if (currentContext.scope == Scope.IN_NONE) {
@@ -534,202 +567,68 @@ class JsonGeneratorImpl implements JsonGenerator {
         if (currentContext.scope != Scope.IN_NONE || currentContext.first) {
             throw new JsonGenerationException(JsonMessages.GENERATOR_INCOMPLETE_JSON());
         }
-        flushBuffer();
-        try {
-            writer.close();
-        } catch (IOException ioe) {
-            throw new JsonException(JsonMessages.GENERATOR_CLOSE_IO_ERR(), ioe);
+        output.close();
+    }
+
+    // JSON Lines: ends the current record with a line break, the next
+    // value starts a new record
+    void writeLineEnd() {
+        if (currentContext.scope != Scope.IN_NONE || currentContext.first) {
+            throw new JsonGenerationException(JsonMessages.GENERATOR_INCOMPLETE_JSON());
         }
-        bufferPool.recycle(buf);
+        output.writeChar('\n');
+        currentContext.first = true;
     }
 
-    // begin, end-1 indexes represent characters that need not
-    // be escaped
-    //
-    // XXXssssssssssssXXXXXXXXXXXXXXXXXXXXXXrrrrrrrrrrrrrrXXXXXX
-    //    ^           ^                     ^             ^
-    //    |           |                     |             |
-    //   begin       end                   begin         end
-    void writeEscapedString(String string) {
-        writeChar('"');
-        int len = string.length();
-        for(int i = 0; i < len; i++) {
-            int begin = i, end = i;
-            char c = string.charAt(i);
-            // find all the characters that need not be escaped
-            // unescaped = %x20-21 | %x23-5B | %x5D-10FFFF
-            while(c >= 0x20 && c <= 0x10ffff && c != 0x22 && c != 0x5c) {
-                i++; end = i;
-                if (i < len) {
-                    c = string.charAt(i);
-                } else {
-                    break;
-                }
-            }
-            // Write characters without escaping
-            if (begin < end) {
-                writeString(string, begin, end);
-                if (i == len) {
-                    break;
-                }
-            }
+    // JSON Lines: closes the output after the last record, there may be
+    // no record at all
+    void closeLines() {
+        if (currentContext.scope != Scope.IN_NONE || !currentContext.first) {
+            throw new JsonGenerationException(JsonMessages.GENERATOR_INCOMPLETE_JSON());
+        }
+        output.close();
+    }
 
-            switch (c) {
-                case '"':
-                case '\\':
-                    writeChar('\\'); writeChar(c);
-                    break;
-                case '\b':
-                    writeChar('\\'); writeChar('b');
-                    break;
-                case '\f':
-                    writeChar('\\'); writeChar('f');
-                    break;
-                case '\n':
-                    writeChar('\\'); writeChar('n');
-                    break;
-                case '\r':
-                    writeChar('\\'); writeChar('r');
-                    break;
-                case '\t':
-                    writeChar('\\'); writeChar('t');
-                    break;
-                default:
-                    String hex = "000" + Integer.toHexString(c);
-                    writeString("\\u" + hex.substring(hex.length() - 4));
-            }
+    // Closes the output as is after a failure, the JSON text may be
+    // incomplete
+    void abort() {
+        try {
+            output.close();
+        } catch (JsonException e) {
+            // the output failed already
         }
-        writeChar('"');
+    }
+
+    void writeEscapedString(String string) {
+        output.writeEscapedString(string, escapes);
     }
 
     void writeString(String str, int begin, int end) {
-        while (begin < end) {       // source begin and end indexes
-            int no = Math.min(buf.length - len, end - begin);
-            str.getChars(begin, begin + no, buf, len);
-            begin += no;            // Increment source index
-            len += no;              // Increment dest index
-            if (len >= buf.length) {
-                flushBuffer();
-            }
-        }
+        output.writeString(str, begin, end);
     }
 
     void writeString(String str) {
-        writeString(str, 0, str.length());
+        output.writeString(str);
     }
 
     void writeChar(char c) {
-        if (len >= buf.length) {
-            flushBuffer();
-        }
-        buf[len++] = c;
+        output.writeChar(c);
     }
 
-    // Not using Integer.toString() since it creates intermediary String
-    // Also, we want the chars to be copied to our buffer directly
     void writeInt(int num) {
-        int size;
-        if (num == Integer.MIN_VALUE) {
-            size = INT_MIN_VALUE_CHARS.length;
-        } else {
-            size = (num < 0) ? stringSize(-num) + 1 : stringSize(num);
-        }
-        if (len+size >= buf.length) {
-            flushBuffer();
-        }
-        if (num == Integer.MIN_VALUE) {
-            System.arraycopy(INT_MIN_VALUE_CHARS, 0, buf, len, size);
-        } else {
-            fillIntChars(num, buf, len+size);
-        }
-        len += size;
+        output.writeInt(num);
+    }
+
+    void writeLong(long num) {
+        output.writeLong(num);
+    }
+
+    void writeDouble(double num) {
+        output.writeDouble(num);
     }
 
-    // flushBuffer writes the buffered contents to writer. But incase of
-    // byte stream, an OuputStreamWriter is created and that buffers too.
-    // We may need to call OutputStreamWriter#flushBuffer() using
-    // reflection if that is really required (commented out below)
     void flushBuffer() {
-        try {
-            if (len > 0) {
-                writer.write(buf, 0, len);
-                len = 0;
-            }
-        } catch (IOException ioe) {
-            throw new JsonException(JsonMessages.GENERATOR_WRITE_IO_ERR(), ioe);
-        }
-    }
-
-//    private static final Method flushBufferMethod;
-//    static {
-//        Method m = null;
-//        try {
-//            m = OutputStreamWriter.class.getDeclaredMethod("flushBuffer");
-//            m.setAccessible(true);
-//        } catch (Exception e) {
-//            // no-op
-//        }
-//        flushBufferMethod = m;
-//    }
-//    void flushBufferOSW() {
-//        flushBuffer();
-//        if (writer instanceof OutputStreamWriter) {
-//            try {
-//                flushBufferMethod.invoke(writer);
-//            } catch (Exception e) {
-//                // no-op
-//            }
-//        }
-//    }
-
-    // Requires positive x
-    private static int stringSize(int x) {
-        for (int i=0; ; i++)
-            if (x <= INT_CHARS_SIZE_TABLE[i])
-                return i+1;
-    }
-
-    /**
-     * Places characters representing the integer i into the
-     * character array buf. The characters are placed into
-     * the buffer backwards starting with the least significant
-     * digit at the specified index (exclusive), and working
-     * backwards from there.
-     *
-     * Will fail if i == Integer.MIN_VALUE
-     */
-    private static void fillIntChars(int i, char[] buf, int index) {
-        int q, r;
-        int charPos = index;
-        char sign = 0;
-
-        if (i < 0) {
-            sign = '-';
-            i = -i;
-        }
-
-        // Generate two digits per iteration
-        while (i >= 65536) {
-            q = i / 100;
-            // really: r = i - (q * 100);
-            r = i - ((q << 6) + (q << 5) + (q << 2));
-            i = q;
-            buf [--charPos] = DIGIT_ONES[r];
-            buf [--charPos] = DIGIT_TENS[r];
-        }
-
-        // Fall thru to fast mode for smaller numbers
-        // assert(i <= 65536, i);
-        for (;;) {
-            q = (i * 52429) >>> (16+3);
-            r = i - ((q << 3) + (q << 1));  // r = i-(q*10) ...
-            buf [--charPos] = DIGITS[r];
-            i = q;
-            if (i == 0) break;
-        }
-        if (sign != 0) {
-            buf [--charPos] = sign;
-        }
+        output.flushBuffer();
     }
 
 }
@@ -0,0 +1,168 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Canonicalizing table of object key names. Real payloads reuse a small set
+ * of distinct keys, so the parsers of a factory look the key chars up here
+ * and get back the same {@code String} instance instead of allocating a new
+ * one for every occurrence.
+ *
+ * <p>The table is a fixed size hash over the key chars where each bucket
+ * holds two entries, and a new key simply replaces an older one of its
+ * bucket. So the memory is bounded whatever the input is, and hostile keys
+ * can only cause misses. The table is shared by concurrent parsers without
+ * locking: the entries are immutable strings, a racing update just loses
+ * one of the keys.
+ */
+final class JsonKeyTable {
+
+    // Longer keys are rarely repeated, they are not worth caching
+    static final int MAX_KEY_LENGTH = 64;
+
+    private static final int DEFAULT_SIZE = 1024;
+
+    private final String[] keys;
+    private final int mask;
+
+    JsonKeyTable() {
+        this(DEFAULT_SIZE);
+    }
+
+    // size is rounded up to a power of two
+    JsonKeyTable(int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        keys = new String[capacity];
+        mask = capacity - 2;            // index of the first entry of a bucket
+    }
+
+    /**
+     * Returns the canonical string for the chars.
+     */
+    String get(char[] buf, int begin, int end) {
+        int len = end - begin;
+        if (len > MAX_KEY_LENGTH) {
+            return new String(buf, begin, len);
+        }
+        int h = 0;
+        for (int i = begin; i < end; i++) {
+            h = 31*h + buf[i];
+        }
+        int index = index(h);
+        String key = keys[index];
+        if (key != null && matches(key, buf, begin, len)) {
+            return key;
+        }
+        String other = keys[index+1];
+        if (other != null && matches(other, buf, begin, len)) {
+            return other;
+        }
+        return put(index, key, new String(buf, begin, len));
+    }
+
+    /**
+     * Returns the canonical string for the UTF-8 bytes, or {@code null}
+     * if they are not all ASCII. The caller decodes such keys itself.
+     */
+    String get(byte[] buf, int begin, int end) {
+        int len = end - begin;
+        if (len > MAX_KEY_LENGTH) {
+            return null;
+        }
+        int h = 0;
+        for (int i = begin; i < end; i++) {
+            int b = buf[i];
+            if (b < 0) {
+                return null;
+            }
+            h = 31*h + b;
+        }
+        int index = index(h);
+        String key = keys[index];
+        if (key != null && matches(key, buf, begin, len)) {
+            return key;
+        }
+        String other = keys[index+1];
+        if (other != null && matches(other, buf, begin, len)) {
+            return other;
+        }
+        return put(index, key, new String(buf, begin, len, StandardCharsets.US_ASCII));
+    }
+
+    private int index(int h) {
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // Keeps the most recent key in the first entry of the bucket
+    private String put(int index, String first, String key) {
+        keys[index+1] = first;
+        keys[index] = key;
+        return key;
+    }
+
+    private static boolean matches(String key, char[] buf, int begin, int len) {
+        if (key.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (key.charAt(i) != buf[begin+i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String key, byte[] buf, int begin, int len) {
+        if (key.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (key.charAt(i) != buf[begin+i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,713 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser.Event;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Object model over the characters of a JSON text that creates the values
+ * only when they are accessed.
+ *
+ * <p>While the reader parses the text, the characters are kept aside by a
+ * {@link CharCapture} and the parser events are recorded in a structural
+ * index. Each value has an entry of two ints in the index: the offset
+ * where the value starts, possibly preceded by whitespace and separators,
+ * and the offset after its last char. For objects and arrays, the second
+ * int is instead the negated index of the entry that follows the
+ * container, so that a container is skipped in one step. The members of an
+ * object are recorded as name and value entries.
+ *
+ * <p>The text is validated completely while it is indexed, so materializing
+ * a value later can't fail. An object creates the value of a member when
+ * it is first accessed, and an array creates its elements on first
+ * access. The members are regular values, except that nested
+ * objects and arrays are again lazy.
+ */
+final class JsonLazyDocument {
+
+    // kinds of numbers
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DECIMAL = 2;
+
+    private final char[] chars;
+    private final int[] index;
+    private final BufferPool bufferPool;
+    private final JsonKeyTable keyTable;
+
+    private JsonLazyDocument(char[] chars, int[] index, BufferPool bufferPool, JsonKeyTable keyTable) {
+        this.chars = chars;
+        this.index = index;
+        this.bufferPool = bufferPool;
+        this.keyTable = keyTable;
+    }
+
+    /**
+     * Indexes the rest of the object or array that the parser has just
+     * started, and returns it as a lazy structure.
+     *
+     * @param parser parser positioned at START_OBJECT or START_ARRAY
+     * @param capture captures the chars read by the parser
+     * @param keyTable canonicalizes the key names, could be null
+     */
+    static JsonStructure read(JsonParserImpl parser, CharCapture capture,
+            BufferPool bufferPool, JsonKeyTable keyTable) {
+        int[] index = new int[64];
+        int size = 0;                   // in ints
+        int[] containers = new int[16];
+        int depth = 0;
+
+        index[size++] = (int) parser.getStreamOffset() - 1;
+        index[size++] = 0;
+        containers[depth++] = 0;
+        while (depth > 0) {
+            int begin = (int) parser.getStreamOffset();
+            Event e = parser.next();
+            int end = (int) parser.getStreamOffset();
+            if (e == Event.END_OBJECT || e == Event.END_ARRAY) {
+                int container = containers[--depth];
+                index[container+1] = -(size >> 1);
+                continue;
+            }
+            if (size+2 > index.length) {
+                index = Arrays.copyOf(index, 2 * index.length);
+            }
+            if (e == Event.START_OBJECT || e == Event.START_ARRAY) {
+                if (depth == containers.length) {
+                    containers = Arrays.copyOf(containers, 2 * depth);
+                }
+                containers[depth++] = size;
+                index[size++] = end - 1;
+                index[size++] = 0;
+            } else {
+                index[size++] = begin;
+                index[size++] = end;
+            }
+        }
+        JsonLazyDocument document = new JsonLazyDocument(capture.chars(),
+                Arrays.copyOf(index, size), bufferPool, keyTable);
+        return (JsonStructure) document.value(0);
+    }
+
+    // Entry that follows the given one and its descendants
+    private int next(int entry) {
+        int end = index[2*entry+1];
+        return end < 0 ? -end : entry+1;
+    }
+
+    // First char of the value, skipping the whitespace and separators
+    private int start(int entry) {
+        int i = index[2*entry];
+        char ch = chars[i];
+        while (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r' || ch == ',' || ch == ':') {
+            ch = chars[++i];
+        }
+        return i;
+    }
+
+    private JsonValue value(int entry) {
+        int start = start(entry);
+        int end = index[2*entry+1];
+        switch (chars[start]) {
+            case '{':
+                return new LazyObject(entry);
+            case '[':
+                return new LazyArray(entry);
+            case '"':
+                return new JsonStringImpl(string(start+1, end-1));
+            case 't':
+                return JsonValue.TRUE;
+            case 'f':
+                return JsonValue.FALSE;
+            case 'n':
+                return JsonValue.NULL;
+            default:
+                return number(start, end);
+        }
+    }
+
+    private String name(int entry) {
+        int start = start(entry)+1;
+        int end = index[2*entry+1]-1;
+        if (keyTable != null && indexOfBackslash(start, end) < 0) {
+            return keyTable.get(chars, start, end);
+        }
+        return string(start, end);
+    }
+
+    private String string(int start, int end) {
+        int i = indexOfBackslash(start, end);
+        if (i < 0) {
+            return new String(chars, start, end-start);
+        }
+        StringBuilder sb = new StringBuilder(end-start);
+        sb.append(chars, start, i-start);
+        while (i < end) {
+            char ch = chars[i++];
+            if (ch != '\\') {
+                sb.append(ch);
+                continue;
+            }
+            ch = chars[i++];
+            switch (ch) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'u':
+                    int unicode = 0;
+                    for (int j = 0; j < 4; j++) {
+                        unicode = (unicode << 4) | JsonTokenizer.HEX[chars[i++]];
+                    }
+                    sb.append((char) unicode);
+                    break;
+                default:        // '"', '\\' and '/'
+                    sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    private int indexOfBackslash(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (chars[i] == '\\') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Same number representations as JsonParserImpl.getValue()
+    private JsonNumber number(int start, int end) {
+        switch (numberKind(start, end)) {
+            case INT:
+                return JsonNumberImpl.getJsonNumber((int) longValue(start, end));
+            case LONG:
+                return JsonNumberImpl.getJsonNumber(longValue(start, end));
+            default:
+                return decimal(start, end);
+        }
+    }
+
+    // Same as JsonParserImpl.getDecimal(), the digits are scanned as by
+    // JsonTokenizer.scanDecimal(). BigDecimal is created only if they don't
+    // fit in a long significand and an int scale
+    private JsonNumber decimal(int start, int end) {
+        boolean minus = chars[start] == '-';
+        long w = 0;
+        int digits = 0;
+        int q = 0;
+        boolean frac = false;
+        int i = minus ? start+1 : start;
+        for (; i < end; i++) {
+            char ch = chars[i];
+            if (ch == '.') {
+                frac = true;
+            } else if (ch == 'e' || ch == 'E') {
+                break;
+            } else if (digits < 19) {
+                w = w * 10 + (ch - '0');
+                if (w != 0) {
+                    digits++;
+                }
+                if (frac) {
+                    q--;
+                }
+            } else {
+                return bigDecimal(start, end);
+            }
+        }
+        if (i < end) {
+            char ch = chars[++i];
+            boolean negativeExp = ch == '-';
+            if (ch == '-' || ch == '+') {
+                i++;
+            }
+            int exp = 0;
+            for (; i < end; i++) {
+                if (exp >= 100000000) {
+                    return bigDecimal(start, end);
+                }
+                exp = exp * 10 + (chars[i] - '0');
+            }
+            q += negativeExp ? -exp : exp;
+        }
+        if (w < 0) {
+            // 19 digits over Long.MAX_VALUE
+            return bigDecimal(start, end);
+        }
+        double d = DoubleParser.toDouble(minus, w, q);
+        if (d != d) {
+            d = new BigDecimal(chars, start, end-start).doubleValue();
+        }
+        return JsonNumberImpl.getJsonNumber(d, minus ? -w : w, -q);
+    }
+
+    private JsonNumber bigDecimal(int start, int end) {
+        return JsonNumberImpl.getJsonNumber(new BigDecimal(chars, start, end-start));
+    }
+
+    // Same as JsonParserImpl.getArray(), lets the builder keep the numbers unboxed
+    private void addNumber(JsonArrayBuilderImpl builder, int start, int end) {
+        switch (numberKind(start, end)) {
+            case INT:
+                builder.add((int) longValue(start, end));
+                break;
+            case LONG:
+                builder.add(longValue(start, end));
+                break;
+            default:
+                builder.addParsedDecimal(number(start, end));
+        }
+    }
+
+    // Same classification as JsonTokenizer.isDefinitelyInt()/isDefinitelyLong()
+    private int numberKind(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = chars[i];
+            if (ch == '.' || ch == 'e' || ch == 'E') {
+                return DECIMAL;
+            }
+        }
+        int len = end-start;
+        boolean minus = chars[start] == '-';
+        if (len <= 9 || (minus && len <= 10)) {
+            return INT;
+        }
+        if (len <= 18 || (minus && len <= 19)) {
+            return LONG;
+        }
+        return DECIMAL;
+    }
+
+    private long longValue(int start, int end) {
+        boolean minus = chars[start] == '-';
+        long num = 0;
+        for (int i = minus ? start+1 : start; i < end; i++) {
+            num = num * 10 + (chars[i] - '0');
+        }
+        return minus ? -num : num;
+    }
+
+    // Lazy object, each member value is created on first access
+    private final class LazyObject extends AbstractMap<String, JsonValue> implements JsonObject {
+        private final int entry;
+        // The name entries of the members
+        private final int[] names;
+        // The member values created so far
+        private final JsonValue[] values;
+        private JsonObject members;
+
+        LazyObject(int entry) {
+            this.entry = entry;
+            int[] names = new int[8];
+            int count = 0;
+            int end = next(entry);
+            for (int name = entry+1; name < end; name = next(name+1)) {
+                if (count == names.length) {
+                    names = Arrays.copyOf(names, 2 * count);
+                }
+                names[count++] = name;
+            }
+            this.names = Arrays.copyOf(names, count);
+            this.values = new JsonValue[count];
+        }
+
+        // The last member with the name, as the builder keeps the last
+        // value of a name. -1 if there is no such member
+        private int member(String name) {
+            for (int i = names.length-1; i >= 0; i--) {
+                if (nameEquals(names[i], name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean nameEquals(int entry, String name) {
+            int start = start(entry)+1;
+            int end = index[2*entry+1]-1;
+            if (indexOfBackslash(start, end) >= 0) {
+                return name(entry).equals(name);
+            }
+            if (end-start != name.length()) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                if (chars[i] != name.charAt(i-start)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // The values are immutable, or lazy with final fields, so they
+        // are safe to publish without synchronization. At most one is
+        // created more than once
+        private JsonValue memberValue(int member) {
+            JsonValue value = values[member];
+            if (value == null) {
+                values[member] = value = value(names[member]+1);
+            }
+            return value;
+        }
+
+        // Creates all the members, for the operations over the whole object.
+        // The fields of JsonObjectImpl that hold the members are final and
+        // its entry set cache is recreated if it isn't seen, so it is safe
+        // to publish without synchronization. At most it is created more
+        // than once
+        private JsonObject members() {
+            JsonObject object = members;
+            if (object == null) {
+                JsonObjectBuilderImpl builder = new JsonObjectBuilderImpl(bufferPool);
+                for (int i = 0; i < names.length; i++) {
+                    builder.add(name(names[i]), memberValue(i));
+                }
+                members = object = builder.build();
+            }
+            return object;
+        }
+
+        @Override
+        public JsonArray getJsonArray(String name) {
+            return (JsonArray) get(name);
+        }
+
+        @Override
+        public JsonObject getJsonObject(String name) {
+            return (JsonObject) get(name);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(String name) {
+            return (JsonNumber) get(name);
+        }
+
+        @Override
+        public JsonString getJsonString(String name) {
+            return (JsonString) get(name);
+        }
+
+        @Override
+        public String getString(String name) {
+            return getJsonString(name).getString();
+        }
+
+        @Override
+        public String getString(String name, String defaultValue) {
+            JsonValue value = get(name);
+            return value instanceof JsonString ? ((JsonString) value).getString() : defaultValue;
+        }
+
+        @Override
+        public int getInt(String name) {
+            return getJsonNumber(name).intValue();
+        }
+
+        @Override
+        public int getInt(String name, int defaultValue) {
+            JsonValue value = get(name);
+            return value instanceof JsonNumber ? ((JsonNumber) value).intValue() : defaultValue;
+        }
+
+        @Override
+        public boolean getBoolean(String name) {
+            JsonValue value = get(name);
+            if (value == null) {
+                throw new NullPointerException();
+            } else if (value == JsonValue.TRUE) {
+                return true;
+            } else if (value == JsonValue.FALSE) {
+                return false;
+            } else {
+                throw new ClassCastException();
+            }
+        }
+
+        @Override
+        public boolean getBoolean(String name, boolean defaultValue) {
+            JsonValue value = get(name);
+            if (value == JsonValue.TRUE) {
+                return true;
+            } else if (value == JsonValue.FALSE) {
+                return false;
+            } else {
+                return defaultValue;
+            }
+        }
+
+        @Override
+        public boolean isNull(String name) {
+            return get(name).equals(JsonValue.NULL);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.OBJECT;
+        }
+
+        @Override
+        public Set<Entry<String, JsonValue>> entrySet() {
+            return members().entrySet();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return members().keySet();
+        }
+
+        @Override
+        public int size() {
+            return members().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return names.length == 0;
+        }
+
+        @Override
+        public JsonValue get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            int member = member((String) key);
+            return member < 0 ? null : memberValue(member);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && member((String) key) >= 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return members().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return members().toString();
+        }
+    }
+
+    // Lazy array, the elements are created on first access
+    private final class LazyArray extends AbstractList<JsonValue> implements JsonArray {
+        private final int entry;
+        private JsonArray elements;
+
+        LazyArray(int entry) {
+            this.entry = entry;
+        }
+
+        // JsonArray impls have only final fields, so it is safe to publish
+        // them without synchronization. At most it is created more than once
+        private JsonArray elements() {
+            JsonArray array = elements;
+            if (array == null) {
+                JsonArrayBuilderImpl builder = new JsonArrayBuilderImpl(bufferPool);
+                int end = next(entry);
+                for (int element = entry+1; element < end; element = next(element)) {
+                    int start = start(element);
+                    char ch = chars[start];
+                    if (ch == '-' || (ch >= '0' && ch <= '9')) {
+                        addNumber(builder, start, index[2*element+1]);
+                    } else {
+                        builder.add(value(element));
+                    }
+                }
+                elements = array = builder.build();
+            }
+            return array;
+        }
+
+        @Override
+        public JsonObject getJsonObject(int index) {
+            return elements().getJsonObject(index);
+        }
+
+        @Override
+        public JsonArray getJsonArray(int index) {
+            return elements().getJsonArray(index);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(int index) {
+            return elements().getJsonNumber(index);
+        }
+
+        @Override
+        public JsonString getJsonString(int index) {
+            return elements().getJsonString(index);
+        }
+
+        @Override
+        public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+            return elements().getValuesAs(clazz);
+        }
+
+        @Override
+        public String getString(int index) {
+            return elements().getString(index);
+        }
+
+        @Override
+        public String getString(int index, String defaultValue) {
+            return elements().getString(index, defaultValue);
+        }
+
+        @Override
+        public int getInt(int index) {
+            return elements().getInt(index);
+        }
+
+        @Override
+        public int getInt(int index, int defaultValue) {
+            return elements().getInt(index, defaultValue);
+        }
+
+        @Override
+        public boolean getBoolean(int index) {
+            return elements().getBoolean(index);
+        }
+
+        @Override
+        public boolean getBoolean(int index, boolean defaultValue) {
+            return elements().getBoolean(index, defaultValue);
+        }
+
+        @Override
+        public boolean isNull(int index) {
+            return elements().isNull(index);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.ARRAY;
+        }
+
+        @Override
+        public JsonValue get(int index) {
+            return elements().get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements().size();
+        }
+
+        @Override
+        public int hashCode() {
+            return elements().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return elements().toString();
+        }
+    }
+
+    /**
+     * Reader that keeps a copy of all the chars read through it.
+     */
+    static final class CharCapture extends Reader {
+        private final Reader reader;
+        private char[] chars = new char[8192];
+        private int length;
+
+        CharCapture(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int n = reader.read(cbuf, off, len);
+            if (n > 0) {
+                if (length+n > chars.length) {
+                    chars = Arrays.copyOf(chars, Math.max(2 * chars.length, length+n));
+                }
+                System.arraycopy(cbuf, off, chars, length, n);
+                length += n;
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        // The chars read so far, the array could be longer
+        char[] chars() {
+            return chars;
+        }
+    }
+
+}
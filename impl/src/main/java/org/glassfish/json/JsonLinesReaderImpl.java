@@ -0,0 +1,140 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonLinesReader;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * JsonLinesReader impl using a parser in line mode, where a line break
+ * ends the current record.
+ */
+final class JsonLinesReaderImpl implements JsonLinesReader {
+    private final JsonParserImpl parser;
+    private long lineNumber;
+
+    JsonLinesReaderImpl(Reader reader, BufferPool bufferPool, JsonKeyTable keyTable) {
+        this(new JsonParserImpl(reader, bufferPool, keyTable));
+    }
+
+    JsonLinesReaderImpl(InputStream in, BufferPool bufferPool, JsonKeyTable keyTable) {
+        this(new JsonParserImpl(in, bufferPool, keyTable));
+    }
+
+    JsonLinesReaderImpl(InputStream in, Charset charset, BufferPool bufferPool,
+            JsonKeyTable keyTable) {
+        this(new JsonParserImpl(in, charset, bufferPool, keyTable));
+    }
+
+    private JsonLinesReaderImpl(JsonParserImpl parser) {
+        this.parser = parser;
+        parser.setLineMode();
+    }
+
+    @Override
+    public JsonValue readValue() {
+        if (!parser.nextLine()) {
+            return null;
+        }
+        lineNumber = parser.getLineNumber();
+        return parser.readLine();
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public Stream<JsonValue> stream() {
+        return stream(null);
+    }
+
+    @Override
+    public Stream<JsonValue> stream(Consumer<? super JsonParsingException> errorHandler) {
+        Spliterator<JsonValue> spliterator =
+                new Spliterators.AbstractSpliterator<JsonValue>(Long.MAX_VALUE,
+                        Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super JsonValue> action) {
+                if (action == null) {
+                    throw new NullPointerException();
+                }
+                while (true) {
+                    JsonValue value;
+                    try {
+                        value = readValue();
+                    } catch (JsonParsingException e) {
+                        if (errorHandler == null) {
+                            throw e;
+                        }
+                        errorHandler.accept(e);
+                        continue;
+                    }
+                    if (value == null) {
+                        return false;
+                    }
+                    action.accept(value);
+                    return true;
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+
+}
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2015-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -40,11 +40,13 @@
 
 package org.glassfish.json;
 
-import javax.json.Json;
+import org.glassfish.json.api.JsonPersistentObject;
+
 import javax.json.JsonMergePatch;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
+import java.util.Map;
 
 /**
  * This class is an implementation of a JSON Merge Patch as specified in
@@ -72,7 +74,8 @@ public final class JsonMergePatchImpl implements JsonMergePatch {
     }
     /**
      * Applies the specified patch to the specified target.
-     * The target is not modified by the patch.
+     * The target is not modified by the patch. A persistent target is
+     * updated member by member, see {@link JsonPersistentObject}.
      *
      * @param target the {@code JsonValue} to apply the patch operations
      * @param patch the patch
@@ -87,9 +90,12 @@ public final class JsonMergePatchImpl implements JsonMergePatch {
         if (target.getValueType() != JsonValue.ValueType.OBJECT) {
             target = JsonValue.EMPTY_JSON_OBJECT;
         }
+        if (target instanceof JsonPersistentObject) {
+            return mergePatch((JsonPersistentObject) target, patch.asJsonObject());
+        }
         JsonObject targetJsonObject = target.asJsonObject();
         JsonObjectBuilder builder =
-            Json.createObjectBuilder(targetJsonObject);
+            JsonProviderImpl.INTERNAL.createObjectBuilder(targetJsonObject);
         patch.asJsonObject().forEach((key, value) -> {
             if (value == JsonValue.NULL) {
                 if (targetJsonObject.containsKey(key)) {
@@ -104,6 +110,21 @@ public final class JsonMergePatchImpl implements JsonMergePatch {
         return builder.build();
     }
 
+    private static JsonValue mergePatch(JsonPersistentObject target, JsonObject patch) {
+        JsonPersistentObject result = target;
+        for (Map.Entry<String, JsonValue> member : patch.entrySet()) {
+            String key = member.getKey();
+            JsonValue value = member.getValue();
+            if (value == JsonValue.NULL) {
+                result = result.without(key);
+            } else {
+                JsonValue old = target.get(key);
+                result = result.with(key, mergePatch(old != null ? old : JsonValue.EMPTY_JSON_OBJECT, value));
+            }
+        }
+        return result;
+    }
+
     /**
      * Generate a JSON Merge Patch from the source and target {@code JsonValue}.
      * @param source the source
@@ -117,7 +138,7 @@ public final class JsonMergePatchImpl implements JsonMergePatch {
         }
         JsonObject s = (JsonObject) source;
         JsonObject t = (JsonObject) target;
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+        JsonObjectBuilder builder = JsonProviderImpl.INTERNAL.createObjectBuilder();
         // First find members to be replaced or removed
         s.forEach((key, value) -> {
             if (t.containsKey(key)) {
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -93,6 +93,10 @@ final class JsonMessages {
         return localize("parser.getLong.err", event);
     }
 
+    static String PARSER_GETDOUBLE_ERR(JsonParser.Event event) {
+        return localize("parser.getDouble.err", event);
+    }
+
     static String PARSER_GETBIGDECIMAL_ERR(JsonParser.Event event) {
         return localize("parser.getBigDecimal.err", event);
     }
@@ -117,6 +121,38 @@ final class JsonMessages {
         return localize("parser.expected.eof", token);
     }
 
+    static String PARSER_EXPECTED_LINE_END() {
+        return localize("parser.expected.line.end");
+    }
+
+    static String PARSER_SPLIT_ARRAY_ERR(long offset) {
+        return localize("parser.split.array.err", String.valueOf(offset));
+    }
+
+    static String PARSER_SPLIT_ARRAY_EOF() {
+        return localize("parser.split.array.eof");
+    }
+
+    static String PUBLISHER_NOT_ARRAY() {
+        return localize("publisher.not.array");
+    }
+
+    static String PUBLISHER_SUBSCRIBED() {
+        return localize("publisher.subscribed");
+    }
+
+    static String PUBLISHER_INVALID_REQUEST(long n) {
+        return localize("publisher.invalid.request", String.valueOf(n));
+    }
+
+    static String PARSER_NEED_MORE_INPUT() {
+        return localize("parser.need.more.input");
+    }
+
+    static String PARSER_INPUT_ENDED() {
+        return localize("parser.input.ended");
+    }
+
     static String PARSER_TOKENIZER_CLOSE_IO() {
         return localize("parser.tokenizer.close.io");
     }
@@ -162,6 +198,10 @@ final class JsonMessages {
         return localize("generator.double.infinite.nan");
     }
 
+    static String GENERATOR_BUFFER_FULL() {
+        return localize("generator.buffer.full");
+    }
+
     static String GENERATOR_INCOMPLETE_JSON() {
         return localize("generator.incomplete.json");
     }
@@ -182,6 +222,10 @@ final class JsonMessages {
         return localize("reader.read.already.called");
     }
 
+    static String READER_MAPPED_IO_ERR(Object file) {
+        return localize("reader.mapped.io.err", file);
+    }
+
 
     // obj builder messages
     static String OBJBUILDER_NAME_NULL() {
@@ -239,6 +283,14 @@ final class JsonMessages {
         return localize("pointer.array.index.illegal", token);
     }
 
+    static String POINTER_SELECTION_INVALID(Object pointer) {
+        return localize("pointer.selection.invalid", pointer);
+    }
+
+    static String POINTER_BATCH_VALUES_SHORT(int length, int size) {
+        return localize("pointer.batch.values.short", length, size);
+    }
+
     // nodereference messages
     static String NODEREF_VALUE_ADD_ERR() {
         return localize("noderef.value.add.err");
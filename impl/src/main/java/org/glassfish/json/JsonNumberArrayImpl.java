@@ -0,0 +1,347 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonNumberArray;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+import java.io.StringWriter;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * JsonArray impl for homogeneous arrays of numbers. Subclasses keep the
+ * numbers in an int[], long[] or double[] and box an element to a
+ * {@code JsonNumber} only when it is accessed.
+ */
+abstract class JsonNumberArrayImpl extends AbstractList<JsonValue> implements JsonNumberArray {
+
+    private final BufferPool bufferPool;
+
+    JsonNumberArrayImpl(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    static JsonArray of(int[] values, BufferPool bufferPool) {
+        return new JsonIntArray(values, bufferPool);
+    }
+
+    static JsonArray of(long[] values, BufferPool bufferPool) {
+        return new JsonLongArray(values, bufferPool);
+    }
+
+    // the values must be finite, as for JsonNumberImpl.getJsonNumber(double)
+    static JsonArray of(double[] values, BufferPool bufferPool) {
+        return new JsonDoubleArray(values, bufferPool);
+    }
+
+    // Writes the elements as values of the current array context
+    abstract void writeValues(JsonGenerator generator);
+
+    // JsonArray impl backed by int[]
+    private static final class JsonIntArray extends JsonNumberArrayImpl {
+        private final int[] values;
+
+        JsonIntArray(int[] values, BufferPool bufferPool) {
+            super(bufferPool);
+            this.values = values;
+        }
+
+        @Override
+        public JsonValue get(int index) {
+            return JsonNumberImpl.getJsonNumber(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public int getInt(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int[] toIntArray() {
+            return values.clone();
+        }
+
+        @Override
+        public long[] toLongArray() {
+            long[] result = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i];
+            }
+            return result;
+        }
+
+        @Override
+        public double[] toDoubleArray() {
+            double[] result = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i];
+            }
+            return result;
+        }
+
+        @Override
+        void writeValues(JsonGenerator generator) {
+            for (int value : values) {
+                generator.write(value);
+            }
+        }
+    }
+
+    // JsonArray impl backed by long[]
+    private static final class JsonLongArray extends JsonNumberArrayImpl {
+        private final long[] values;
+
+        JsonLongArray(long[] values, BufferPool bufferPool) {
+            super(bufferPool);
+            this.values = values;
+        }
+
+        @Override
+        public JsonValue get(int index) {
+            long value = values[index];
+            int intValue = (int) value;
+            return intValue == value
+                    ? JsonNumberImpl.getJsonNumber(intValue)
+                    : JsonNumberImpl.getJsonNumber(value);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public int getInt(int index) {
+            return (int) values[index];
+        }
+
+        @Override
+        public int[] toIntArray() {
+            int[] result = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = (int) values[i];
+            }
+            return result;
+        }
+
+        @Override
+        public long[] toLongArray() {
+            return values.clone();
+        }
+
+        @Override
+        public double[] toDoubleArray() {
+            double[] result = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = values[i];
+            }
+            return result;
+        }
+
+        @Override
+        void writeValues(JsonGenerator generator) {
+            for (long value : values) {
+                generator.write(value);
+            }
+        }
+    }
+
+    // JsonArray impl backed by double[]. The elements are boxed like
+    // JsonArrayBuilder.add(double), so they compare and print the same
+    private static final class JsonDoubleArray extends JsonNumberArrayImpl {
+        private final double[] values;
+
+        JsonDoubleArray(double[] values, BufferPool bufferPool) {
+            super(bufferPool);
+            this.values = values;
+        }
+
+        @Override
+        public JsonValue get(int index) {
+            return JsonNumberImpl.getJsonNumber(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public int[] toIntArray() {
+            int[] result = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = (int) values[i];
+            }
+            return result;
+        }
+
+        @Override
+        public long[] toLongArray() {
+            long[] result = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = (long) values[i];
+            }
+            return result;
+        }
+
+        @Override
+        public double[] toDoubleArray() {
+            return values.clone();
+        }
+
+        // Boxed, so the output is the same as for the elements added with
+        // JsonArrayBuilder.add(double)
+        @Override
+        void writeValues(JsonGenerator generator) {
+            for (int i = 0; i < values.length; i++) {
+                generator.write(get(i));
+            }
+        }
+    }
+
+    @Override
+    public JsonObject getJsonObject(int index) {
+        return (JsonObject)get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(int index) {
+        return (JsonArray)get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(int index) {
+        return (JsonNumber)get(index);
+    }
+
+    @Override
+    public JsonString getJsonString(int index) {
+        return (JsonString)get(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+        return (List<T>)this;
+    }
+
+    @Override
+    public String getString(int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(int index, String defaultValue) {
+        try {
+            return getString(index);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public int getInt(int index) {
+        return getJsonNumber(index).intValue();
+    }
+
+    @Override
+    public int getInt(int index, int defaultValue) {
+        try {
+            return getInt(index);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        get(index);     // index check
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean defaultValue) {
+        try {
+            return getBoolean(index);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return get(index).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public String toString() {
+        StringWriter sw = new StringWriter();
+        try (JsonWriter jw = new JsonWriterImpl(sw, bufferPool)) {
+            jw.write(this);
+        }
+        return sw.toString();
+    }
+
+    @Override
+    public JsonArray asJsonArray() {
+        return this;
+    }
+
+}
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -46,7 +46,7 @@ import java.math.BigInteger;
 
 /**
  * JsonNumber impl. Subclasses provide optimized implementations
- * when backed by int, long, BigDecimal
+ * when backed by int, long, double, BigDecimal
  *
  * @author Jitendra Kotamraju
  */
@@ -74,6 +74,18 @@ abstract class JsonNumberImpl implements JsonNumber {
         return new JsonBigDecimalNumber(value);
     }
 
+    // Number read by the parser, it is unscaledValue * 10^-scale and
+    // the closest double to it is num
+    static JsonNumber getJsonNumber(double num, long unscaledValue, int scale) {
+        return new JsonDoubleNumber(num, unscaledValue, scale);
+    }
+
+    // Whether the number, read by the parser, is the same as the double
+    // closest to it boxed by getJsonNumber(double), in value and scale
+    static boolean isSameAsDouble(JsonNumber value) {
+        return value instanceof JsonDoubleNumber && ((JsonDoubleNumber) value).isSameAsDouble();
+    }
+
     // Optimized JsonNumber impl for int numbers.
     private static final class JsonIntNumber extends JsonNumberImpl {
         private final int num;
@@ -133,6 +145,11 @@ abstract class JsonNumberImpl implements JsonNumber {
         public String toString() {
             return Integer.toString(num);
         }
+
+        @Override
+        void writeTo(JsonOutput output) {
+            output.writeInt(num);
+        }
     }
 
     // Optimized JsonNumber impl for long numbers.
@@ -195,6 +212,81 @@ abstract class JsonNumberImpl implements JsonNumber {
             return Long.toString(num);
         }
 
+        @Override
+        void writeTo(JsonOutput output) {
+            output.writeLong(num);
+        }
+
+    }
+
+    // Optimized JsonNumber impl for parsed decimal numbers. The double
+    // is computed while parsing, BigDecimal only on demand
+    private static final class JsonDoubleNumber extends JsonNumberImpl {
+        private final double num;
+        private final long unscaledValue;
+        private final int scale;
+        private BigDecimal bigDecimal;  // assigning it lazily on demand
+
+        JsonDoubleNumber(double num, long unscaledValue, int scale) {
+            this.num = num;
+            this.unscaledValue = unscaledValue;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean isIntegral() {
+            return scale == 0;
+        }
+
+        @Override
+        public double doubleValue() {
+            return num;
+        }
+
+        @Override
+        public BigDecimal bigDecimalValue() {
+            // reference assignments are atomic. At the most some more temp
+            // BigDecimal objects are created
+            BigDecimal bd = bigDecimal;
+            if (bd == null) {
+                bigDecimal = bd = BigDecimal.valueOf(unscaledValue, scale);
+            }
+            return bd;
+        }
+
+        @Override
+        public Number numberValue() {
+            return bigDecimalValue();
+        }
+
+        // BigDecimal.valueOf(double) parses Double.toString(), which writes
+        // the fewest digits that identify the double. A number of at most 15
+        // significant digits is identified by its closest double, so the
+        // digits are the same if they have no extra trailing zeros for the
+        // form Double.toString() uses: plain with at least one digit after
+        // the point from 10^-3 to 10^7, otherwise one digit before the point
+        // and at least one after it. Older JDKs write extra digits for some
+        // doubles from 10^16, those and the tiny ones are left out
+        boolean isSameAsDouble() {
+            if (unscaledValue == 0) {
+                return scale == 1;
+            }
+            long abs = Math.abs(unscaledValue);
+            if (abs >= 1_000_000_000_000_000L) {
+                return false;
+            }
+            int digits = 1;
+            for (long pow = 10; pow <= abs; pow *= 10) {
+                digits++;
+            }
+            int intDigits = digits - scale;
+            if (intDigits >= -2 && intDigits <= 7) {
+                return scale >= 1 && (abs % 10 != 0 || scale == 1);
+            }
+            return intDigits >= -20 && intDigits <= 16
+                    && digits >= 2 && (abs % 10 != 0 || digits == 2);
+        }
+
     }
 
     // JsonNumber impl using BigDecimal numbers.
@@ -284,5 +376,10 @@ abstract class JsonNumberImpl implements JsonNumber {
         return bigDecimalValue().toString();
     }
 
+    // Writes this number to the generator's output
+    void writeTo(JsonOutput output) {
+        output.writeString(toString());
+    }
+
 }
 
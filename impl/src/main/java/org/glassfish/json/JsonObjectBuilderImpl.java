@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -48,16 +48,32 @@ import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
- * JsonObjectBuilder implementation
+ * JsonObjectBuilder implementation. The members are kept in parallel name
+ * and value arrays, in insertion order. Small objects are searched with a
+ * linear scan, an open addressing hash index of the positions is added only
+ * when an object has more than {@link #INDEX_THRESHOLD} members. The built
+ * {@code JsonObject} takes over the arrays, so it costs a few references
+ * per member instead of the entries and table of a {@code LinkedHashMap}.
  *
  * @author Jitendra Kotamraju
  * @author Kin-man Chung
  */
 class JsonObjectBuilderImpl implements JsonObjectBuilder {
 
-    private Map<String, JsonValue> valueMap;
+    // Objects with more members than this get a hash index
+    static final int INDEX_THRESHOLD = 8;
+
+    private static final String[] EMPTY_NAMES = {};
+    private static final JsonValue[] EMPTY_VALUES = {};
+
+    // The first size entries of names and values are in use
+    private String[] names = EMPTY_NAMES;
+    private JsonValue[] values = EMPTY_VALUES;
+    private int size;
+    private int[] index;            // null for small objects
     private final BufferPool bufferPool;
 
     JsonObjectBuilderImpl(BufferPool bufferPool) {
@@ -66,13 +82,21 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
 
     JsonObjectBuilderImpl(JsonObject object, BufferPool bufferPool) {
         this.bufferPool = bufferPool;
-        valueMap = new LinkedHashMap<>();
-        valueMap.putAll(object);
+        if (object instanceof JsonObjectImpl) {
+            JsonObjectImpl impl = (JsonObjectImpl) object;
+            size = impl.names.length;
+            names = impl.names.clone();
+            values = impl.values.clone();
+            index = impl.index == null ? null : impl.index.clone();
+        } else {
+            for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+                putValueMap(entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     JsonObjectBuilderImpl(Map<String, Object> map, BufferPool bufferPool) {
         this.bufferPool = bufferPool;
-        valueMap = new LinkedHashMap<>();
         populate(map);
     }
 
@@ -168,27 +192,54 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
         if (builder == null) {
             throw new NullPointerException(JsonMessages.OBJBUILDER_OBJECT_BUILDER_NULL());
         }
-        if (valueMap == null) {
-            this.valueMap = new LinkedHashMap<>();
+        JsonObject object = builder.build();
+        if (object instanceof JsonObjectImpl) {
+            JsonObjectImpl impl = (JsonObjectImpl) object;
+            for (int i = 0; i < impl.names.length; i++) {
+                putValueMap(impl.names[i], impl.values[i]);
+            }
+        } else {
+            for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+                putValueMap(entry.getKey(), entry.getValue());
+            }
         }
-        this.valueMap.putAll(builder.build());
         return this;
     }
 
     @Override
     public JsonObjectBuilder remove(String name) {
         validateName(name);
-        this.valueMap.remove(name);
+        int i = indexOf(names, size, index, name);
+        if (i >= 0) {
+            int moved = size - i - 1;
+            System.arraycopy(names, i + 1, names, i, moved);
+            System.arraycopy(values, i + 1, values, i, moved);
+            size--;
+            names[size] = null;
+            values[size] = null;
+            // positions have shifted
+            index = size > INDEX_THRESHOLD ? createIndex(names, size, index.length) : null;
+        }
         return this;
     }
 
+    // The value of the member, null if there is none
+    JsonValue get(String name) {
+        int i = indexOf(names, size, index, name);
+        return i >= 0 ? values[i] : null;
+    }
+
     @Override
     public JsonObject build() {
-        Map<String, JsonValue> snapshot = (valueMap == null)
-                ? Collections.<String, JsonValue>emptyMap()
-                : Collections.unmodifiableMap(valueMap);
-        valueMap = null;
-        return new JsonObjectImpl(snapshot, bufferPool);
+        JsonObject object = new JsonObjectImpl(
+                size == names.length ? names : Arrays.copyOf(names, size),
+                size == values.length ? values : Arrays.copyOf(values, size),
+                index, bufferPool);
+        names = EMPTY_NAMES;
+        values = EMPTY_VALUES;
+        size = 0;
+        index = null;
+        return object;
     }
 
     private void populate(Map<String, Object> map) {
@@ -197,18 +248,36 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
             Object value = map.get(field);
             if (value != null && value instanceof Optional) {
                 ((Optional<?>) value).ifPresent(v ->
-                        this.valueMap.put(field, MapUtil.handle(v, bufferPool)));
+                        putValueMap(field, MapUtil.handle(v, bufferPool)));
             } else {
-                this.valueMap.put(field, MapUtil.handle(value, bufferPool));
+                putValueMap(field, MapUtil.handle(value, bufferPool));
             }
         }
     }
 
+    // Replaces the value of an existing member in place, so that the
+    // member keeps its position like in a LinkedHashMap
     private void putValueMap(String name, JsonValue value) {
-        if (valueMap == null) {
-            this.valueMap = new LinkedHashMap<>();
+        int i = indexOf(names, size, index, name);
+        if (i >= 0) {
+            values[i] = value;
+            return;
+        }
+        if (size == names.length) {
+            int capacity = size == 0 ? 4 : size << 1;
+            names = Arrays.copyOf(names, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
+        if (size > INDEX_THRESHOLD) {
+            if (index == null || (size << 1) > index.length) {
+                index = createIndex(names, size, Integer.highestOneBit(size) << 2);
+            } else {
+                insert(index, name, size - 1);
+            }
         }
-        valueMap.put(name, value);
     }
 
     private void validateName(String name) {
@@ -223,12 +292,66 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
         }
     }
 
+    // Returns the position of the member with the name, or -1
+    static int indexOf(String[] names, int size, int[] index, Object name) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (name == null) {
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(name) & mask; ; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (position < 0) {
+                return -1;
+            }
+            if (names[position].equals(name)) {
+                return position;
+            }
+        }
+    }
+
+    // Hash table of position+1 of the members, 0 is an empty slot.
+    // capacity is a power of two, more than size
+    private static int[] createIndex(String[] names, int size, int capacity) {
+        int[] index = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            insert(index, names[i], i);
+        }
+        return index;
+    }
+
+    private static void insert(int[] index, String name, int position) {
+        int mask = index.length - 1;
+        int slot = hash(name) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private static int hash(Object name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
     private static final class JsonObjectImpl extends AbstractMap<String, JsonValue> implements JsonObject {
-        private final Map<String, JsonValue> valueMap;      // unmodifiable
+        private final String[] names;
+        private final JsonValue[] values;
+        private final int[] index;
         private final BufferPool bufferPool;
+        private Set<Entry<String, JsonValue>> entrySet;
 
-        JsonObjectImpl(Map<String, JsonValue> valueMap, BufferPool bufferPool) {
-            this.valueMap = valueMap;
+        JsonObjectImpl(String[] names, JsonValue[] values, int[] index, BufferPool bufferPool) {
+            this.names = names;
+            this.values = values;
+            this.index = index;
             this.bufferPool = bufferPool;
         }
 
@@ -315,7 +438,72 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
 
         @Override
         public Set<Entry<String, JsonValue>> entrySet() {
-            return valueMap.entrySet();
+            Set<Entry<String, JsonValue>> es = entrySet;
+            if (es == null) {
+                es = entrySet = new AbstractSet<Entry<String, JsonValue>>() {
+                    @Override
+                    public Iterator<Entry<String, JsonValue>> iterator() {
+                        return new MemberIterator<Entry<String, JsonValue>>() {
+                            @Override
+                            Entry<String, JsonValue> member(int i) {
+                                return new SimpleImmutableEntry<>(names[i], values[i]);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return names.length;
+                    }
+                };
+            }
+            return es;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new MemberIterator<String>() {
+                        @Override
+                        String member(int i) {
+                            return names[i];
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+        }
+
+        @Override
+        public Collection<JsonValue> values() {
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super JsonValue> action) {
+            for (int i = 0; i < names.length; i++) {
+                action.accept(names[i], values[i]);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for (int i = 0; i < names.length; i++) {
+                h += names[i].hashCode() ^ values[i].hashCode();
+            }
+            return h;
         }
 
         @Override
@@ -334,17 +522,53 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder {
 
         @Override
         public int size() {
-            return valueMap.size();
+            return names.length;
         }
 
         @Override
         public JsonValue get(Object key) {
-            return valueMap.get(key);
+            int i = indexOf(names, names.length, index, key);
+            return i >= 0 ? values[i] : null;
         }
 
         @Override
         public boolean containsKey(Object key) {
-            return valueMap.containsKey(key);
+            return indexOf(names, names.length, index, key) >= 0;
+        }
+
+        @Override
+        public JsonValue remove(Object key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends JsonValue> map) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        // Iterates the members in insertion order
+        private abstract class MemberIterator<T> implements Iterator<T> {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < names.length;
+            }
+
+            @Override
+            public T next() {
+                if (next >= names.length) {
+                    throw new NoSuchElementException();
+                }
+                return member(next++);
+            }
+
+            abstract T member(int i);
         }
     }
 
@@ -0,0 +1,291 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.PreparedName;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered output of a generator. {@link JsonCharOutput} buffers chars
+ * for a {@code Writer} and {@link JsonUtf8Output} encodes UTF-8 bytes
+ * into its buffer for an {@code OutputStream}.
+ *
+ * <p>
+ * Using own buffering mechanism as JDK's BufferedWriter uses synchronized
+ * methods. Also, flushBuffer() is useful when you don't want to actually
+ * flush the underlying output source.
+ */
+abstract class JsonOutput {
+
+    // Scratch buffer to format long and double values
+    private final char[] numberChars = new char[DoubleFormatter.MAX_CHARS];
+
+    static final char[] INT_MIN_VALUE_CHARS = "-2147483648".toCharArray();
+    static final char[] LONG_MIN_VALUE_CHARS = "-9223372036854775808".toCharArray();
+    static final int[] INT_CHARS_SIZE_TABLE = { 9, 99, 999, 9999, 99999,
+            999999, 9999999, 99999999, 999999999, Integer.MAX_VALUE };
+
+    static final char [] DIGIT_TENS = {
+            '0', '0', '0', '0', '0', '0', '0', '0', '0', '0',
+            '1', '1', '1', '1', '1', '1', '1', '1', '1', '1',
+            '2', '2', '2', '2', '2', '2', '2', '2', '2', '2',
+            '3', '3', '3', '3', '3', '3', '3', '3', '3', '3',
+            '4', '4', '4', '4', '4', '4', '4', '4', '4', '4',
+            '5', '5', '5', '5', '5', '5', '5', '5', '5', '5',
+            '6', '6', '6', '6', '6', '6', '6', '6', '6', '6',
+            '7', '7', '7', '7', '7', '7', '7', '7', '7', '7',
+            '8', '8', '8', '8', '8', '8', '8', '8', '8', '8',
+            '9', '9', '9', '9', '9', '9', '9', '9', '9', '9',
+    } ;
+
+    static final char [] DIGIT_ONES = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+    } ;
+
+    static final char[] HEX_DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7',
+            '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    /**
+     * All possible chars for representing a number as a String
+     */
+    static final char[] DIGITS = {
+            '0' , '1' , '2' , '3' , '4' , '5' ,
+            '6' , '7' , '8' , '9'
+    };
+
+    /**
+     * Returns an output for the given writer.
+     *
+     * @param writer the writer to which the chars are written
+     * @param bufferPool pool of the buffers
+     * @return buffered output for the writer
+     */
+    static JsonOutput of(Writer writer, BufferPool bufferPool) {
+        return new JsonCharOutput(writer, bufferPool);
+    }
+
+    /**
+     * Returns an output for the given byte stream. UTF-8 is encoded
+     * directly into a byte buffer, other encodings go through an
+     * {@code OutputStreamWriter}.
+     *
+     * @param out the stream to which the bytes are written
+     * @param encoding the encoding of the bytes
+     * @param bufferPool pool of the buffers
+     * @return buffered output for the stream
+     */
+    static JsonOutput of(OutputStream out, Charset encoding, BufferPool bufferPool) {
+        if (StandardCharsets.UTF_8.equals(encoding)) {
+            return new JsonUtf8Output(out, bufferPool);
+        }
+        return new JsonCharOutput(new OutputStreamWriter(out, encoding), bufferPool);
+    }
+
+    abstract void writeChar(char c);
+
+    abstract void writeString(String str, int begin, int end);
+
+    // Writes the escaped and quoted name
+    abstract void writeName(PreparedName name);
+
+    // Writes the quoted string. The runs of chars that need no escape are
+    // written with writeString(), an ASCII char is checked with a single
+    // lookup in the escape table
+    void writeEscapedString(String str, JsonEscapes escapes) {
+        byte[] table = escapes.table;
+        boolean nonAscii = escapes.nonAscii;
+        writeChar('"');
+        int end = str.length();
+        int i = 0;
+        while (true) {
+            int begin = i;
+            char c = 0;
+            while (i < end && ((c = str.charAt(i)) < 0x80 ? table[c] == 0 : !nonAscii)) {
+                i++;
+            }
+            if (begin < i) {
+                writeString(str, begin, i);
+            }
+            if (i == end) {
+                break;
+            }
+            if (c == '/' && (i == 0 || str.charAt(i - 1) != '<')) {
+                writeChar(c);
+            } else {
+                writeEscape(c, c < 0x80 ? table[c] : 'u');
+            }
+            i++;
+        }
+        writeChar('"');
+    }
+
+    // Writes the escape of the char, escape is from JsonEscapes.table
+    abstract void writeEscape(char c, int escape);
+
+    void writeString(String str) {
+        writeString(str, 0, str.length());
+    }
+
+    abstract void writeInt(int num);
+
+    // Writes chars that are known to be ASCII
+    abstract void writeAscii(char[] chars, int begin, int end);
+
+    // Not using Long.toString() since it creates intermediary String.
+    // The chars are formatted in numberChars and then copied to the buffer
+    void writeLong(long num) {
+        if (num == (int) num) {
+            writeInt((int) num);
+        } else if (num == Long.MIN_VALUE) {
+            writeAscii(LONG_MIN_VALUE_CHARS, 0, LONG_MIN_VALUE_CHARS.length);
+        } else {
+            int size = (num < 0) ? stringSize(-num) + 1 : stringSize(num);
+            fillLongChars(num, numberChars, size);
+            writeAscii(numberChars, 0, size);
+        }
+    }
+
+    // Not using Double.toString() since it creates intermediary String.
+    // Requires a finite value
+    void writeDouble(double value) {
+        int size = DoubleFormatter.format(value, numberChars, 0);
+        writeAscii(numberChars, 0, size);
+    }
+
+    // Writes the buffered contents to the underlying output source
+    // without flushing it
+    abstract void flushBuffer();
+
+    // Writes the buffered contents and flushes the underlying output source
+    abstract void flush();
+
+    // Writes the buffered contents, closes the underlying output source
+    // and recycles the buffer
+    abstract void close();
+
+    // Requires positive x
+    static int stringSize(int x) {
+        for (int i=0; ; i++)
+            if (x <= INT_CHARS_SIZE_TABLE[i])
+                return i+1;
+    }
+
+    // Requires positive x
+    static int stringSize(long x) {
+        long p = 10;
+        for (int i=1; i<19; i++) {
+            if (x < p)
+                return i;
+            p = 10*p;
+        }
+        return 19;
+    }
+
+    /**
+     * Places characters representing the long i into the
+     * character array buf, backwards from the specified index
+     * (exclusive). Same as {@code JsonCharOutput#fillIntChars}.
+     *
+     * Will fail if i == Long.MIN_VALUE
+     */
+    static void fillLongChars(long i, char[] buf, int index) {
+        long q;
+        int r;
+        int charPos = index;
+        char sign = 0;
+
+        if (i < 0) {
+            sign = '-';
+            i = -i;
+        }
+
+        // Generate two digits per iteration using longs until the
+        // quotient fits into an int
+        while (i > Integer.MAX_VALUE) {
+            q = i / 100;
+            // really: r = i - (q * 100);
+            r = (int)(i - ((q << 6) + (q << 5) + (q << 2)));
+            i = q;
+            buf [--charPos] = DIGIT_ONES[r];
+            buf [--charPos] = DIGIT_TENS[r];
+        }
+
+        // Same as fillIntChars for the rest
+        int q2;
+        int i2 = (int)i;
+        while (i2 >= 65536) {
+            q2 = i2 / 100;
+            // really: r = i2 - (q2 * 100);
+            r = i2 - ((q2 << 6) + (q2 << 5) + (q2 << 2));
+            i2 = q2;
+            buf [--charPos] = DIGIT_ONES[r];
+            buf [--charPos] = DIGIT_TENS[r];
+        }
+        for (;;) {
+            q2 = (i2 * 52429) >>> (16+3);
+            r = i2 - ((q2 << 3) + (q2 << 1));  // r = i2-(q2*10) ...
+            buf [--charPos] = DIGITS[r];
+            i2 = q2;
+            if (i2 == 0) break;
+        }
+        if (sign != 0) {
+            buf [--charPos] = sign;
+        }
+    }
+
+}
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,6 +41,9 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonFeedParser;
+import org.glassfish.json.api.JsonFeedParserFactory;
+import org.glassfish.json.api.JsonMappedParserFactory;
 
 import javax.json.JsonArray;
 import javax.json.JsonObject;
@@ -48,34 +51,68 @@ import javax.json.stream.JsonParserFactory;
 import javax.json.stream.JsonParser;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.util.Collections;
+import java.nio.file.Path;
 import java.util.Map;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonParserFactoryImpl implements JsonParserFactory {
-    private final Map<String, ?> config = Collections.emptyMap();
+class JsonParserFactoryImpl implements JsonParserFactory, JsonMappedParserFactory,
+        JsonFeedParserFactory {
+    private final Map<String, ?> config;    // unmodifiable map
     private final BufferPool bufferPool;
+    private final JsonKeyTable keyTable;
+    private final boolean relaxedSkipping;
 
-    JsonParserFactoryImpl(BufferPool bufferPool) {
+    JsonParserFactoryImpl(Map<String, ?> config, BufferPool bufferPool, boolean canonicalizeKeys,
+            boolean relaxedSkipping) {
+        this.config = config;
         this.bufferPool = bufferPool;
+        this.keyTable = canonicalizeKeys ? new JsonKeyTable() : null;
+        this.relaxedSkipping = relaxedSkipping;
     }
 
     @Override
     public JsonParser createParser(Reader reader) {
-        return new JsonParserImpl(reader, bufferPool);
+        return configure(new JsonParserImpl(reader, bufferPool, keyTable));
     }
 
     @Override
     public JsonParser createParser(InputStream in) {
-        return new JsonParserImpl(in, bufferPool);
+        return configure(new JsonParserImpl(in, bufferPool, keyTable));
     }
 
     @Override
     public JsonParser createParser(InputStream in, Charset charset) {
-        return new JsonParserImpl(in, charset, bufferPool);
+        return configure(new JsonParserImpl(in, charset, bufferPool, keyTable));
+    }
+
+    @Override
+    public JsonParser createParser(Path path) {
+        return createParser(MappedInputStream.of(path));
+    }
+
+    @Override
+    public JsonParser createParser(FileChannel channel) {
+        return createParser(MappedInputStream.of(channel));
+    }
+
+    @Override
+    public JsonParser createParser(ByteBuffer input) {
+        return createParser(new ByteBufferInputStream(input, input.position(), input.limit()));
+    }
+
+    @Override
+    public JsonFeedParser createFeedParser() {
+        return configure(new JsonFeedParserImpl(bufferPool, keyTable));
+    }
+
+    private <T extends JsonParserImpl> T configure(T parser) {
+        parser.setRelaxedSkipping(relaxedSkipping);
+        return parser;
     }
 
     @Override
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -46,6 +46,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -56,8 +57,8 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.json.JsonArray;
-import javax.json.JsonArrayBuilder;
 import javax.json.JsonException;
+import javax.json.JsonNumber;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
@@ -93,29 +94,57 @@ public class JsonParserImpl implements JsonParser {
 
     private final Stack stack;
     private final JsonTokenizer tokenizer;
+    // skipArray() and skipObject() only scan the nesting and the strings
+    private boolean relaxedSkipping;
 
     public JsonParserImpl(Reader reader, BufferPool bufferPool) {
+        this(reader, bufferPool, null);
+    }
+
+    public JsonParserImpl(InputStream in, BufferPool bufferPool) {
+        this(in, bufferPool, null);
+    }
+
+    public JsonParserImpl(InputStream in, Charset encoding, BufferPool bufferPool) {
+        this(in, encoding, bufferPool, null);
+    }
+
+    // keyTable canonicalizes the key names, could be null
+    JsonParserImpl(Reader reader, BufferPool bufferPool, JsonKeyTable keyTable) {
         this.bufferPool = bufferPool;
-        tokenizer = new JsonTokenizer(reader, bufferPool);
+        tokenizer = new JsonCharTokenizer(reader, bufferPool, keyTable);
         stack = new Stack(propertyStringToInt(MAX_DEPTH, DEFAULT_MAX_DEPTH));
     }
 
-    public JsonParserImpl(InputStream in, BufferPool bufferPool) {
+    JsonParserImpl(InputStream in, BufferPool bufferPool, JsonKeyTable keyTable) {
         this.bufferPool = bufferPool;
         UnicodeDetectingInputStream uin = new UnicodeDetectingInputStream(in);
-        tokenizer = new JsonTokenizer(new InputStreamReader(uin, uin.getCharset()), bufferPool);
+        tokenizer = createTokenizer(uin, uin.getCharset(), bufferPool, keyTable);
         stack = new Stack(propertyStringToInt(MAX_DEPTH, DEFAULT_MAX_DEPTH));
     }
 
-    public JsonParserImpl(InputStream in, Charset encoding, BufferPool bufferPool) {
+    JsonParserImpl(InputStream in, Charset encoding, BufferPool bufferPool, JsonKeyTable keyTable) {
         this.bufferPool = bufferPool;
-        tokenizer = new JsonTokenizer(new InputStreamReader(in, encoding), bufferPool);
+        tokenizer = createTokenizer(in, encoding, bufferPool, keyTable);
         stack = new Stack(propertyStringToInt(MAX_DEPTH, DEFAULT_MAX_DEPTH));
     }
 
+    // UTF-8 input is tokenized from the bytes, other encodings are
+    // decoded to chars first
+    private static JsonTokenizer createTokenizer(InputStream in, Charset encoding,
+            BufferPool bufferPool, JsonKeyTable keyTable) {
+        if (StandardCharsets.UTF_8.equals(encoding)) {
+            return new JsonUtf8Tokenizer(in, bufferPool, keyTable);
+        }
+        return new JsonCharTokenizer(new InputStreamReader(in, encoding), bufferPool, keyTable);
+    }
+
     @Override
     public String getString() {
-        if (currentEvent == Event.KEY_NAME || currentEvent == Event.VALUE_STRING
+        if (currentEvent == Event.KEY_NAME) {
+            return tokenizer.getKey();
+        }
+        if (currentEvent == Event.VALUE_STRING
                 || currentEvent == Event.VALUE_NUMBER) {
             return tokenizer.getValue();
         }
@@ -141,6 +170,13 @@ public class JsonParserImpl implements JsonParser {
         return tokenizer.getInt();
     }
 
+    // With relaxed skipping, skipArray() and skipObject() check only the
+    // nesting and the strings of the skipped values, see
+    // JsonConfig.RELAXED_SKIPPING
+    void setRelaxedSkipping(boolean relaxedSkipping) {
+        this.relaxedSkipping = relaxedSkipping;
+    }
+
     boolean isDefinitelyInt() {
         return tokenizer.isDefinitelyInt();
     }
@@ -158,6 +194,24 @@ public class JsonParserImpl implements JsonParser {
         return tokenizer.getLong();
     }
 
+    /**
+     * Returns a JSON number as a double, the same as
+     * {@code getBigDecimal().doubleValue()}. Numbers with a fraction or
+     * an exponent are converted from their digits, without creating a
+     * {@code BigDecimal}.
+     *
+     * @return a double for a JSON number
+     * @throws IllegalStateException when the parser state is not
+     *      {@code VALUE_NUMBER}
+     */
+    public double getDouble() {
+        if (currentEvent != Event.VALUE_NUMBER) {
+            throw new IllegalStateException(
+                    JsonMessages.PARSER_GETDOUBLE_ERR(currentEvent));
+        }
+        return tokenizer.getDouble();
+    }
+
     @Override
     public BigDecimal getBigDecimal() {
         if (currentEvent != Event.VALUE_NUMBER) {
@@ -201,7 +255,7 @@ public class JsonParserImpl implements JsonParser {
                 } else if (isDefinitelyLong()) {
                     return JsonNumberImpl.getJsonNumber(getLong());
                 }
-                return JsonNumberImpl.getJsonNumber(getBigDecimal());
+                return getDecimal();
             case VALUE_TRUE:
                 return JsonValue.TRUE;
             case VALUE_FALSE:
@@ -315,7 +369,8 @@ public class JsonParserImpl implements JsonParser {
 
     @Override
     public void skipArray() {
-        if (currentEvent == Event.START_ARRAY) {
+        // anywhere in an array, not only at its START_ARRAY
+        if (currentContext instanceof ArrayContext) {
             currentContext.skip();
             currentContext = stack.pop();
             currentEvent = Event.END_ARRAY;
@@ -324,20 +379,44 @@ public class JsonParserImpl implements JsonParser {
 
     @Override
     public void skipObject() {
-        if (currentEvent == Event.START_OBJECT) {
+        if (currentContext instanceof ObjectContext) {
             currentContext.skip();
             currentContext = stack.pop();
             currentEvent = Event.END_OBJECT;
         }
     }
 
-    private JsonArray getArray(JsonArrayBuilder builder) {
+    // JsonNumber for a number with a fraction or an exponent, or too long
+    // for a long. BigDecimal is created only if the digits don't fit in a
+    // long significand and an int scale
+    private JsonNumber getDecimal() {
+        if (tokenizer.scanDecimal() && tokenizer.significand >= 0) {
+            long unscaledValue = tokenizer.minus
+                    ? -tokenizer.significand : tokenizer.significand;
+            return JsonNumberImpl.getJsonNumber(tokenizer.getDouble(true),
+                    unscaledValue, -tokenizer.exponent);
+        }
+        return JsonNumberImpl.getJsonNumber(getBigDecimal());
+    }
+
+    private JsonArray getArray(JsonArrayBuilderImpl builder) {
         while(hasNext()) {
             JsonParser.Event e = next();
             if (e == JsonParser.Event.END_ARRAY) {
                 return builder.build();
             }
-            builder.add(getValue());
+            if (e == JsonParser.Event.VALUE_NUMBER) {
+                // typed adds let the builder keep numbers unboxed
+                if (isDefinitelyInt()) {
+                    builder.add(getInt());
+                } else if (isDefinitelyLong()) {
+                    builder.add(getLong());
+                } else {
+                    builder.addParsedDecimal(getDecimal());
+                }
+            } else {
+                builder.add(getValue());
+            }
         }
         throw parsingException(JsonToken.EOF, "[CURLYOPEN, SQUAREOPEN, STRING, NUMBER, TRUE, FALSE, NULL, SQUARECLOSE]");
     }
@@ -360,6 +439,58 @@ public class JsonParserImpl implements JsonParser {
         return tokenizer.getLocation();
     }
 
+    // Offset in the stream right after the current token, without
+    // creating a JsonLocation
+    long getStreamOffset() {
+        return tokenizer.getOffset();
+    }
+
+    // Nesting depth of the current event, 0 at the top level
+    int getDepth() {
+        return stack.size;
+    }
+
+    Event getCurrentEvent() {
+        return currentEvent;
+    }
+
+    // JSON Lines, one value per line. Used by JsonLinesReaderImpl
+    void setLineMode() {
+        tokenizer.lineMode = true;
+    }
+
+    // JSON Lines: starts the next record after the previous one is read,
+    // or failed. Returns false at the end of the input
+    boolean nextLine() {
+        while (!stack.isEmpty()) {
+            currentContext = stack.pop();
+        }
+        currentEvent = null;
+        return tokenizer.skipBlankLines();
+    }
+
+    // JSON Lines: line number of the current record
+    long getLineNumber() {
+        return tokenizer.lineNo;
+    }
+
+    // JSON Lines: reads the value of the current record. A malformed record
+    // is skipped up to its line break, so the next one can be read
+    JsonValue readLine() {
+        try {
+            next();
+            JsonValue value = getValue();
+            if (!tokenizer.readLineEnd()) {
+                throw new JsonParsingException(JsonMessages.PARSER_EXPECTED_LINE_END(),
+                        getLocation());
+            }
+            return value;
+        } catch (JsonParsingException e) {
+            tokenizer.skipLine();
+            throw e;
+        }
+    }
+
     public JsonLocation getLastCharLocation() {
         return tokenizer.getLastCharLocation();
     }
@@ -537,6 +668,12 @@ public class JsonParserImpl implements JsonParser {
 
         @Override
         void skip() {
+            if (relaxedSkipping) {
+                if (!tokenizer.skipStructure(false)) {
+                    throw parsingException(JsonToken.EOF, "[COMMA, CURLYCLOSE]");
+                }
+                return;
+            }
             JsonToken token;
             int depth = 1;
             do {
@@ -548,6 +685,8 @@ public class JsonParserImpl implements JsonParser {
                     case CURLYOPEN:
                         depth++;
                         break;
+                    case EOF:
+                        throw parsingException(token, "[COMMA, CURLYCLOSE]");
                 }
             } while (!(token == JsonToken.CURLYCLOSE && depth == 0));
         }
@@ -597,6 +736,12 @@ public class JsonParserImpl implements JsonParser {
 
         @Override
         void skip() {
+            if (relaxedSkipping) {
+                if (!tokenizer.skipStructure(true)) {
+                    throw parsingException(JsonToken.EOF, "[COMMA, SQUARECLOSE]");
+                }
+                return;
+            }
             JsonToken token;
             int depth = 1;
             do {
@@ -608,6 +753,8 @@ public class JsonParserImpl implements JsonParser {
                     case SQUAREOPEN:
                         depth++;
                         break;
+                    case EOF:
+                        throw parsingException(token, "[COMMA, SQUARECLOSE]");
                 }
             } while (!(token == JsonToken.SQUARECLOSE && depth == 0));
         }
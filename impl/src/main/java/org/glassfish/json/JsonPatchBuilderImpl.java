@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2015-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -40,7 +40,6 @@
 
 package org.glassfish.json;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonException;
@@ -80,14 +79,14 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      * @param patch the JSON Patch
      */
     public JsonPatchBuilderImpl(JsonArray patch) {
-        builder = Json.createArrayBuilder(patch);
+        builder = JsonProviderImpl.INTERNAL.createArrayBuilder(patch);
     }
 
     /**
      * Creates JsonPatchBuilderImpl with empty JSON Patch
      */
     public JsonPatchBuilderImpl() {
-        builder = Json.createArrayBuilder();
+        builder = JsonProviderImpl.INTERNAL.createArrayBuilder();
     }
 
     /**
@@ -112,7 +111,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder add(String path, JsonValue value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.ADD.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -128,7 +127,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder add(String path, String value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.ADD.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -144,7 +143,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder add(String path, int value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.ADD.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -160,7 +159,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder add(String path, boolean value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.ADD.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -175,7 +174,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder remove(String path) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.REMOVE.operationName())
                            .add("path", path)
                     );
@@ -190,7 +189,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder replace(String path, JsonValue value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.REPLACE.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -206,7 +205,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder replace(String path, String value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.REPLACE.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -222,7 +221,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder replace(String path, int value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.REPLACE.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -238,7 +237,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder replace(String path, boolean value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.REPLACE.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -254,7 +253,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder move(String path, String from) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.MOVE.operationName())
                            .add("path", path)
                            .add("from", from)
@@ -270,7 +269,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder copy(String path, String from) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.COPY.operationName())
                            .add("path", path)
                            .add("from", from)
@@ -286,7 +285,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder test(String path, JsonValue value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.TEST.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -302,7 +301,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder test(String path, String value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.TEST.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -318,7 +317,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder test(String path, int value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.TEST.operationName())
                            .add("path", path)
                            .add("value", value)
@@ -334,7 +333,7 @@ public final class JsonPatchBuilderImpl implements JsonPatchBuilder {
      */
     @Override
     public JsonPatchBuilder test(String path, boolean value) {
-        builder.add(Json.createObjectBuilder()
+        builder.add(JsonProviderImpl.INTERNAL.createObjectBuilder()
                            .add("op", Operation.TEST.operationName())
                            .add("path", path)
                            .add("value", value)
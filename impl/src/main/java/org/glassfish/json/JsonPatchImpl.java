@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2015-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -40,8 +40,14 @@
 
 package org.glassfish.json;
 
+import org.glassfish.json.api.JsonPersistentArray;
+import org.glassfish.json.api.JsonPersistentObject;
+
 import javax.json.*;
 import javax.json.JsonValue.ValueType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This class is an immutable representation of a JSON Patch as specified in
@@ -72,6 +78,8 @@ import javax.json.JsonValue.ValueType;
 public class JsonPatchImpl implements JsonPatch {
 
     private final JsonArray patch;
+    // The parsed operations, assigned on the first apply()
+    private volatile CompiledOperation[] compiled;
 
     /**
      * Constructs a JsonPatchImpl
@@ -119,6 +127,15 @@ public class JsonPatchImpl implements JsonPatch {
      * Applies the patch operations to the specified {@code target}.
      * The target is not modified by the patch.
      *
+     * <p>
+     * The operations are parsed once, on the first call. They are applied
+     * to a transient mutable copy of the target, see {@link JsonPatchTree},
+     * so an object or an array on the paths is copied once and not once
+     * per operation. A persistent target, see
+     * {@link JsonPersistentObject}, is updated
+     * operation by operation instead, which copies no container and
+     * returns a persistent result.
+     *
      * @param target the target to apply the patch operations
      * @return the transformed target after the patch
      * @throws JsonException if the supplied JSON Patch is malformed or if
@@ -126,16 +143,23 @@ public class JsonPatchImpl implements JsonPatch {
      */
     @Override
     public JsonStructure apply(JsonStructure target) {
-
-        JsonStructure result = target;
-
-        for (JsonValue operation: patch) {
-            if (operation.getValueType() != ValueType.OBJECT) {
-                throw new JsonException(JsonMessages.PATCH_MUST_BE_ARRAY());
+        CompiledOperation[] operations = compiled;
+        if (operations == null) {
+            compiled = operations = compile();
+        }
+        if (target instanceof JsonPersistentObject || target instanceof JsonPersistentArray) {
+            JsonStructure result = target;
+            for (CompiledOperation operation : operations) {
+                result = operation.apply(result);
             }
-            result = apply(result, (JsonObject) operation);
+            return result;
+        }
+        JsonPatchTree tree = new JsonPatchTree(target);
+        boolean modified = false;
+        for (CompiledOperation operation : operations) {
+            modified |= operation.apply(tree);
         }
-        return result;
+        return modified ? tree.build() : target;
     }
 
     @Override
@@ -154,48 +178,41 @@ public class JsonPatchImpl implements JsonPatch {
         return (new DiffGenerator()).diff(source, target);
     }
 
-    /**
-     * Applies a JSON Patch operation to the target.
-     * @param target the target to apply the operation
-     * @param operation the JSON Patch operation
-     * @return the target after the patch
-     */
-    private JsonStructure apply(JsonStructure target, JsonObject operation) {
+    // Parses the operations, with the same errors as applying them
+    private CompiledOperation[] compile() {
+        CompiledOperation[] operations = new CompiledOperation[patch.size()];
+        for (int i = 0; i < operations.length; i++) {
+            JsonValue operation = patch.get(i);
+            if (operation.getValueType() != ValueType.OBJECT) {
+                throw new JsonException(JsonMessages.PATCH_MUST_BE_ARRAY());
+            }
+            operations[i] = compile((JsonObject) operation);
+        }
+        return operations;
+    }
 
+    private CompiledOperation compile(JsonObject operation) {
         JsonPointer pointer = getPointer(operation, "path");
-        JsonPointer from;
-        switch (Operation.fromOperationName(operation.getString("op"))) {
+        Operation op = Operation.fromOperationName(operation.getString("op"));
+        switch (op) {
             case ADD:
-                return pointer.add(target, getValue(operation));
             case REPLACE:
-                return pointer.replace(target, getValue(operation));
+            case TEST:
+                return new CompiledOperation(op, operation.getString("path"), pointer,
+                        null, null, getValue(operation));
             case REMOVE:
-                return pointer.remove(target);
+                return new CompiledOperation(op, operation.getString("path"), pointer,
+                        null, null, null);
             case COPY:
-                from = getPointer(operation, "from");
-                return pointer.add(target, from.getValue(target));
             case MOVE:
-                // Check if from is a proper prefix of path
+                JsonPointer from = getPointer(operation, "from");
                 String dest = operation.getString("path");
                 String src = operation.getString("from");
-                if (dest.startsWith(src) && src.length() < dest.length()) {
+                if (op == Operation.MOVE && dest.startsWith(src) && src.length() < dest.length()) {
+                    // from is a proper prefix of path
                     throw new JsonException(JsonMessages.PATCH_MOVE_PROPER_PREFIX(src, dest));
                 }
-                from = getPointer(operation, "from");
-                // Check if 'from' exists in target object
-                if (!from.containsValue(target)) {
-                    throw new JsonException(JsonMessages.PATCH_MOVE_TARGET_NULL(src));
-                }
-                if (pointer.equals(from)) {
-                    // nop
-                    return target;
-                }
-                return pointer.add(from.remove(target), from.getValue(target));
-            case TEST:
-                if (! getValue(operation).equals(pointer.getValue(target))) {
-                    throw new JsonException(JsonMessages.PATCH_TEST_FAILED(operation.getString("path"), getValue(operation).toString()));
-                }
-                return target;
+                return new CompiledOperation(op, dest, pointer, src, from, null);
             default:
                 throw new JsonException(JsonMessages.PATCH_ILLEGAL_OPERATION(operation.getString("op")));
         }
@@ -206,7 +223,7 @@ public class JsonPatchImpl implements JsonPatch {
         if (pointerString == null) {
             missingMember(operation.getString("op"), member);
         }
-        return Json.createPointer(pointerString.getString());
+        return JsonProviderImpl.INTERNAL.createPointer(pointerString.getString());
     }
 
     private JsonValue getValue(JsonObject operation) {
@@ -221,11 +238,101 @@ public class JsonPatchImpl implements JsonPatch {
         throw new JsonException(JsonMessages.PATCH_MEMBER_MISSING(op, member));
     }
 
+    // An operation with its pointers and value parsed
+    private static final class CompiledOperation {
+        private final Operation op;
+        private final String path;
+        private final JsonPointer pointer;
+        private final JsonPatchTree.Path treePath;
+        private final String from;
+        private final JsonPointer fromPointer;
+        private final JsonPatchTree.Path fromTreePath;
+        private final JsonValue value;
+
+        CompiledOperation(Operation op, String path, JsonPointer pointer,
+                String from, JsonPointer fromPointer, JsonValue value) {
+            this.op = op;
+            this.path = path;
+            this.pointer = pointer;
+            this.treePath = new JsonPatchTree.Path((JsonPointerImpl) pointer);
+            this.from = from;
+            this.fromPointer = fromPointer;
+            this.fromTreePath = fromPointer == null
+                    ? null : new JsonPatchTree.Path((JsonPointerImpl) fromPointer);
+            this.value = value;
+        }
+
+        // Returns whether the tree may be modified
+        boolean apply(JsonPatchTree tree) {
+            switch (op) {
+                case ADD:
+                    tree.add(treePath, value);
+                    return true;
+                case REPLACE:
+                    tree.replace(treePath, value);
+                    return true;
+                case REMOVE:
+                    tree.remove(treePath);
+                    return true;
+                case COPY:
+                    tree.add(treePath, tree.getValue(fromTreePath));
+                    return true;
+                case MOVE:
+                    // Check if 'from' exists in target object
+                    if (!tree.containsValue(fromTreePath)) {
+                        throw new JsonException(JsonMessages.PATCH_MOVE_TARGET_NULL(from));
+                    }
+                    if (path.equals(from)) {
+                        // nop
+                        return false;
+                    }
+                    JsonValue moved = tree.getValue(fromTreePath);
+                    tree.remove(fromTreePath);
+                    tree.add(treePath, moved);
+                    return true;
+                default:    // TEST
+                    if (!value.equals(tree.getValue(treePath))) {
+                        throw new JsonException(JsonMessages.PATCH_TEST_FAILED(path, value.toString()));
+                    }
+                    return false;
+            }
+        }
+
+        // Applies the operation with the pointer, to a persistent target
+        JsonStructure apply(JsonStructure target) {
+            switch (op) {
+                case ADD:
+                    return pointer.add(target, value);
+                case REPLACE:
+                    return pointer.replace(target, value);
+                case REMOVE:
+                    return pointer.remove(target);
+                case COPY:
+                    return pointer.add(target, fromPointer.getValue(target));
+                case MOVE:
+                    // Check if 'from' exists in target object
+                    if (!fromPointer.containsValue(target)) {
+                        throw new JsonException(JsonMessages.PATCH_MOVE_TARGET_NULL(from));
+                    }
+                    if (path.equals(from)) {
+                        // nop
+                        return target;
+                    }
+                    return pointer.add(fromPointer.remove(target), fromPointer.getValue(target));
+                default:    // TEST
+                    if (!value.equals(pointer.getValue(target))) {
+                        throw new JsonException(JsonMessages.PATCH_TEST_FAILED(path, value.toString()));
+                    }
+                    return target;
+            }
+        }
+    }
+
     static class DiffGenerator {
         private JsonPatchBuilder builder;
 
         JsonArray diff(JsonStructure source, JsonStructure target) {
-            builder = Json.createPatchBuilder();
+            builder = JsonProviderImpl.INTERNAL.createPatchBuilder();
             diff("", source, target);
             return builder.build().toJsonArray();
         }
@@ -261,71 +368,276 @@ public class JsonPatchImpl implements JsonPatch {
         }
 
         /*
-         * For array element diff, find the longest common subsequence, per
-         * http://en.wikipedia.org/wiki/Longest_common_subsequence_problem .
-         * We modify the algorithm to generate a replace if possible.
+         * For array element diff, find the longest common subsequence with
+         * the linear space variant of the algorithm of E. Myers, "An O(ND)
+         * Difference Algorithm and Its Variations". The elements are
+         * compared by ids, equal elements have the same id, so that each
+         * element is hashed once and not compared deeply again. In each
+         * run of elements between two common elements, the last source
+         * and target elements are paired to generate a replace, or the
+         * diff of their members, as possible.
          */
         private void diffArray(String path, JsonArray source, JsonArray target) {
-            /* The array c keeps track of length of the subsequence. To avoid
-             * computing the equality of array elements again, we
-             * left shift its value by 1, and use the low order bit to mark
-             * that two items are equal.
-             */
             int m = source.size();
             int n = target.size();
-            int [][] c = new int[m+1][n+1];
-            for (int i = 0; i < m+1; i++)
-                c[i][0] = 0;
-            for (int i = 0; i < n+1; i++)
-                c[0][i] = 0;
+            Map<JsonValue, Integer> ids = new HashMap<>();
+            int[] a = new int[m];
             for (int i = 0; i < m; i++) {
-                for (int j = 0; j < n; j++) {
-                    if (source.get(i).equals(target.get(j))) {
-                        c[i+1][j+1] = ((c[i][j]) & ~1) + 3;
-                        // 3 = (1 << 1) | 1;
+                a[i] = id(ids, source.get(i));
+            }
+            int sourceIds = ids.size();
+            boolean common = false;
+            int[] b = new int[n];
+            for (int j = 0; j < n; j++) {
+                b[j] = id(ids, target.get(j));
+                common |= b[j] < sourceIds;
+            }
+
+            // The target element of each source element, -1 for a removal
+            int[] pairs = new int[m];
+            Arrays.fill(pairs, -1);
+            if (common) {
+                new ArrayDiff(a, b, pairs).run();
+            }
+
+            // Pair the elements of the runs between the common elements
+            boolean[] paired = new boolean[n];
+            int i = 0;
+            int j = 0;
+            while (true) {
+                int next = i;
+                while (next < m && pairs[next] == -1) {
+                    next++;
+                }
+                int nextTarget = next < m ? pairs[next] : n;
+                int count = Math.min(next - i, nextTarget - j);
+                for (int k = 1; k <= count; k++) {
+                    pairs[next - k] = nextTarget - k;
+                    paired[nextTarget - k] = true;
+                }
+                if (next == m) {
+                    break;
+                }
+                paired[nextTarget] = true;
+                i = next + 1;
+                j = nextTarget + 1;
+            }
+
+            // The removals and replacements from the end of the source, so
+            // that the indexes before them are not shifted, then the
+            // additions from the start of the target
+            for (i = m - 1; i >= 0; i--) {
+                if (pairs[i] == -1) {
+                    builder.remove(path + '/' + i);
+                } else if (a[i] != b[pairs[i]]) {
+                    diff(path + '/' + i, source.get(i), target.get(pairs[i]));
+                }
+            }
+            for (j = 0; j < n; j++) {
+                if (!paired[j]) {
+                    builder.add(path + '/' + j, target.get(j));
+                }
+            }
+        }
+
+        private static int id(Map<JsonValue, Integer> ids, JsonValue value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = ids.size();
+                ids.put(value, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Finds the common elements of two sequences of ids. The common prefix
+     * and suffix of a range are matched directly, and the rest of the range
+     * is split at the middle snake of the shortest edit script. The ranges
+     * to be compared are kept in a stack, not in recursive calls.
+     */
+    private static final class ArrayDiff {
+        private static final int MIN_COST_LIMIT = 256;
+
+        private final int[] a;
+        private final int[] b;
+        private final int[] pairs;
+        // The furthest reaching paths of the forward and the reverse search
+        private final int[] forward;
+        private final int[] reverse;
+        // The edit cost after which a range is split at the furthest point
+        // reached so far, instead of the middle of the shortest script
+        private final int costLimit;
+        // aStart, aEnd, bStart, bEnd of the ranges to be compared
+        private int[] ranges = new int[64];
+        private int top;
+
+        ArrayDiff(int[] a, int[] b, int[] pairs) {
+            this.a = a;
+            this.b = b;
+            this.pairs = pairs;
+            int length = 2 * ((a.length + b.length + 1) / 2) + 2;
+            this.forward = new int[length];
+            this.reverse = new int[length];
+            // about the square root of the number of diagonals, as in GNU diff
+            int limit = 1;
+            for (int diagonals = length; diagonals != 0; diagonals >>= 2) {
+                limit <<= 1;
+            }
+            this.costLimit = Math.max(MIN_COST_LIMIT, limit);
+        }
+
+        void run() {
+            push(0, a.length, 0, b.length);
+            while (top > 0) {
+                top -= 4;
+                int aStart = ranges[top];
+                int aEnd = ranges[top + 1];
+                int bStart = ranges[top + 2];
+                int bEnd = ranges[top + 3];
+                while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+                    pairs[aStart++] = bStart++;
+                }
+                while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+                    pairs[--aEnd] = --bEnd;
+                }
+                if (aStart < aEnd && bStart < bEnd) {
+                    split(aStart, aEnd, bStart, bEnd);
+                }
+            }
+        }
+
+        private void push(int aStart, int aEnd, int bStart, int bEnd) {
+            if (top + 4 > ranges.length) {
+                ranges = Arrays.copyOf(ranges, ranges.length * 2);
+            }
+            ranges[top++] = aStart;
+            ranges[top++] = aEnd;
+            ranges[top++] = bStart;
+            ranges[top++] = bEnd;
+        }
+
+        /*
+         * Searches the shortest edit script from both ends of the range at
+         * once, until the paths overlap on a diagonal, and pushes the two
+         * ranges before and after the overlap. The paths outside of the
+         * range are not extended. Past the cost limit the search stops, and
+         * the range is split after the furthest reaching path instead, so
+         * ranges with few common elements take O((N+M) * limit) time. The
+         * script is then still valid, but may not be the shortest.
+         */
+        private void split(int aStart, int aEnd, int bStart, int bEnd) {
+            int n = aEnd - aStart;
+            int m = bEnd - bStart;
+            int maxD = (n + m + 1) / 2;
+            int offset = maxD;
+            int length = 2 * maxD;
+            Arrays.fill(forward, 0, length, -1);
+            Arrays.fill(reverse, 0, length, -1);
+            forward[offset + 1] = 0;
+            reverse[offset + 1] = 0;
+            int delta = n - m;
+            // the paths meet in the forward search when delta is odd
+            boolean front = (delta & 1) != 0;
+            int kStart = 0;
+            int kEnd = 0;
+            int rStart = 0;
+            int rEnd = 0;
+            for (int d = 0; d < maxD; d++) {
+                for (int k = -d + kStart; k <= d - kEnd; k += 2) {
+                    int x;
+                    if (k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])) {
+                        x = forward[offset + k + 1];
+                    } else {
+                        x = forward[offset + k - 1] + 1;
+                    }
+                    int y = x - k;
+                    while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+                        x++;
+                        y++;
+                    }
+                    forward[offset + k] = x;
+                    if (x > n) {
+                        kEnd += 2;
+                    } else if (y > m) {
+                        kStart += 2;
+                    } else if (front) {
+                        int r = offset + delta - k;
+                        if (r >= 0 && r < length && reverse[r] != -1 && x >= n - reverse[r]) {
+                            push(aStart, aStart + x, bStart, bStart + y);
+                            push(aStart + x, aEnd, bStart + y, bEnd);
+                            return;
+                        }
+                    }
+                }
+                for (int k = -d + rStart; k <= d - rEnd; k += 2) {
+                    int x;
+                    if (k == -d || (k != d && reverse[offset + k - 1] < reverse[offset + k + 1])) {
+                        x = reverse[offset + k + 1];
                     } else {
-                        c[i+1][j+1] = Math.max(c[i+1][j], c[i][j+1]) & ~1;
+                        x = reverse[offset + k - 1] + 1;
+                    }
+                    int y = x - k;
+                    while (x < n && y < m && a[aEnd - 1 - x] == b[bEnd - 1 - y]) {
+                        x++;
+                        y++;
+                    }
+                    reverse[offset + k] = x;
+                    if (x > n) {
+                        rEnd += 2;
+                    } else if (y > m) {
+                        rStart += 2;
+                    } else if (!front) {
+                        int f = offset + delta - k;
+                        if (f >= 0 && f < length && forward[f] != -1) {
+                            int fx = forward[f];
+                            int fy = offset + fx - f;
+                            if (fx >= n - x) {
+                                push(aStart, aStart + fx, bStart, bStart + fy);
+                                push(aStart + fx, aEnd, bStart + fy, bEnd);
+                                return;
+                            }
+                        }
                     }
                 }
+                if (d >= costLimit) {
+                    splitFurthest(aStart, aEnd, bStart, bEnd, d, offset);
+                    return;
+                }
             }
-
-            emit(path, source, target, c, m, n);
+            // no common elements
         }
 
-        private void emit(final String path,
-                          final JsonArray source,
-                          final JsonArray target,
-                          final int[][] c,
-                          final int i,
-                          final int j) {
-           if (i == 0) {
-               if (j > 0) {
-                   emit(path, source, target, c, i, j - 1);
-                   builder.add(path + '/' + (j - 1), target.get(j - 1));
-               }
-           } else if (j == 0) {
-               if (i > 0) {
-                   builder.remove(path + '/' + (i - 1));
-                   emit(path, source, target, c, i - 1, j);
-               }
-           } else if ((c[i][j] & 1) == 1) {
-               emit(path, source, target, c, i - 1, j - 1);
-           } else {
-               final int f = c[i][j-1] >> 1;
-               final int g = c[i-1][j] >> 1;
-               if (f > g) {
-                   emit(path, source, target, c, i, j - 1);
-                   builder.add(path + '/' + (j - 1), target.get(j - 1));
-               } else if (f < g) {
-                   builder.remove(path + '/' + (i - 1));
-                   emit(path, source, target, c, i - 1, j);
-               } else { // f == g) {
-                   diff(path + '/' + (i - 1), source.get(i - 1),
-                     target.get(j - 1));
-                   emit(path, source, target, c, i - 1, j - 1);
-               }
-           }
+        // Splits the range after the path of cost d that advanced the most,
+        // from the start or from the end of the range
+        private void splitFurthest(int aStart, int aEnd, int bStart, int bEnd, int d, int offset) {
+            int n = aEnd - aStart;
+            int m = bEnd - bStart;
+            int best = 0;
+            int bestX = 0;
+            int bestY = 0;
+            for (int k = -d; k <= d; k += 2) {
+                int x = forward[offset + k];
+                int y = x - k;
+                if (x >= 0 && x <= n && y >= 0 && y <= m && x + y > best) {
+                    best = x + y;
+                    bestX = x;
+                    bestY = y;
+                }
+                x = reverse[offset + k];
+                y = x - k;
+                if (x >= 0 && x <= n && y >= 0 && y <= m && x + y > best) {
+                    best = x + y;
+                    bestX = n - x;
+                    bestY = m - y;
+                }
+            }
+            if (best == 0 || best == n + m) {
+                // no progress, the range has no common elements
+                return;
+            }
+            push(aStart, aStart + bestX, bStart, bStart + bestY);
+            push(aStart + bestX, aEnd, bStart + bestY, bEnd);
         }
     }
 }
-
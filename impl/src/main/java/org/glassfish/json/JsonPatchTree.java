@@ -0,0 +1,410 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A transient, mutable copy of a JSON tree that the operations of a patch
+ * are applied to. An object or an array is copied into a mutable node
+ * the first time an operation changes it or a value below it, the
+ * untouched values are shared with the target. {@link #build()} turns the
+ * nodes back into immutable values once, after all the operations.
+ *
+ * <p>
+ * The operations behave as the same operations of {@link JsonPointerImpl},
+ * with the same errors.
+ */
+final class JsonPatchTree {
+
+    // The values of the tree are JsonValues or mutable nodes
+    private Object root;
+
+    JsonPatchTree(JsonStructure target) {
+        this.root = target;
+    }
+
+    // The patched tree
+    JsonStructure build() {
+        return (JsonStructure) freeze(root);
+    }
+
+    JsonValue getValue(Path path) {
+        if (path.isRoot()) {
+            return (JsonValue) (root = freeze(root));
+        }
+        Object parent = parent(path, false);
+        String token = path.last();
+        switch (typeOf(parent)) {
+            case OBJECT:
+                Object member = getMember(parent, token);
+                if (member == null) {
+                    throw new JsonException(JsonMessages.NODEREF_OBJECT_MISSING(token));
+                }
+                if (member instanceof ObjectNode || member instanceof ArrayNode) {
+                    // parent is a node too, keeps the frozen member
+                    member = freeze(member);
+                    ((ObjectNode) parent).put(token, (JsonValue) member);
+                }
+                return (JsonValue) member;
+            case ARRAY:
+                int index = path.lastIndex();
+                int size = sizeOf(parent);
+                if (index < 0 || index >= size) {
+                    throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, size));
+                }
+                Object element = getElement(parent, index);
+                if (element instanceof ObjectNode || element instanceof ArrayNode) {
+                    element = freeze(element);
+                    ((ArrayNode) parent).elements.set(index, element);
+                }
+                return (JsonValue) element;
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(typeOf(parent)));
+        }
+    }
+
+    boolean containsValue(Path path) {
+        if (path.isRoot()) {
+            return root != null;
+        }
+        Object parent = parent(path, false);
+        switch (typeOf(parent)) {
+            case OBJECT:
+                return getMember(parent, path.last()) != null;
+            case ARRAY:
+                int index = path.lastIndex();
+                return index > -1 && index < sizeOf(parent);
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(typeOf(parent)));
+        }
+    }
+
+    void add(Path path, JsonValue value) {
+        if (path.isRoot()) {
+            setRoot(value);
+            return;
+        }
+        Object parent = parent(path, true);
+        switch (typeOf(parent)) {
+            case OBJECT:
+                ((ObjectNode) parent).put(path.last(), value);
+                break;
+            case ARRAY:
+                int index = path.lastIndex();
+                List<Object> elements = ((ArrayNode) parent).elements;
+                if (index == -1 || index == elements.size()) {
+                    elements.add(value);
+                } else if (index < elements.size()) {
+                    elements.add(index, value);
+                } else {
+                    throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, elements.size()));
+                }
+                break;
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(typeOf(parent)));
+        }
+    }
+
+    void replace(Path path, JsonValue value) {
+        if (path.isRoot()) {
+            setRoot(value);
+            return;
+        }
+        Object parent = parent(path, true);
+        switch (typeOf(parent)) {
+            case OBJECT:
+                ObjectNode object = (ObjectNode) parent;
+                if (object.get(path.last()) == null) {
+                    throw new JsonException(JsonMessages.NODEREF_OBJECT_MISSING(path.last()));
+                }
+                object.put(path.last(), value);
+                break;
+            case ARRAY:
+                int index = path.lastIndex();
+                List<Object> elements = ((ArrayNode) parent).elements;
+                if (index < 0 || index >= elements.size()) {
+                    throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, elements.size()));
+                }
+                elements.set(index, value);
+                break;
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(typeOf(parent)));
+        }
+    }
+
+    void remove(Path path) {
+        if (path.isRoot()) {
+            throw new JsonException(JsonMessages.NODEREF_VALUE_CANNOT_REMOVE());
+        }
+        Object parent = parent(path, true);
+        switch (typeOf(parent)) {
+            case OBJECT:
+                ObjectNode object = (ObjectNode) parent;
+                if (object.get(path.last()) == null) {
+                    throw new JsonException(JsonMessages.NODEREF_OBJECT_MISSING(path.last()));
+                }
+                object.remove(path.last());
+                break;
+            case ARRAY:
+                int index = path.lastIndex();
+                List<Object> elements = ((ArrayNode) parent).elements;
+                if (index < 0 || index >= elements.size()) {
+                    throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, elements.size()));
+                }
+                elements.remove(index);
+                break;
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(typeOf(parent)));
+        }
+    }
+
+    private void setRoot(JsonValue value) {
+        ValueType type = value.getValueType();
+        if (type != ValueType.OBJECT && type != ValueType.ARRAY) {
+            throw new JsonException(JsonMessages.NODEREF_VALUE_ADD_ERR());
+        }
+        root = value;
+    }
+
+    // Returns the container of the last token of the path. With mutable,
+    // the containers on the path are turned into nodes, scalar values
+    // are returned as they are
+    private Object parent(Path path, boolean mutable) {
+        if (mutable) {
+            root = mutable(root);
+        }
+        Object container = root;
+        String[] tokens = path.tokens;
+        for (int i = 1; i < tokens.length - 1; i++) {
+            Object child;
+            switch (typeOf(container)) {
+                case OBJECT:
+                    child = getMember(container, tokens[i]);
+                    if (child == null) {
+                        throw new JsonException(JsonMessages.POINTER_MAPPING_MISSING(
+                                (JsonObject) freeze(container), tokens[i]));
+                    }
+                    if (mutable && !(child instanceof ObjectNode || child instanceof ArrayNode)) {
+                        child = mutable(child);
+                        ((ObjectNode) container).putNode(tokens[i], child);
+                    }
+                    break;
+                case ARRAY:
+                    int index = path.index(i);
+                    int size = sizeOf(container);
+                    if (index < 0 || index >= size) {
+                        throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, size));
+                    }
+                    child = getElement(container, index);
+                    if (mutable && !(child instanceof ObjectNode || child instanceof ArrayNode)) {
+                        child = mutable(child);
+                        ((ArrayNode) container).elements.set(index, child);
+                    }
+                    break;
+                default:
+                    throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(typeOf(container)));
+            }
+            container = child;
+        }
+        return container;
+    }
+
+    private static ValueType typeOf(Object value) {
+        if (value instanceof ObjectNode) {
+            return ValueType.OBJECT;
+        }
+        if (value instanceof ArrayNode) {
+            return ValueType.ARRAY;
+        }
+        return ((JsonValue) value).getValueType();
+    }
+
+    private static Object getMember(Object object, String name) {
+        return object instanceof ObjectNode
+                ? ((ObjectNode) object).get(name)
+                : ((JsonObject) object).get(name);
+    }
+
+    private static Object getElement(Object array, int index) {
+        return array instanceof ArrayNode
+                ? ((ArrayNode) array).elements.get(index)
+                : ((JsonArray) array).get(index);
+    }
+
+    private static int sizeOf(Object array) {
+        return array instanceof ArrayNode
+                ? ((ArrayNode) array).elements.size()
+                : ((JsonArray) array).size();
+    }
+
+    // Copies an object or an array into a node, other values are returned
+    private static Object mutable(Object value) {
+        if (value instanceof JsonObject) {
+            return new ObjectNode((JsonObject) value);
+        }
+        if (value instanceof JsonArray) {
+            return new ArrayNode((JsonArray) value);
+        }
+        return value;
+    }
+
+    // Turns the nodes into immutable values
+    private static Object freeze(Object value) {
+        if (value instanceof ObjectNode) {
+            return ((ObjectNode) value).build();
+        }
+        if (value instanceof ArrayNode) {
+            return ((ArrayNode) value).build();
+        }
+        return value;
+    }
+
+    // An object copied into a builder. The members that are nodes are kept
+    // aside, the builder has their old value at their position
+    private static final class ObjectNode {
+        private final JsonObjectBuilderImpl builder;
+        private Map<String, Object> nodes;
+
+        ObjectNode(JsonObject object) {
+            builder = (JsonObjectBuilderImpl) JsonProviderImpl.INTERNAL.createObjectBuilder(object);
+        }
+
+        Object get(String name) {
+            Object node = nodes == null ? null : nodes.get(name);
+            return node != null ? node : builder.get(name);
+        }
+
+        void put(String name, JsonValue value) {
+            builder.add(name, value);
+            if (nodes != null) {
+                nodes.remove(name);
+            }
+        }
+
+        // The member exists already
+        void putNode(String name, Object node) {
+            if (nodes == null) {
+                nodes = new HashMap<>();
+            }
+            nodes.put(name, node);
+        }
+
+        void remove(String name) {
+            builder.remove(name);
+            if (nodes != null) {
+                nodes.remove(name);
+            }
+        }
+
+        JsonObject build() {
+            if (nodes != null) {
+                for (Map.Entry<String, Object> e : nodes.entrySet()) {
+                    builder.add(e.getKey(), (JsonValue) freeze(e.getValue()));
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private static final class ArrayNode {
+        final ArrayList<Object> elements;
+
+        ArrayNode(JsonArray array) {
+            elements = new ArrayList<>(array);
+        }
+
+        @SuppressWarnings("unchecked")
+        JsonArray build() {
+            List<Object> list = elements;
+            for (int i = 0; i < list.size(); i++) {
+                Object element = list.get(i);
+                if (element instanceof ObjectNode || element instanceof ArrayNode) {
+                    list.set(i, freeze(element));
+                }
+            }
+            // all the elements are values now
+            return JsonProviderImpl.INTERNAL.createArray((List<JsonValue>) (List<?>) list);
+        }
+    }
+
+    /**
+     * A JSON Pointer for the operations of the tree, its tokens and array
+     * indexes are parsed by {@link JsonPointerImpl}.
+     */
+    static final class Path {
+        private final JsonPointerImpl pointer;
+        private final String[] tokens;
+
+        Path(JsonPointerImpl pointer) {
+            this.pointer = pointer;
+            this.tokens = pointer.getTokens();
+        }
+
+        boolean isRoot() {
+            return tokens.length == 1;
+        }
+
+        String last() {
+            return tokens[tokens.length - 1];
+        }
+
+        int lastIndex() {
+            return index(tokens.length - 1);
+        }
+
+        // The array index of the token, -1 for "-"
+        int index(int i) {
+            return pointer.index(i);
+        }
+    }
+
+}
@@ -0,0 +1,450 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonPersistentArray;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+import java.io.StringWriter;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * JsonPersistentArray impl. The elements are kept in leaves of up to
+ * {@link #LEAF_SIZE} values, the leaves are the nodes of an AVL balanced
+ * tree whose branches know the number of the elements below them. An
+ * update copies the leaf and the branches on the path to the element,
+ * the other nodes are shared with the previous version.
+ */
+final class JsonPersistentArrayImpl extends AbstractList<JsonValue> implements JsonPersistentArray {
+
+    static final int LEAF_SIZE = 32;
+
+    private static final JsonValue[] NO_VALUES = new JsonValue[0];
+
+    private final Node root;    // null if the array is empty
+    private final BufferPool bufferPool;
+
+    private JsonPersistentArrayImpl(Node root, BufferPool bufferPool) {
+        this.root = root;
+        this.bufferPool = bufferPool;
+    }
+
+    // Converts the array, and the objects and arrays in it
+    static JsonPersistentArray of(JsonArray array, BufferPool bufferPool) {
+        if (array instanceof JsonPersistentArray) {
+            return (JsonPersistentArray) array;
+        }
+        JsonValue[] values = array.toArray(NO_VALUES);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = JsonPersistentObjectImpl.persistent(values[i], bufferPool);
+        }
+        return new JsonPersistentArrayImpl(build(values, 0, values.length), bufferPool);
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    @Override
+    public JsonValue get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.size) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size;
+                node = branch.right;
+            }
+        }
+        return ((Leaf) node).values[index];
+    }
+
+    @Override
+    public JsonPersistentArray with(int index, JsonValue value) {
+        validateValue(value);
+        if (get(index) == value) {
+            return this;
+        }
+        return new JsonPersistentArrayImpl(set(root, index, value), bufferPool);
+    }
+
+    @Override
+    public JsonPersistentArray inserting(int index, JsonValue value) {
+        validateValue(value);
+        checkIndex(index, size() + 1);
+        Node node = root == null
+                ? new Leaf(new JsonValue[] { value })
+                : insert(root, index, value);
+        return new JsonPersistentArrayImpl(node, bufferPool);
+    }
+
+    @Override
+    public JsonPersistentArray without(int index) {
+        checkIndex(index, size());
+        return new JsonPersistentArrayImpl(remove(root, index), bufferPool);
+    }
+
+    @Override
+    public Iterator<JsonValue> iterator() {
+        return new Elements();
+    }
+
+    @Override
+    public void forEach(Consumer<? super JsonValue> action) {
+        forEach(root, action);
+    }
+
+    @Override
+    public JsonObject getJsonObject(int index) {
+        return (JsonObject)get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(int index) {
+        return (JsonArray)get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(int index) {
+        return (JsonNumber)get(index);
+    }
+
+    @Override
+    public JsonString getJsonString(int index) {
+        return (JsonString)get(index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+        return (List<T>)this;
+    }
+
+    @Override
+    public String getString(int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(int index, String defaultValue) {
+        try {
+            return getString(index);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public int getInt(int index) {
+        return getJsonNumber(index).intValue();
+    }
+
+    @Override
+    public int getInt(int index, int defaultValue) {
+        try {
+            return getInt(index);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        JsonValue jsonValue = get(index);
+        if (jsonValue == JsonValue.TRUE) {
+            return true;
+        } else if (jsonValue == JsonValue.FALSE) {
+            return false;
+        } else {
+            throw new ClassCastException();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean defaultValue) {
+        try {
+            return getBoolean(index);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return get(index).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public String toString() {
+        StringWriter sw = new StringWriter();
+        try (JsonWriter jw = new JsonWriterImpl(sw, bufferPool)) {
+            jw.write(this);
+        }
+        return sw.toString();
+    }
+
+    @Override
+    public JsonArray asJsonArray() {
+        return this;
+    }
+
+    private static void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + limit);
+        }
+    }
+
+    private static void validateValue(JsonValue value) {
+        if (value == null) {
+            throw new NullPointerException(JsonMessages.ARRBUILDER_VALUE_NULL());
+        }
+    }
+
+    // Builds a balanced tree of the values, all the leaves but the last
+    // one are full
+    private static Node build(JsonValue[] values, int from, int to) {
+        int count = to - from;
+        if (count == 0) {
+            return null;
+        }
+        if (count <= LEAF_SIZE) {
+            return new Leaf(Arrays.copyOfRange(values, from, to));
+        }
+        int leaves = (count + LEAF_SIZE - 1) / LEAF_SIZE;
+        int mid = from + (leaves / 2) * LEAF_SIZE;
+        return new Branch(build(values, from, mid), build(values, mid, to));
+    }
+
+    private static Node set(Node node, int index, JsonValue value) {
+        if (node instanceof Leaf) {
+            JsonValue[] values = ((Leaf) node).values.clone();
+            values[index] = value;
+            return new Leaf(values);
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size;
+        return index < leftSize
+                ? new Branch(set(branch.left, index, value), branch.right)
+                : new Branch(branch.left, set(branch.right, index - leftSize, value));
+    }
+
+    // A full leaf is split in two leaves
+    private static Node insert(Node node, int index, JsonValue value) {
+        if (node instanceof Leaf) {
+            JsonValue[] old = ((Leaf) node).values;
+            JsonValue[] values = new JsonValue[old.length + 1];
+            System.arraycopy(old, 0, values, 0, index);
+            values[index] = value;
+            System.arraycopy(old, index, values, index + 1, old.length - index);
+            if (values.length <= LEAF_SIZE) {
+                return new Leaf(values);
+            }
+            int half = values.length / 2;
+            return new Branch(new Leaf(Arrays.copyOfRange(values, 0, half)),
+                    new Leaf(Arrays.copyOfRange(values, half, values.length)));
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size;
+        return index < leftSize
+                ? balance(insert(branch.left, index, value), branch.right)
+                : balance(branch.left, insert(branch.right, index - leftSize, value));
+    }
+
+    // Returns null if the node had a single element. Two small sibling
+    // leaves are merged into one
+    private static Node remove(Node node, int index) {
+        if (node instanceof Leaf) {
+            JsonValue[] old = ((Leaf) node).values;
+            if (old.length == 1) {
+                return null;
+            }
+            JsonValue[] values = new JsonValue[old.length - 1];
+            System.arraycopy(old, 0, values, 0, index);
+            System.arraycopy(old, index + 1, values, index, values.length - index);
+            return new Leaf(values);
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size;
+        Node left = branch.left;
+        Node right = branch.right;
+        if (index < leftSize) {
+            left = remove(left, index);
+        } else {
+            right = remove(right, index - leftSize);
+        }
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= LEAF_SIZE) {
+            JsonValue[] values = Arrays.copyOf(((Leaf) left).values, left.size + right.size);
+            System.arraycopy(((Leaf) right).values, 0, values, left.size, right.size);
+            return new Leaf(values);
+        }
+        return balance(left, right);
+    }
+
+    // Joins two subtrees whose heights differ by 2 at the most
+    private static Node balance(Node left, Node right) {
+        int diff = left.height - right.height;
+        if (diff > 1) {
+            Branch l = (Branch) left;
+            if (l.left.height >= l.right.height) {
+                return new Branch(l.left, new Branch(l.right, right));
+            }
+            Branch lr = (Branch) l.right;
+            return new Branch(new Branch(l.left, lr.left), new Branch(lr.right, right));
+        }
+        if (diff < -1) {
+            Branch r = (Branch) right;
+            if (r.right.height >= r.left.height) {
+                return new Branch(new Branch(left, r.left), r.right);
+            }
+            Branch rl = (Branch) r.left;
+            return new Branch(new Branch(left, rl.left), new Branch(rl.right, r.right));
+        }
+        return new Branch(left, right);
+    }
+
+    private static void forEach(Node node, Consumer<? super JsonValue> action) {
+        if (node instanceof Branch) {
+            forEach(((Branch) node).left, action);
+            forEach(((Branch) node).right, action);
+        } else if (node != null) {
+            for (JsonValue value : ((Leaf) node).values) {
+                action.accept(value);
+            }
+        }
+    }
+
+    private abstract static class Node {
+        final int size;
+        final int height;
+
+        Node(int size, int height) {
+            this.size = size;
+            this.height = height;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final JsonValue[] values;
+
+        Leaf(JsonValue[] values) {
+            super(values.length, 0);
+            this.values = values;
+        }
+    }
+
+    private static final class Branch extends Node {
+        final Node left;
+        final Node right;
+
+        Branch(Node left, Node right) {
+            super(left.size + right.size, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    // Iterates the leaves from left to right, the stack has the right
+    // subtrees that are not visited yet
+    private final class Elements implements Iterator<JsonValue> {
+        private final Node[] stack;
+        private int depth;
+        private JsonValue[] leaf = NO_VALUES;
+        private int next;
+
+        Elements() {
+            stack = new Node[root == null ? 0 : root.height + 1];
+            if (root != null) {
+                stack[depth++] = root;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == leaf.length) {
+                if (depth == 0) {
+                    return false;
+                }
+                Node node = stack[--depth];
+                while (node instanceof Branch) {
+                    stack[depth++] = ((Branch) node).right;
+                    node = ((Branch) node).left;
+                }
+                leaf = ((Leaf) node).values;
+                next = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public JsonValue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return leaf[next++];
+        }
+    }
+}
@@ -0,0 +1,621 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonPersistentObject;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+import java.io.StringWriter;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * JsonPersistentObject impl. The members are kept in a hash array mapped
+ * trie, that maps a name to its member with {@code 5} bits of the hash of
+ * the name per level, and in an AVL tree ordered by the sequence numbers
+ * of the members, which keeps the insertion order. An update copies the
+ * nodes on the path to the member in both, the other nodes are shared
+ * with the previous version.
+ */
+final class JsonPersistentObjectImpl extends AbstractMap<String, JsonValue> implements JsonPersistentObject {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final BitmapNode EMPTY_NODE = new BitmapNode(0, new Object[0]);
+
+    private final BitmapNode members;
+    private final Order order;      // null if the object is empty
+    private final int size;
+    private final int nextSeq;      // sequence number of the next new member
+    private final BufferPool bufferPool;
+    private Set<Entry<String, JsonValue>> entrySet;
+
+    private JsonPersistentObjectImpl(BitmapNode members, Order order, int size, int nextSeq,
+            BufferPool bufferPool) {
+        this.members = members;
+        this.order = order;
+        this.size = size;
+        this.nextSeq = nextSeq;
+        this.bufferPool = bufferPool;
+    }
+
+    // Converts the object, and the objects and arrays in it
+    static JsonPersistentObject of(JsonObject object, BufferPool bufferPool) {
+        if (object instanceof JsonPersistentObject) {
+            return (JsonPersistentObject) object;
+        }
+        Member[] ordered = new Member[object.size()];
+        Object node = EMPTY_NODE;
+        int seq = 0;
+        for (Entry<String, JsonValue> e : object.entrySet()) {
+            String name = e.getKey();
+            Member member = new Member(name, persistent(e.getValue(), bufferPool), hash(name), seq);
+            ordered[seq++] = member;
+            node = put(node, 0, member);
+        }
+        return new JsonPersistentObjectImpl((BitmapNode) node, build(ordered, 0, seq),
+                seq, seq, bufferPool);
+    }
+
+    // Converts the objects and the arrays, other values are returned
+    static JsonValue persistent(JsonValue value, BufferPool bufferPool) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                return of((JsonObject) value, bufferPool);
+            case ARRAY:
+                return JsonPersistentArrayImpl.of((JsonArray) value, bufferPool);
+            default:
+                return value;
+        }
+    }
+
+    @Override
+    public JsonPersistentObject with(String name, JsonValue value) {
+        validateName(name);
+        if (value == null) {
+            throw new NullPointerException(JsonMessages.OBJBUILDER_VALUE_NULL());
+        }
+        int hash = hash(name);
+        Member old = find(members, hash, name);
+        if (old == null) {
+            Member member = new Member(name, value, hash, nextSeq);
+            return new JsonPersistentObjectImpl((BitmapNode) put(members, 0, member),
+                    append(order, member), size + 1, nextSeq + 1, bufferPool);
+        }
+        if (old.getValue() == value) {
+            return this;
+        }
+        Member member = new Member(name, value, hash, old.seq);
+        return new JsonPersistentObjectImpl((BitmapNode) put(members, 0, member),
+                replace(order, member), size, nextSeq, bufferPool);
+    }
+
+    @Override
+    public JsonPersistentObject without(String name) {
+        validateName(name);
+        Member old = find(members, hash(name), name);
+        if (old == null) {
+            return this;
+        }
+        return new JsonPersistentObjectImpl((BitmapNode) remove(members, 0, old),
+                remove(order, old.seq), size - 1, nextSeq, bufferPool);
+    }
+
+    @Override
+    public JsonArray getJsonArray(String name) {
+        return (JsonArray)get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(String name) {
+        return (JsonObject)get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(String name) {
+        return (JsonNumber)get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(String name) {
+        return (JsonString)get(name);
+    }
+
+    @Override
+    public String getString(String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(String name, String defaultValue) {
+        try {
+            return getString(name);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public int getInt(String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(String name, int defaultValue) {
+        try {
+            return getInt(name);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String name) {
+        JsonValue value = get(name);
+        if (value == null) {
+            throw new NullPointerException();
+        } else if (value == JsonValue.TRUE) {
+            return true;
+        } else if (value == JsonValue.FALSE) {
+            return false;
+        } else {
+            throw new ClassCastException();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String name, boolean defaultValue) {
+        try {
+            return getBoolean(name);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean isNull(String name) {
+        return get(name).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        Set<Entry<String, JsonValue>> es = entrySet;
+        if (es == null) {
+            es = entrySet = new AbstractSet<Entry<String, JsonValue>>() {
+                @Override
+                public Iterator<Entry<String, JsonValue>> iterator() {
+                    return new Members();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return es;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super JsonValue> action) {
+        forEach(order, action);
+    }
+
+    @Override
+    public String toString() {
+        StringWriter sw = new StringWriter();
+        try (JsonWriter jw = new JsonWriterImpl(sw, bufferPool)) {
+            jw.write(this);
+        }
+        return sw.toString();
+    }
+
+    @Override
+    public JsonObject asJsonObject() {
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public JsonValue get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        Member member = find(members, hash((String) key), (String) key);
+        return member != null ? member.getValue() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && find(members, hash((String) key), (String) key) != null;
+    }
+
+    @Override
+    public JsonValue remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends JsonValue> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static void validateName(String name) {
+        if (name == null) {
+            throw new NullPointerException(JsonMessages.OBJBUILDER_NAME_NULL());
+        }
+    }
+
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    // Trie of the members. A node is a BitmapNode or, for the members
+    // whose names have the same hash, a Collision
+
+    private static Member find(BitmapNode root, int hash, String name) {
+        Object node = root;
+        for (int shift = 0; node instanceof BitmapNode; shift += BITS) {
+            BitmapNode bitmapNode = (BitmapNode) node;
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmapNode.bitmap & bit) == 0) {
+                return null;
+            }
+            node = bitmapNode.slots[Integer.bitCount(bitmapNode.bitmap & (bit - 1))];
+            if (node instanceof Member) {
+                Member member = (Member) node;
+                return member.hash == hash && member.getKey().equals(name) ? member : null;
+            }
+        }
+        Collision collision = (Collision) node;
+        if (collision.hash == hash) {
+            for (Member member : collision.members) {
+                if (member.getKey().equals(name)) {
+                    return member;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Adds the member or replaces the member with the same name
+    private static Object put(Object node, int shift, Member member) {
+        if (node instanceof Collision) {
+            Collision collision = (Collision) node;
+            if (collision.hash != member.hash) {
+                return pair(collision, collision.hash, member, shift);
+            }
+            Member[] old = collision.members;
+            for (int i = 0; i < old.length; i++) {
+                if (old[i].getKey().equals(member.getKey())) {
+                    Member[] members = old.clone();
+                    members[i] = member;
+                    return new Collision(collision.hash, members);
+                }
+            }
+            Member[] members = new Member[old.length + 1];
+            System.arraycopy(old, 0, members, 0, old.length);
+            members[old.length] = member;
+            return new Collision(collision.hash, members);
+        }
+        BitmapNode bitmapNode = (BitmapNode) node;
+        int bit = 1 << ((member.hash >>> shift) & MASK);
+        int i = Integer.bitCount(bitmapNode.bitmap & (bit - 1));
+        Object[] old = bitmapNode.slots;
+        if ((bitmapNode.bitmap & bit) == 0) {
+            Object[] slots = new Object[old.length + 1];
+            System.arraycopy(old, 0, slots, 0, i);
+            slots[i] = member;
+            System.arraycopy(old, i, slots, i + 1, old.length - i);
+            return new BitmapNode(bitmapNode.bitmap | bit, slots);
+        }
+        Object slot = old[i];
+        Object replacement;
+        if (slot instanceof Member) {
+            Member existing = (Member) slot;
+            replacement = existing.getKey().equals(member.getKey())
+                    ? member
+                    : pair(existing, existing.hash, member, shift + BITS);
+        } else {
+            replacement = put(slot, shift + BITS, member);
+        }
+        Object[] slots = old.clone();
+        slots[i] = replacement;
+        return new BitmapNode(bitmapNode.bitmap, slots);
+    }
+
+    // A node with the member or collision, whose hash is given, and the
+    // other member
+    private static Object pair(Object first, int hash, Member member, int shift) {
+        if (hash == member.hash) {
+            return new Collision(hash, new Member[] { (Member) first, member });
+        }
+        int fragment = (hash >>> shift) & MASK;
+        int other = (member.hash >>> shift) & MASK;
+        if (fragment == other) {
+            return new BitmapNode(1 << fragment,
+                    new Object[] { pair(first, hash, member, shift + BITS) });
+        }
+        return new BitmapNode((1 << fragment) | (1 << other), fragment < other
+                ? new Object[] { first, member }
+                : new Object[] { member, first });
+    }
+
+    // Removes the member, which is in the node. Returns null if the node
+    // is empty then, or the single member that is left in it, which the
+    // parent keeps in place of the node. The root stays a BitmapNode
+    private static Object remove(Object node, int shift, Member member) {
+        if (node instanceof Collision) {
+            Collision collision = (Collision) node;
+            Member[] old = collision.members;
+            if (old.length == 2) {
+                return old[0] == member ? old[1] : old[0];
+            }
+            Member[] members = new Member[old.length - 1];
+            int j = 0;
+            for (Member m : old) {
+                if (m != member) {
+                    members[j++] = m;
+                }
+            }
+            return new Collision(collision.hash, members);
+        }
+        BitmapNode bitmapNode = (BitmapNode) node;
+        int bit = 1 << ((member.hash >>> shift) & MASK);
+        int i = Integer.bitCount(bitmapNode.bitmap & (bit - 1));
+        Object[] old = bitmapNode.slots;
+        Object slot = old[i];
+        Object replacement = slot instanceof Member ? null : remove(slot, shift + BITS, member);
+        if (replacement == null) {
+            if (old.length == 1) {
+                return shift == 0 ? EMPTY_NODE : null;
+            }
+            if (old.length == 2 && shift > 0 && old[1 - i] instanceof Member) {
+                return old[1 - i];
+            }
+            Object[] slots = new Object[old.length - 1];
+            System.arraycopy(old, 0, slots, 0, i);
+            System.arraycopy(old, i + 1, slots, i, slots.length - i);
+            return new BitmapNode(bitmapNode.bitmap & ~bit, slots);
+        }
+        if (replacement instanceof Member && old.length == 1 && shift > 0) {
+            return replacement;
+        }
+        Object[] slots = old.clone();
+        slots[i] = replacement;
+        return new BitmapNode(bitmapNode.bitmap, slots);
+    }
+
+    // AVL tree of the members ordered by their sequence numbers
+
+    private static int height(Order node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static Order build(Member[] members, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Order(build(members, from, mid), members[mid], build(members, mid + 1, to));
+    }
+
+    // Joins two subtrees whose heights differ by 2 at the most
+    private static Order balance(Order left, Member member, Order right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Order(left.left, left.member, new Order(left.right, member, right));
+            }
+            Order lr = left.right;
+            return new Order(new Order(left.left, left.member, lr.left), lr.member,
+                    new Order(lr.right, member, right));
+        }
+        if (diff < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Order(new Order(left, member, right.left), right.member, right.right);
+            }
+            Order rl = right.left;
+            return new Order(new Order(left, member, rl.left), rl.member,
+                    new Order(rl.right, right.member, right.right));
+        }
+        return new Order(left, member, right);
+    }
+
+    // The member has the greatest sequence number
+    private static Order append(Order node, Member member) {
+        if (node == null) {
+            return new Order(null, member, null);
+        }
+        return balance(node.left, node.member, append(node.right, member));
+    }
+
+    private static Order replace(Order node, Member member) {
+        if (member.seq < node.member.seq) {
+            return new Order(replace(node.left, member), node.member, node.right);
+        }
+        if (member.seq > node.member.seq) {
+            return new Order(node.left, node.member, replace(node.right, member));
+        }
+        return new Order(node.left, member, node.right);
+    }
+
+    private static Order remove(Order node, int seq) {
+        if (seq < node.member.seq) {
+            return balance(remove(node.left, seq), node.member, node.right);
+        }
+        if (seq > node.member.seq) {
+            return balance(node.left, node.member, remove(node.right, seq));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Order first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(node.left, first.member, removeFirst(node.right));
+    }
+
+    private static Order removeFirst(Order node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeFirst(node.left), node.member, node.right);
+    }
+
+    private static void forEach(Order node, BiConsumer<? super String, ? super JsonValue> action) {
+        while (node != null) {
+            forEach(node.left, action);
+            action.accept(node.member.getKey(), node.member.getValue());
+            node = node.right;
+        }
+    }
+
+    private static final class Member extends SimpleImmutableEntry<String, JsonValue> {
+        private static final long serialVersionUID = 1L;
+
+        final int hash;
+        final int seq;
+
+        Member(String name, JsonValue value, int hash, int seq) {
+            super(name, value);
+            this.hash = hash;
+            this.seq = seq;
+        }
+    }
+
+    private static final class BitmapNode {
+        final int bitmap;
+        final Object[] slots;   // members and nodes
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    private static final class Collision {
+        final int hash;
+        final Member[] members;
+
+        Collision(int hash, Member[] members) {
+            this.hash = hash;
+            this.members = members;
+        }
+    }
+
+    private static final class Order {
+        final Order left;
+        final Member member;
+        final Order right;
+        final int height;
+
+        Order(Order left, Member member, Order right) {
+            this.left = left;
+            this.member = member;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    // Iterates the members in insertion order, the stack has the members
+    // whose left subtrees are visited
+    private final class Members implements Iterator<Entry<String, JsonValue>> {
+        private final Order[] stack = new Order[height(order)];
+        private int depth;
+
+        Members() {
+            push(order);
+        }
+
+        private void push(Order node) {
+            for (; node != null; node = node.left) {
+                stack[depth++] = node;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public Entry<String, JsonValue> next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Order node = stack[--depth];
+            push(node.right);
+            return node.member;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.JsonPointerBatch;
+
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * JsonPointerBatch impl. Each node of the trie is a reference token of
+ * the pointers, with the array index of the token parsed by
+ * {@link JsonPointerImpl}. A node applies its token to the value of its
+ * parent node, whether it is an object or an array, and the nodes below
+ * a value that does not exist are not visited.
+ */
+final class JsonPointerBatchImpl implements JsonPointerBatch {
+
+    private static final int[] NO_POINTERS = new int[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Node root = new Node(null, -1);
+    private final int size;
+
+    /**
+     * @param pointers the pointers, see {@link JsonPointerImpl#of(Object)}
+     * @throws JsonException if a pointer is not valid
+     */
+    JsonPointerBatchImpl(Collection<?> pointers) {
+        int id = 0;
+        for (Object pointer : pointers) {
+            JsonPointerImpl impl = JsonPointerImpl.of(pointer);
+            String[] tokens = impl.getTokens();
+            Node node = root;
+            for (int i = 1; i < tokens.length; i++) {
+                node = node.child(tokens[i], index(impl, i));
+            }
+            node.pointers = Arrays.copyOf(node.pointers, node.pointers.length + 1);
+            node.pointers[node.pointers.length - 1] = id++;
+        }
+        this.size = id;
+    }
+
+    // -1 if the token is not an index of an array element
+    private static int index(JsonPointerImpl pointer, int i) {
+        try {
+            return pointer.index(i);
+        } catch (JsonException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public JsonValue[] getValues(JsonStructure target) {
+        JsonValue[] values = new JsonValue[size];
+        getValues(target, values);
+        return values;
+    }
+
+    @Override
+    public void getValues(JsonStructure target, JsonValue[] values) {
+        if (target == null) {
+            throw new NullPointerException();
+        }
+        if (values.length < size) {
+            throw new IllegalArgumentException(JsonMessages.POINTER_BATCH_VALUES_SHORT(values.length, size));
+        }
+        Arrays.fill(values, 0, size, null);
+        evaluate(root, target, values);
+    }
+
+    private static void evaluate(Node node, JsonValue value, JsonValue[] values) {
+        for (int pointer : node.pointers) {
+            values[pointer] = value;
+        }
+        Node[] children = node.children;
+        if (children.length == 0) {
+            return;
+        }
+        switch (value.getValueType()) {
+            case OBJECT:
+                JsonObject object = (JsonObject) value;
+                for (Node child : children) {
+                    JsonValue member = object.get(child.token);
+                    if (member != null) {
+                        evaluate(child, member, values);
+                    }
+                }
+                break;
+            case ARRAY:
+                JsonArray array = (JsonArray) value;
+                int size = array.size();
+                for (Node child : children) {
+                    if (child.index >= 0 && child.index < size) {
+                        evaluate(child, array.get(child.index), values);
+                    }
+                }
+                break;
+            default:
+                // a number, string or literal has no values below it
+        }
+    }
+
+    private static final class Node {
+        final String token;
+        final int index;
+        int[] pointers = NO_POINTERS;   // the pointers that end at this node
+        Node[] children = NO_NODES;
+
+        Node(String token, int index) {
+            this.token = token;
+            this.index = index;
+        }
+
+        Node child(String token, int index) {
+            for (Node child : children) {
+                if (child.token.equals(token)) {
+                    return child;
+                }
+            }
+            Node child = new Node(token, index);
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+
+import javax.json.JsonException;
+import javax.json.JsonPointer;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser.Event;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads only the values selected by a set of JSON Pointers.
+ *
+ * <p>The reference tokens of the pointers are merged into a trie. While the
+ * parser streams through the document, a member or an element is read only
+ * if it is on the path to a selected value, and the other values are
+ * skipped with {@link JsonParserImpl#skipObject()} and
+ * {@link JsonParserImpl#skipArray()}. The result keeps the shape of the
+ * document, so that the same pointers can be applied to it: the objects
+ * on the paths have only the members that lead to a selected value, and
+ * the arrays have {@code null} in place of the skipped elements, up to the
+ * last selected index.
+ *
+ * <p>The filter is immutable and can be shared by the readers of a factory.
+ */
+final class JsonPointerFilter {
+
+    private final Node root = new Node();
+    private final BufferPool bufferPool;
+    private final boolean relaxedSkipping;
+
+    /**
+     * @param pointers the pointers, see {@link JsonPointerImpl#of(Object)}
+     * @param relaxedSkipping whether the skipped values are only scanned
+     *                 for the nesting and the strings
+     * @throws JsonException if a pointer is not valid
+     */
+    JsonPointerFilter(Collection<?> pointers, BufferPool bufferPool, boolean relaxedSkipping) {
+        this.bufferPool = bufferPool;
+        this.relaxedSkipping = relaxedSkipping;
+        for (Object pointer : pointers) {
+            JsonPointerImpl impl = JsonPointerImpl.of(pointer);
+            String[] tokens = impl.getTokens();
+            Node node = root;
+            for (int i = 1; i < tokens.length; i++) {
+                node = node.child(tokens[i]);
+            }
+            node.selected = true;
+        }
+    }
+
+    /**
+     * Reads the value that the parser has just started.
+     *
+     * @param parser parser positioned at the first event of the value
+     * @param e the current event of the parser
+     * @return the value with only the selected parts. A number, string or
+     *         literal at the root is returned as is
+     */
+    JsonValue read(JsonParserImpl parser, Event e) {
+        parser.setRelaxedSkipping(relaxedSkipping);
+        JsonValue value = value(root, parser, e);
+        return value == null ? parser.getValue() : value;
+    }
+
+    // null if the value is neither selected nor a container on a selected path
+    private JsonValue value(Node node, JsonParserImpl parser, Event e) {
+        if (node.selected) {
+            return parser.getValue();
+        }
+        switch (e) {
+            case START_OBJECT:
+                return object(node, parser);
+            case START_ARRAY:
+                return array(node, parser);
+            default:
+                return null;
+        }
+    }
+
+    private JsonValue object(Node node, JsonParserImpl parser) {
+        JsonObjectBuilderImpl builder = new JsonObjectBuilderImpl(bufferPool);
+        while (parser.next() != Event.END_OBJECT) {
+            String name = parser.getString();
+            Event e = parser.next();
+            Node member = node.members == null ? null : node.members.get(name);
+            if (member == null) {
+                skip(parser, e);
+            } else {
+                JsonValue value = value(member, parser, e);
+                if (value != null) {
+                    builder.add(name, value);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private JsonValue array(Node node, JsonParserImpl parser) {
+        JsonArrayBuilderImpl builder = new JsonArrayBuilderImpl(bufferPool);
+        int selected = 0;       // next one in node.indices
+        int index = 0;
+        while (selected < node.size) {
+            Event e = parser.next();
+            if (e == Event.END_ARRAY) {
+                return builder.build();
+            }
+            JsonValue value = null;
+            if (node.indices[selected] == index) {
+                value = value(node.elements[selected++], parser, e);
+            } else {
+                skip(parser, e);
+            }
+            builder.add(value == null ? JsonValue.NULL : value);
+            index++;
+        }
+        // past the last selected element
+        parser.skipArray();
+        return builder.build();
+    }
+
+    private static void skip(JsonParserImpl parser, Event e) {
+        if (e == Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (e == Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    // Trie node for a reference token. The same child is used whether the
+    // token is applied to an object or, if it is an index, to an array
+    private static final class Node {
+        boolean selected;
+        Map<String, Node> members;
+        // sorted array indices and their children
+        int[] indices = new int[0];
+        Node[] elements = new Node[0];
+        int size;
+
+        Node child(String token) {
+            if (members == null) {
+                members = new HashMap<>();
+            }
+            Node node = members.get(token);
+            if (node == null) {
+                node = new Node();
+                members.put(token, node);
+                int index = index(token);
+                if (index >= 0) {
+                    int i = -Arrays.binarySearch(indices, 0, size, index) - 1;
+                    indices = Arrays.copyOf(indices, size+1);
+                    elements = Arrays.copyOf(elements, size+1);
+                    System.arraycopy(indices, i, indices, i+1, size-i);
+                    System.arraycopy(elements, i, elements, i+1, size-i);
+                    indices[i] = index;
+                    elements[i] = node;
+                    size++;
+                }
+            }
+            return node;
+        }
+
+        // Array index of the token, or -1. Only the canonical form is an
+        // index, a token like "01" selects nothing in an array
+        private static int index(String token) {
+            try {
+                int index = JsonPointerImpl.getIndex(token);
+                return Integer.toString(index).equals(token) ? index : -1;
+            } catch (JsonException e) {
+                return -1;
+            }
+        }
+    }
+
+}
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2015-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -46,6 +46,8 @@ import javax.json.JsonObject;
 import javax.json.JsonPointer;
 import javax.json.JsonStructure;
 import javax.json.JsonValue;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.function.BiFunction;
 
@@ -74,8 +76,15 @@ import java.util.function.BiFunction;
 public final class JsonPointerImpl implements JsonPointer, Serializable {
 
     private static final long serialVersionUID = -8123110179640843141L;
+
+    // Pre-parsed index of a token that is not an array index, index()
+    // throws the error of getIndex() for it
+    private static final int INVALID_INDEX = Integer.MIN_VALUE;
+
     private final String[] tokens;
     private final String jsonPointer;
+    // The array indexes of the tokens, -1 for "-"
+    private transient int[] indexes;
 
     /**
      * Constructs and initializes a JsonPointerImpl.
@@ -85,27 +94,86 @@ public final class JsonPointerImpl implements JsonPointer, Serializable {
      */
     public JsonPointerImpl(String jsonPointer) {
         this.jsonPointer = jsonPointer;
-        tokens = jsonPointer.split("/", -1);  // keep the trailing blanks
-        if (! "".equals(tokens[0])) {
+        int length = jsonPointer.length();
+        if (length > 0 && jsonPointer.charAt(0) != '/') {
             throw new JsonException(JsonMessages.POINTER_FORMAT_INVALID());
         }
-        for (int i = 1; i < tokens.length; i++) {
-            String token = tokens[i];
-            StringBuilder reftoken = new StringBuilder();
-            for (int j = 0; j < token.length(); j++) {
-                char ch = token.charAt(j);
-                if (ch == '~' && j < token.length() - 1) {
-                    char ch1 = token.charAt(j+1);
-                    if (ch1 == '0') {
-                        ch = '~'; j++;
-                    } else if (ch1 == '1') {
-                        ch = '/'; j++;
-                    }
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            if (jsonPointer.charAt(i) == '/') {
+                count++;
+            }
+        }
+        tokens = new String[count];
+        tokens[0] = "";
+        int begin = 1;
+        for (int i = 1; i < count; i++) {
+            int end = jsonPointer.indexOf('/', begin);
+            if (end == -1) {
+                end = length;
+            }
+            tokens[i] = unescape(jsonPointer, begin, end);
+            begin = end + 1;
+        }
+        indexes = parseIndexes(tokens);
+    }
+
+    /**
+     * Returns the JSON Pointer selected for a filter or a batch.
+     * @param pointer a JSON Pointer string, or a {@code JsonPointer} created
+     *                by this provider
+     * @return the JSON Pointer
+     * @throws JsonException if {@code pointer} is not a valid JSON Pointer
+     */
+    static JsonPointerImpl of(Object pointer) {
+        if (pointer instanceof JsonPointerImpl) {
+            return (JsonPointerImpl) pointer;
+        }
+        if (pointer instanceof String) {
+            return new JsonPointerImpl((String) pointer);
+        }
+        throw new JsonException(JsonMessages.POINTER_SELECTION_INVALID(pointer));
+    }
+
+    // Reference token of the chars between begin and end. "~0" is '~'
+    // and "~1" is '/', any other '~' is kept as it is
+    private static String unescape(String pointer, int begin, int end) {
+        int tilde = pointer.indexOf('~', begin);
+        if (tilde == -1 || tilde >= end) {
+            return pointer.substring(begin, end);
+        }
+        StringBuilder reftoken = new StringBuilder(end - begin);
+        reftoken.append(pointer, begin, tilde);
+        for (int j = tilde; j < end; j++) {
+            char ch = pointer.charAt(j);
+            if (ch == '~' && j < end - 1) {
+                char ch1 = pointer.charAt(j+1);
+                if (ch1 == '0') {
+                    ch = '~'; j++;
+                } else if (ch1 == '1') {
+                    ch = '/'; j++;
                 }
-                reftoken.append(ch);
             }
-            tokens[i] = reftoken.toString();
+            reftoken.append(ch);
+        }
+        return reftoken.toString();
+    }
+
+    private static int[] parseIndexes(String[] tokens) {
+        int[] indexes = new int[tokens.length];
+        for (int i = 1; i < tokens.length; i++) {
+            try {
+                indexes[i] = getIndex(tokens[i]);
+            } catch (JsonException e) {
+                indexes[i] = INVALID_INDEX;
+            }
         }
+        return indexes;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        indexes = parseIndexes(tokens);
     }
 
     /**
@@ -142,8 +210,20 @@ public final class JsonPointerImpl implements JsonPointer, Serializable {
      */
     @Override
     public boolean containsValue(JsonStructure target) {
-        NodeReference[] refs = getReferences(target);
-        return refs[0].contains();
+        if (tokens.length == 1) {
+            return target != null;
+        }
+        JsonValue parent = getParent(target);
+        int last = tokens.length - 1;
+        switch (parent.getValueType()) {
+            case OBJECT:
+                return ((JsonObject) parent).containsKey(tokens[last]);
+            case ARRAY:
+                int index = index(last);
+                return index > -1 && index < ((JsonArray) parent).size();
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(parent.getValueType()));
+        }
     }
 
     /**
@@ -156,8 +236,28 @@ public final class JsonPointerImpl implements JsonPointer, Serializable {
      */
     @Override
     public JsonValue getValue(JsonStructure target) {
-        NodeReference[] refs = getReferences(target);
-        return refs[0].get();
+        if (tokens.length == 1) {
+            return target;
+        }
+        JsonValue parent = getParent(target);
+        int last = tokens.length - 1;
+        switch (parent.getValueType()) {
+            case OBJECT:
+                JsonValue value = ((JsonObject) parent).get(tokens[last]);
+                if (value == null) {
+                    throw new JsonException(JsonMessages.NODEREF_OBJECT_MISSING(tokens[last]));
+                }
+                return value;
+            case ARRAY:
+                int index = index(last);
+                JsonArray array = (JsonArray) parent;
+                if (index < 0 || index >= array.size()) {
+                    throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
+                }
+                return array.get(index);
+            default:
+                throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(parent.getValueType()));
+        }
     }
 
     /**
@@ -220,6 +320,52 @@ public final class JsonPointerImpl implements JsonPointer, Serializable {
         return execute((r,v)->r.remove(), target, null);
     }
 
+    // The reference tokens, the first one is the empty string before the
+    // first '/'. Callers must not modify the array
+    String[] getTokens() {
+        return tokens;
+    }
+
+    // The array index of the token i, -1 for "-"
+    int index(int i) {
+        int index = indexes[i];
+        return index != INVALID_INDEX ? index : getIndex(tokens[i]);
+    }
+
+    /**
+     * Walks the target to the container of the last reference token,
+     * without creating the references of {@link #getReferences}. The
+     * errors are the same.
+     */
+    private JsonValue getParent(JsonStructure target) {
+        JsonValue value = target;
+        for (int i = 1; i < tokens.length - 1; i++) {
+            switch (value.getValueType()) {
+                case OBJECT:
+                    JsonObject object = (JsonObject) value;
+                    value = object.get(tokens[i]);
+                    if (value == null) {
+                        throw new JsonException(JsonMessages.POINTER_MAPPING_MISSING(object, tokens[i]));
+                    }
+                    break;
+                case ARRAY:
+                    int index = index(i);
+                    JsonArray array = (JsonArray) value;
+                    // "-" keeps the array, as getReferences() does
+                    if (index != -1) {
+                        if (index >= array.size()) {
+                            throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
+                        }
+                        value = array.get(index);
+                    }
+                    break;
+                default:
+                    throw new JsonException(JsonMessages.POINTER_REFERENCE_INVALID(value.getValueType()));
+            }
+        }
+        return value;
+    }
+
     /**
      * Executes the operation
      * @param op a {code BiFunction} used to specify the operation to execute on
@@ -269,7 +415,7 @@ public final class JsonPointerImpl implements JsonPointer, Serializable {
                     }
                     break;
                 case ARRAY:
-                    int index = getIndex(tokens[i]);
+                    int index = index(i);
                     JsonArray array = (JsonArray) value;
                     references[s-i-1] = NodeReference.of(array, index);
                     if (i < s-1 && index != -1) {
@@ -294,7 +440,7 @@ public final class JsonPointerImpl implements JsonPointer, Serializable {
      * @return the array index. -1 if the token is "-"
      * @throws JsonException if the string token is not in correct format
      */
-    static private int getIndex(String token) {
+    static int getIndex(String token) {
         if (token == null || token.length() == 0) {
             throw new JsonException(JsonMessages.POINTER_ARRAY_INDEX_ERR(token));
         }
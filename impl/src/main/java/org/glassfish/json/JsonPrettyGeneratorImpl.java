@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,6 +41,7 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.PreparedName;
 
 import javax.json.stream.JsonGenerator;
 import java.io.OutputStream;
@@ -66,6 +67,10 @@ public class JsonPrettyGeneratorImpl extends JsonGeneratorImpl {
         super(out, encoding, bufferPool);
     }
 
+    JsonPrettyGeneratorImpl(JsonOutput output, JsonEscapes escapes) {
+        super(output, escapes);
+    }
+
     @Override
     public JsonGenerator writeStartObject() {
         super.writeStartObject();
@@ -94,6 +99,20 @@ public class JsonPrettyGeneratorImpl extends JsonGeneratorImpl {
         return this;
     }
 
+    @Override
+    public JsonGenerator writeStartObject(PreparedName name) {
+        super.writeStartObject(name);
+        indentLevel++;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(PreparedName name) {
+        super.writeStartArray(name);
+        indentLevel++;
+        return this;
+    }
+
     @Override
     public JsonGenerator writeEnd() {
         writeNewLine();
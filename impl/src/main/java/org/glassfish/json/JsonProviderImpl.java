@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,6 +41,9 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.JsonPointerBatch;
+import org.glassfish.json.api.JsonPointerBatchFactory;
 
 import javax.json.*;
 import javax.json.stream.JsonGenerator;
@@ -55,6 +58,7 @@ import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -64,7 +68,11 @@ import java.math.BigInteger;
  * @author Kin-man Chung
  * @author Alex Soto
  */
-public class JsonProviderImpl extends JsonProvider {
+public class JsonProviderImpl extends JsonProvider implements JsonPointerBatchFactory {
+
+    // Provider of the builders, readers and pointers that the impl classes
+    // create for themselves. Json.* would resolve a provider for each one
+    static final JsonProviderImpl INTERNAL = new JsonProviderImpl();
 
     private final BufferPool bufferPool = new BufferPoolImpl();
 
@@ -97,23 +105,35 @@ public class JsonProviderImpl extends JsonProvider {
         if (pool == null) {
             pool = bufferPool;
         }
-        return new JsonParserFactoryImpl(pool);
+        boolean canonicalizeKeys = config != null && isCanonicalizeKeysEnabled(config);
+        boolean relaxedSkipping = config != null && isRelaxedSkippingEnabled(config);
+        Map<String, Object> providerConfig = new HashMap<>();
+        if (canonicalizeKeys) {
+            providerConfig.put(JsonConfig.CANONICALIZE_KEYS, true);
+        }
+        if (relaxedSkipping) {
+            providerConfig.put(JsonConfig.RELAXED_SKIPPING, true);
+        }
+        return new JsonParserFactoryImpl(providerConfig, pool, canonicalizeKeys, relaxedSkipping);
     }
 
     @Override
     public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
         Map<String, Object> providerConfig;
         boolean prettyPrinting;
+        JsonEscapes escapes;
         BufferPool pool;
         if (config == null) {
             providerConfig = Collections.emptyMap();
             prettyPrinting = false;
+            escapes = JsonEscapes.DEFAULT;
             pool = bufferPool;
         } else {
             providerConfig = new HashMap<>();
             if (prettyPrinting=JsonProviderImpl.isPrettyPrintingEnabled(config)) {
                 providerConfig.put(JsonGenerator.PRETTY_PRINTING, true);
             }
+            escapes = getEscapes(config, providerConfig);
             pool = (BufferPool)config.get(BufferPool.class.getName());
             if (pool != null) {
                 providerConfig.put(BufferPool.class.getName(), pool);
@@ -123,7 +143,7 @@ public class JsonProviderImpl extends JsonProvider {
             providerConfig = Collections.unmodifiableMap(providerConfig);
         }
 
-        return new JsonGeneratorFactoryImpl(providerConfig, prettyPrinting, pool);
+        return new JsonGeneratorFactoryImpl(providerConfig, prettyPrinting, escapes, pool);
     }
 
     @Override
@@ -150,16 +170,19 @@ public class JsonProviderImpl extends JsonProvider {
     public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
         Map<String, Object> providerConfig;
         boolean prettyPrinting;
+        JsonEscapes escapes;
         BufferPool pool;
         if (config == null) {
             providerConfig = Collections.emptyMap();
             prettyPrinting = false;
+            escapes = JsonEscapes.DEFAULT;
             pool = bufferPool;
         } else {
             providerConfig = new HashMap<>();
             if (prettyPrinting=JsonProviderImpl.isPrettyPrintingEnabled(config)) {
                 providerConfig.put(JsonGenerator.PRETTY_PRINTING, true);
             }
+            escapes = getEscapes(config, providerConfig);
             pool = (BufferPool)config.get(BufferPool.class.getName());
             if (pool != null) {
                 providerConfig.put(BufferPool.class.getName(), pool);
@@ -168,7 +191,7 @@ public class JsonProviderImpl extends JsonProvider {
             }
             providerConfig = Collections.unmodifiableMap(providerConfig);
         }
-        return new JsonWriterFactoryImpl(providerConfig, prettyPrinting, pool);
+        return new JsonWriterFactoryImpl(providerConfig, prettyPrinting, escapes, pool);
     }
 
     @Override
@@ -180,7 +203,26 @@ public class JsonProviderImpl extends JsonProvider {
         if (pool == null) {
             pool = bufferPool;
         }
-        return new JsonReaderFactoryImpl(pool);
+        boolean canonicalizeKeys = config != null && isCanonicalizeKeysEnabled(config);
+        boolean lazy = config != null && isLazyReadingEnabled(config);
+        boolean relaxedSkipping = config != null && isRelaxedSkippingEnabled(config);
+        Map<String, Object> providerConfig = new HashMap<>();
+        if (canonicalizeKeys) {
+            providerConfig.put(JsonConfig.CANONICALIZE_KEYS, true);
+        }
+        if (relaxedSkipping) {
+            providerConfig.put(JsonConfig.RELAXED_SKIPPING, true);
+        }
+        if (lazy) {
+            providerConfig.put(JsonConfig.LAZY_READING, true);
+        }
+        Collection<?> selectedPointers = null;
+        if (config != null && config.get(JsonConfig.SELECTED_POINTERS) instanceof Collection) {
+            selectedPointers = (Collection<?>) config.get(JsonConfig.SELECTED_POINTERS);
+            providerConfig.put(JsonConfig.SELECTED_POINTERS, selectedPointers);
+        }
+        return new JsonReaderFactoryImpl(providerConfig, pool, canonicalizeKeys, lazy,
+                selectedPointers, relaxedSkipping);
     }
 
     @Override
@@ -213,11 +255,21 @@ public class JsonProviderImpl extends JsonProvider {
         return new JsonArrayBuilderImpl(collection, bufferPool);
     }
 
+    // Builds the array of the values, the list is not copied
+    JsonArray createArray(List<JsonValue> values) {
+        return JsonArrayBuilderImpl.of(values, bufferPool);
+    }
+
     @Override
     public JsonPointer createPointer(String jsonPointer) {
         return new JsonPointerImpl(jsonPointer);
     }
 
+    @Override
+    public JsonPointerBatch createPointerBatch(Collection<?> pointers) {
+        return new JsonPointerBatchImpl(pointers);
+    }
+
     @Override
     public JsonPatchBuilder createPatchBuilder() {
         return new JsonPatchBuilderImpl();
@@ -293,4 +345,47 @@ public class JsonProviderImpl extends JsonProvider {
     static boolean isPrettyPrintingEnabled(Map<String, ?> config) {
         return config.containsKey(JsonGenerator.PRETTY_PRINTING);
     }
+
+    static boolean isEscapeNonAsciiEnabled(Map<String, ?> config) {
+        return config.containsKey(JsonConfig.ESCAPE_NON_ASCII);
+    }
+
+    static boolean isEscapeHtmlEnabled(Map<String, ?> config) {
+        return config.containsKey(JsonConfig.ESCAPE_HTML);
+    }
+
+    static boolean isEscapeClosingTagsEnabled(Map<String, ?> config) {
+        return config.containsKey(JsonConfig.ESCAPE_CLOSING_TAGS);
+    }
+
+    // Escape modes of the generator and writer factories, also added
+    // to the config in use
+    private static JsonEscapes getEscapes(Map<String, ?> config,
+            Map<String, Object> providerConfig) {
+        boolean escapeNonAscii = isEscapeNonAsciiEnabled(config);
+        if (escapeNonAscii) {
+            providerConfig.put(JsonConfig.ESCAPE_NON_ASCII, true);
+        }
+        boolean escapeHtml = isEscapeHtmlEnabled(config);
+        if (escapeHtml) {
+            providerConfig.put(JsonConfig.ESCAPE_HTML, true);
+        }
+        boolean escapeClosingTags = isEscapeClosingTagsEnabled(config);
+        if (escapeClosingTags) {
+            providerConfig.put(JsonConfig.ESCAPE_CLOSING_TAGS, true);
+        }
+        return JsonEscapes.of(escapeNonAscii, escapeHtml, escapeClosingTags);
+    }
+
+    static boolean isCanonicalizeKeysEnabled(Map<String, ?> config) {
+        return config.containsKey(JsonConfig.CANONICALIZE_KEYS);
+    }
+
+    static boolean isRelaxedSkippingEnabled(Map<String, ?> config) {
+        return config.containsKey(JsonConfig.RELAXED_SKIPPING);
+    }
+
+    static boolean isLazyReadingEnabled(Map<String, ?> config) {
+        return config.containsKey(JsonConfig.LAZY_READING);
+    }
 }
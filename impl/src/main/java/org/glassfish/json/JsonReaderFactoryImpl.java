@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,39 +41,122 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonFlow;
+import org.glassfish.json.api.JsonLinesReader;
+import org.glassfish.json.api.JsonLinesReaderFactory;
+import org.glassfish.json.api.JsonMappedReaderFactory;
+import org.glassfish.json.api.JsonPublisherFactory;
+import org.glassfish.json.api.JsonSplittingReaderFactory;
 
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
+import javax.json.JsonValue;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.util.Collections;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Spliterator;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonReaderFactoryImpl implements JsonReaderFactory {
-    private final Map<String, ?> config = Collections.emptyMap();
+class JsonReaderFactoryImpl implements JsonReaderFactory, JsonLinesReaderFactory,
+        JsonSplittingReaderFactory, JsonMappedReaderFactory, JsonPublisherFactory {
+    private final Map<String, ?> config;    // unmodifiable map
     private final BufferPool bufferPool;
+    private final JsonKeyTable keyTable;
+    private final boolean lazy;
+    private final JsonPointerFilter filter;
 
-    JsonReaderFactoryImpl(BufferPool bufferPool) {
+    // selectedPointers is null to read everything
+    JsonReaderFactoryImpl(Map<String, ?> config, BufferPool bufferPool,
+            boolean canonicalizeKeys, boolean lazy, Collection<?> selectedPointers,
+            boolean relaxedSkipping) {
+        this.config = config;
         this.bufferPool = bufferPool;
+        this.keyTable = canonicalizeKeys ? new JsonKeyTable() : null;
+        this.lazy = lazy;
+        this.filter = selectedPointers == null ? null
+                : new JsonPointerFilter(selectedPointers, bufferPool, relaxedSkipping);
     }
 
     @Override
     public JsonReader createReader(Reader reader) {
-        return new JsonReaderImpl(reader, bufferPool);
+        return new JsonReaderImpl(reader, bufferPool, keyTable, lazy, filter);
     }
 
     @Override
     public JsonReader createReader(InputStream in) {
-        return new JsonReaderImpl(in, bufferPool);
+        return new JsonReaderImpl(in, bufferPool, keyTable, lazy, filter);
     }
 
     @Override
     public JsonReader createReader(InputStream in, Charset charset) {
-        return new JsonReaderImpl(in, charset, bufferPool);
+        return new JsonReaderImpl(in, charset, bufferPool, keyTable, lazy, filter);
+    }
+
+    @Override
+    public JsonReader createReader(Path path) {
+        return createReader(MappedInputStream.of(path));
+    }
+
+    @Override
+    public JsonReader createReader(FileChannel channel) {
+        return createReader(MappedInputStream.of(channel));
+    }
+
+    @Override
+    public JsonReader createReader(ByteBuffer input) {
+        return createReader(new ByteBufferInputStream(input, input.position(), input.limit()));
+    }
+
+    @Override
+    public JsonLinesReader createLinesReader(Reader reader) {
+        return new JsonLinesReaderImpl(reader, bufferPool, keyTable);
+    }
+
+    @Override
+    public JsonLinesReader createLinesReader(InputStream in) {
+        return new JsonLinesReaderImpl(in, bufferPool, keyTable);
+    }
+
+    @Override
+    public JsonLinesReader createLinesReader(InputStream in, Charset charset) {
+        return new JsonLinesReaderImpl(in, charset, bufferPool, keyTable);
+    }
+
+    @Override
+    public Spliterator<JsonValue> createLinesSpliterator(ByteBuffer input) {
+        return JsonChunkSpliterator.lines(input, bufferPool, keyTable);
+    }
+
+    @Override
+    public Spliterator<JsonValue> createArraySpliterator(ByteBuffer input) {
+        return JsonChunkSpliterator.array(input, bufferPool, keyTable);
+    }
+
+    @Override
+    public JsonFlow.Publisher<JsonValue> createArrayPublisher(Reader reader) {
+        return JsonValuePublisher.array(new JsonParserImpl(reader, bufferPool, keyTable));
+    }
+
+    @Override
+    public JsonFlow.Publisher<JsonValue> createArrayPublisher(InputStream in) {
+        return JsonValuePublisher.array(new JsonParserImpl(in, bufferPool, keyTable));
+    }
+
+    @Override
+    public JsonFlow.Publisher<JsonValue> createLinesPublisher(Reader reader) {
+        return JsonValuePublisher.lines(new JsonLinesReaderImpl(reader, bufferPool, keyTable));
+    }
+
+    @Override
+    public JsonFlow.Publisher<JsonValue> createLinesPublisher(InputStream in) {
+        return JsonValuePublisher.lines(new JsonLinesReaderImpl(in, bufferPool, keyTable));
     }
 
     @Override
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -43,6 +43,7 @@ package org.glassfish.json;
 import org.glassfish.json.api.BufferPool;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import javax.json.JsonArray;
@@ -63,20 +64,68 @@ class JsonReaderImpl implements JsonReader {
     private final JsonParserImpl parser;
     private boolean readDone;
     private final BufferPool bufferPool;
+    private final JsonKeyTable keyTable;
+    // Captures the input for lazy reading, null otherwise
+    private final JsonLazyDocument.CharCapture capture;
+    // Selects the values to read, null to read everything
+    private final JsonPointerFilter filter;
 
     JsonReaderImpl(Reader reader, BufferPool bufferPool) {
-        parser = new JsonParserImpl(reader, bufferPool);
-        this.bufferPool = bufferPool;
+        this(reader, bufferPool, null, false, null);
     }
 
     JsonReaderImpl(InputStream in, BufferPool bufferPool) {
-        parser = new JsonParserImpl(in, bufferPool);
-        this.bufferPool = bufferPool;
+        this(in, bufferPool, null, false, null);
     }
 
     JsonReaderImpl(InputStream in, Charset charset, BufferPool bufferPool) {
-        parser = new JsonParserImpl(in, charset, bufferPool);
+        this(in, charset, bufferPool, null, false, null);
+    }
+
+    // keyTable canonicalizes the key names, could be null. With lazy, the
+    // objects and arrays are created only when they are accessed. With a
+    // filter, only the selected values are read and lazy is ignored
+    JsonReaderImpl(Reader reader, BufferPool bufferPool, JsonKeyTable keyTable, boolean lazy,
+            JsonPointerFilter filter) {
+        if (lazy && filter == null) {
+            capture = new JsonLazyDocument.CharCapture(reader);
+            parser = new JsonParserImpl(capture, bufferPool, keyTable);
+        } else {
+            capture = null;
+            parser = new JsonParserImpl(reader, bufferPool, keyTable);
+        }
+        this.bufferPool = bufferPool;
+        this.keyTable = keyTable;
+        this.filter = filter;
+    }
+
+    JsonReaderImpl(InputStream in, BufferPool bufferPool, JsonKeyTable keyTable, boolean lazy,
+            JsonPointerFilter filter) {
+        if (lazy && filter == null) {
+            UnicodeDetectingInputStream uin = new UnicodeDetectingInputStream(in);
+            capture = new JsonLazyDocument.CharCapture(new InputStreamReader(uin, uin.getCharset()));
+            parser = new JsonParserImpl(capture, bufferPool, keyTable);
+        } else {
+            capture = null;
+            parser = new JsonParserImpl(in, bufferPool, keyTable);
+        }
+        this.bufferPool = bufferPool;
+        this.keyTable = keyTable;
+        this.filter = filter;
+    }
+
+    JsonReaderImpl(InputStream in, Charset charset, BufferPool bufferPool, JsonKeyTable keyTable, boolean lazy,
+            JsonPointerFilter filter) {
+        if (lazy && filter == null) {
+            capture = new JsonLazyDocument.CharCapture(new InputStreamReader(in, charset));
+            parser = new JsonParserImpl(capture, bufferPool, keyTable);
+        } else {
+            capture = null;
+            parser = new JsonParserImpl(in, charset, bufferPool, keyTable);
+        }
         this.bufferPool = bufferPool;
+        this.keyTable = keyTable;
+        this.filter = filter;
     }
 
     @Override
@@ -89,9 +138,9 @@ class JsonReaderImpl implements JsonReader {
             try {
                 JsonParser.Event e = parser.next();
                 if (e == JsonParser.Event.START_ARRAY) {
-                    return parser.getArray();
+                    return getArray(e);
                 } else if (e == JsonParser.Event.START_OBJECT) {
-                    return parser.getObject();
+                    return getObject(e);
                 }
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
@@ -108,8 +157,7 @@ class JsonReaderImpl implements JsonReader {
         readDone = true;
         if (parser.hasNext()) {
             try {
-                parser.next();
-                return parser.getObject();
+                return getObject(parser.next());
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
             }
@@ -125,8 +173,7 @@ class JsonReaderImpl implements JsonReader {
         readDone = true;
         if (parser.hasNext()) {
             try {
-                parser.next();
-                return parser.getArray();
+                return getArray(parser.next());
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
             }
@@ -142,7 +189,14 @@ class JsonReaderImpl implements JsonReader {
         readDone = true;
         if (parser.hasNext()) {
             try {
-                parser.next();
+                JsonParser.Event e = parser.next();
+                if (filter != null) {
+                    return filter.read(parser, e);
+                }
+                if (capture != null
+                        && (e == JsonParser.Event.START_ARRAY || e == JsonParser.Event.START_OBJECT)) {
+                    return JsonLazyDocument.read(parser, capture, bufferPool, keyTable);
+                }
                 return parser.getValue();
             } catch (IllegalStateException ise) {
                 throw new JsonParsingException(ise.getMessage(), ise, parser.getLastCharLocation());
@@ -151,6 +205,32 @@ class JsonReaderImpl implements JsonReader {
         throw new JsonException(JsonMessages.INTERNAL_ERROR());
     }
 
+    private JsonObject getObject(JsonParser.Event e) {
+        if (capture == null && filter == null) {
+            return parser.getObject();
+        }
+        if (e != JsonParser.Event.START_OBJECT) {
+            throw new IllegalStateException(JsonMessages.PARSER_GETOBJECT_ERR(e));
+        }
+        if (filter != null) {
+            return (JsonObject) filter.read(parser, e);
+        }
+        return (JsonObject) JsonLazyDocument.read(parser, capture, bufferPool, keyTable);
+    }
+
+    private JsonArray getArray(JsonParser.Event e) {
+        if (capture == null && filter == null) {
+            return parser.getArray();
+        }
+        if (e != JsonParser.Event.START_ARRAY) {
+            throw new IllegalStateException(JsonMessages.PARSER_GETARRAY_ERR(e));
+        }
+        if (filter != null) {
+            return (JsonArray) filter.read(parser, e);
+        }
+        return (JsonArray) JsonLazyDocument.read(parser, capture, bufferPool, keyTable);
+    }
+
     @Override
     public void close() {
         readDone = true;
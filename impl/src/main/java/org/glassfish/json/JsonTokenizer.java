@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -40,26 +40,26 @@
 
 package org.glassfish.json;
 
-import org.glassfish.json.api.BufferPool;
-
-import javax.json.JsonException;
 import javax.json.stream.JsonLocation;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParsingException;
-import java.io.*;
+import java.io.Closeable;
 import java.math.BigDecimal;
 import java.util.Arrays;
 
 import javax.json.stream.JsonParser.Event;
 
 /**
- * JSON Tokenizer
+ * JSON Tokenizer. Token recognition and location tracking are shared here,
+ * subclasses own the input buffer: {@link JsonCharTokenizer} scans chars
+ * from a {@code Reader} and {@link JsonUtf8Tokenizer} scans UTF-8 bytes
+ * from an {@code InputStream}.
  *
  * @author Jitendra Kotamraju
  */
-final class JsonTokenizer implements Closeable {
+abstract class JsonTokenizer implements Closeable {
     // Table to look up hex ch -> value (for e.g HEX['F'] = 15, HEX['5'] = 5)
-    private final static int[] HEX = new int[128];
+    final static int[] HEX = new int[128];
     static {
         Arrays.fill(HEX, -1);
         for (int i='0'; i <= '9'; i++) {
@@ -72,15 +72,7 @@ final class JsonTokenizer implements Closeable {
             HEX[i] = 10+i-'a';
         }
     }
-    private final static int HEX_LENGTH = HEX.length;
-
-    private final BufferPool bufferPool;
-
-    private final Reader reader;
-
-    // Internal buffer that is used for parsing. It is also used
-    // for storing current string and number value token
-    private char[] buf;
+    final static int HEX_LENGTH = HEX.length;
 
     // Indexes in buffer
     //
@@ -88,13 +80,13 @@ final class JsonTokenizer implements Closeable {
     //    ^           ^                     ^             ^
     //    |           |                     |             |
     //   storeBegin  storeEnd            readBegin      readEnd
-    private int readBegin;
-    private int readEnd;
-    private int storeBegin;
-    private int storeEnd;
+    int readBegin;
+    int readEnd;
+    int storeBegin;
+    int storeEnd;
 
     // line number of the current pointer of parsing char
-    private long lineNo = 1;
+    long lineNo = 1;
 
     // XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX
     // ^
@@ -103,14 +95,26 @@ final class JsonTokenizer implements Closeable {
     //
     // offset of the last \r\n or \n. will be used to calculate column number
     // of a token or an error. This may be outside of the buffer.
-    private long lastLineOffset = 0;
+    long lastLineOffset = 0;
     // offset in the stream for the start of the buffer, will be used in
     // calculating JsonLocation's stream offset, column no.
-    private long bufferOffset = 0;
+    long bufferOffset = 0;
 
-    private boolean minus;
-    private boolean fracOrExp;
-    private BigDecimal bd;
+    boolean minus;
+    boolean fracOrExp;
+    BigDecimal bd;
+    // the number is significand * 10^exponent, set by scanDecimal()
+    long significand;
+    int exponent;
+
+    // offset in the stream of the last '\r' seen by skipStructure()
+    private long skippedCr = -1;
+    // the containers open in skipStructure() that are arrays, by depth
+    private long[] skippedArrays = new long[1];
+
+    // JSON Lines, a line break ends the current record. nextToken() returns
+    // EOF at a line break and leaves it unread
+    boolean lineMode;
 
     enum JsonToken {
         CURLYOPEN(Event.START_OBJECT, false),
@@ -143,160 +147,94 @@ final class JsonTokenizer implements Closeable {
         }
     }
 
-    JsonTokenizer(Reader reader, BufferPool bufferPool) {
-        this.reader = reader;
-        this.bufferPool = bufferPool;
-        buf = bufferPool.take();
-    }
+    // Reads the next char of the input, filling the buffer if needed.
+    // Returns -1 at the end of the input
+    abstract int read();
 
-    private void readString() {
-        // when inPlace is true, no need to copy chars
-        boolean inPlace = true;
-        storeBegin = storeEnd = readBegin;
-
-        do {
-            // Write unescaped char block within the current buffer
-            if (inPlace) {
-                int ch;
-                while(readBegin < readEnd && ((ch=buf[readBegin]) >= 0x20) && ch != '\\') {
-                    if (ch == '"') {
-                        storeEnd = readBegin++; // ++ to consume quote char
-                        return;                 // Got the entire string
-                    }
-                    readBegin++;                // consume unescaped char
-                }
-                storeEnd = readBegin;
-            }
+    // Same as read() but doesn't consume the char
+    abstract int peek();
 
-            // string may be crossing buffer boundaries and may contain
-            // escaped characters.
-            int ch = read();
-            if (ch >= 0x20 && ch != 0x22 && ch != 0x5c) {
-                if (!inPlace) {
-                    buf[storeEnd] = (char)ch;
-                }
-                storeEnd++;
-                continue;
-            }
-            switch (ch) {
-                case '\\':
-                    inPlace = false;        // Now onwards need to copy chars
-                    unescape();
-                    break;
-                case '"':
-                    return;
-                default:
-                    throw unexpectedChar(ch);
-            }
-        } while (true);
-    }
+    // Reads a string token, the opening quote is already consumed.
+    // The string value is available from storeBegin to storeEnd
+    abstract void readString();
 
-    private void unescape() {
-        int ch = read();
-        switch (ch) {
-            case 'b':
-                buf[storeEnd++] = '\b';
-                break;
-            case 't':
-                buf[storeEnd++] = '\t';
-                break;
-            case 'n':
-                buf[storeEnd++] = '\n';
-                break;
-            case 'f':
-                buf[storeEnd++] = '\f';
-                break;
-            case 'r':
-                buf[storeEnd++] = '\r';
-                break;
-            case '"':
-            case '\\':
-            case '/':
-                buf[storeEnd++] = (char)ch;
-                break;
-            case 'u': {
-                int unicode = 0;
-                for (int i = 0; i < 4; i++) {
-                    int ch3 = read();
-                    int digit = (ch3 >= 0 && ch3 < HEX_LENGTH) ? HEX[ch3] : -1;
-                    if (digit < 0) {
-                        throw unexpectedChar(ch3);
-                    }
-                    unicode = (unicode << 4)|digit;
-                }
-                buf[storeEnd++] = (char)unicode;
-                break;
-            }
-            default:
-                throw unexpectedChar(ch);
-        }
-    }
+    // Reads a number token that starts with the given char
+    abstract void readNumber(int ch);
 
-    // Reads a number char. If the char is within the buffer, directly
-    // reads from the buffer. Otherwise, uses read() which takes care
-    // of resizing, filling up the buf, adjusting the pointers
-    private int readNumberChar() {
-        if (readBegin < readEnd) {
-            return buf[readBegin++];
-        } else {
-            storeEnd = readBegin;
-            return read();
+    abstract String getValue();
+
+    // Same as getValue(), used for key names. Known keys may be returned
+    // as the same String instance
+    abstract String getKey();
+
+    abstract BigDecimal getBigDecimal();
+
+    abstract int getInt();
+
+    abstract long getLong();
+
+    // Scans the digits of the current number into significand and exponent.
+    // The significand keeps the first 19 significant digits, as an unsigned
+    // long. Returns false if digits are dropped or the exponent doesn't fit,
+    // then significand * 10^exponent is not the exact number
+    abstract boolean scanDecimal();
+
+    // no need to create BigDecimal for most numbers with a fraction or an
+    // exponent
+    double getDouble() {
+        if (isDefinitelyLong()) {
+            return getLong();
         }
+        return getDouble(scanDecimal());
     }
 
-    private void readNumber(int ch)  {
-        storeBegin = storeEnd = readBegin-1;
-        // sign
-        if (ch == '-') {
-            this.minus = true;
-            ch = readNumberChar();
-            if (ch < '0' || ch >'9') {
-                throw unexpectedChar(ch);
-            }
+    // Same as getDouble(), exact is what scanDecimal() returned
+    double getDouble(boolean exact) {
+        double d = DoubleParser.toDouble(minus, significand, exponent);
+        if (!exact && d == d
+                && DoubleParser.toDouble(minus, significand + 1, exponent) != d) {
+            // the dropped digits may change the rounding
+            d = Double.NaN;
         }
+        return d == d ? d : getBigDecimal().doubleValue();
+    }
 
-        // int
-        if (ch == '0') {
-            ch = readNumberChar();
+    // Skips the rest of the current object or array, up to and including
+    // the '}' or ']' that closes it. Only the nesting and the string
+    // boundaries are tracked, and each close must match its open. The
+    // tokens in between are neither validated nor stored. Returns false
+    // if the input ends before the close
+    abstract boolean skipStructure(boolean array);
+
+    // Records the kind of the container opened at the given depth of
+    // skipStructure(), one bit per depth
+    final void skippedOpen(int depth, boolean array) {
+        int word = depth >>> 6;
+        if (word == skippedArrays.length) {
+            skippedArrays = Arrays.copyOf(skippedArrays, 2 * word);
+        }
+        if (array) {
+            skippedArrays[word] |= 1L << depth;
         } else {
-            do {
-                ch = readNumberChar();
-            } while (ch >= '0' && ch <= '9');
+            skippedArrays[word] &= ~(1L << depth);
         }
+    }
 
-        // frac
-        if (ch == '.') {
-            this.fracOrExp = true;
-            int count = 0;
-            do {
-                ch = readNumberChar();
-                count++;
-            } while (ch >= '0' && ch <= '9');
-            if (count == 1) {
-                throw unexpectedChar(ch);
-            }
-        }
+    // Whether a close of the kind matches the container at the given depth
+    final boolean skippedClose(int depth, boolean array) {
+        return ((skippedArrays[depth >>> 6] & (1L << depth)) != 0) == array;
+    }
 
-        // exp
-        if (ch == 'e' || ch == 'E') {
-            this.fracOrExp = true;
-            ch = readNumberChar();
-            if (ch == '+' || ch == '-') {
-                ch = readNumberChar();
-            }
-            int count;
-            for (count = 0; ch >= '0' && ch <= '9'; count++) {
-                ch = readNumberChar();
-            }
-            if (count == 0) {
-                throw unexpectedChar(ch);
-            }
-        }
-        if (ch != -1) {
-            // Only reset readBegin if eof has not been reached
-            readBegin--;
-            storeEnd = readBegin;
+    // Line tracking for a line break found by skipStructure() at the given
+    // offset in the stream. Like in nextToken(), "\r\n" is one line break
+    void skippedLineBreak(int ch, long offset) {
+        if (ch == '\r') {
+            skippedCr = offset;
+            ++lineNo;
+        } else if (offset != skippedCr+1) {
+            ++lineNo;
         }
+        lastLineOffset = offset+1;
     }
 
     private void readTrue() {
@@ -358,6 +296,10 @@ final class JsonTokenizer implements Closeable {
 
         // whitespace
         while (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
+            if (lineMode && ch != 0x20 && ch != 0x09) {
+                readBegin--;
+                return JsonToken.EOF;
+            }
             if (ch == '\r') {
                 ++lineNo;
                 ch = read();
@@ -425,6 +367,9 @@ final class JsonTokenizer implements Closeable {
 
         // whitespace
         while (ch == 0x20 || ch == 0x09 || ch == 0x0a || ch == 0x0d) {
+            if (lineMode && ch != 0x20 && ch != 0x09) {
+                return false;
+            }
             if (ch == '\r') {
                 ++lineNo;
                 ++readBegin;
@@ -445,20 +390,36 @@ final class JsonTokenizer implements Closeable {
         return ch != -1;
     }
 
-    private int peek() {
+    // JSON Lines: skips the line breaks and the blank lines before the next
+    // record. Returns false at the end of the input
+    boolean skipBlankLines() {
+        lineMode = false;
         try {
-            if (readBegin == readEnd) {     // need to fill the buffer
-                int len = fillBuf();
-                if (len == -1) {
-                    return -1;
-                }
-                assert len != 0;
-                readBegin = storeEnd;
-                readEnd = readBegin+len;
-            }
-            return buf[readBegin];
-        } catch (IOException ioe) {
-            throw new JsonException(JsonMessages.TOKENIZER_IO_ERR(), ioe);
+            return hasNextToken();
+        } finally {
+            lineMode = true;
+        }
+    }
+
+    // JSON Lines: skips the whitespace after a record. Returns false if
+    // something other than a line break or the end of the input follows
+    boolean readLineEnd() {
+        int ch = peek();
+        while (ch == 0x20 || ch == 0x09) {
+            ++readBegin;
+            ch = peek();
+        }
+        return ch == '\n' || ch == '\r' || ch == -1;
+    }
+
+    // JSON Lines: skips the rest of a malformed record, up to the line
+    // break that ends it
+    void skipLine() {
+        reset();
+        int ch = peek();
+        while (ch != '\n' && ch != '\r' && ch != -1) {
+            ++readBegin;
+            ch = peek();
         }
     }
 
@@ -474,53 +435,13 @@ final class JsonTokenizer implements Closeable {
         return new JsonLocationImpl(lineNo, bufferOffset +readBegin-lastLineOffset+1, bufferOffset +readBegin);
     }
 
-    private int read() {
-        try {
-            if (readBegin == readEnd) {     // need to fill the buffer
-                int len = fillBuf();
-                if (len == -1) {
-                    return -1;
-                }
-                assert len != 0;
-                readBegin = storeEnd;
-                readEnd = readBegin+len;
-            }
-            return buf[readBegin++];
-        } catch (IOException ioe) {
-            throw new JsonException(JsonMessages.TOKENIZER_IO_ERR(), ioe);
-        }
-    }
-
-    private int fillBuf() throws IOException {
-        if (storeEnd != 0) {
-            int storeLen = storeEnd-storeBegin;
-            if (storeLen > 0) {
-                // there is some store data
-                if (storeLen == buf.length) {
-                    // buffer is full, double the capacity
-                    char[] doubleBuf = Arrays.copyOf(buf, 2 * buf.length);
-                    bufferPool.recycle(buf);
-                    buf = doubleBuf;
-                } else {
-                    // Left shift all the stored data to make space
-                    System.arraycopy(buf, storeBegin, buf, 0, storeLen);
-                    storeEnd = storeLen;
-                    storeBegin = 0;
-                    bufferOffset += readBegin-storeEnd;
-                }
-            } else {
-                storeBegin = storeEnd = 0;
-                bufferOffset += readBegin;
-            }
-        } else {
-            bufferOffset += readBegin;
-        }
-        // Fill the rest of the buf
-        return reader.read(buf, storeEnd, buf.length-storeEnd);
+    // Offset in the stream of the next char to read
+    long getOffset() {
+        return bufferOffset+readBegin;
     }
 
     // state associated with the current token is no more valid
-    private void reset() {
+    void reset() {
         if (storeEnd != 0) {
             storeBegin = 0;
             storeEnd = 0;
@@ -530,47 +451,6 @@ final class JsonTokenizer implements Closeable {
         }
     }
 
-    String getValue() {
-        return new String(buf, storeBegin, storeEnd-storeBegin);
-    }
-
-    BigDecimal getBigDecimal() {
-        if (bd == null) {
-            bd = new BigDecimal(buf, storeBegin, storeEnd-storeBegin);
-        }
-        return bd;
-    }
-
-    int getInt() {
-        // no need to create BigDecimal for common integer values (1-9 digits)
-        int storeLen = storeEnd-storeBegin;
-        if (!fracOrExp && (storeLen <= 9 || (minus && storeLen <= 10))) {
-            int num = 0;
-            int i = minus ? 1 : 0;
-            for(; i < storeLen; i++) {
-                num = num * 10 + (buf[storeBegin+i] - '0');
-            }
-            return minus ? -num : num;
-        } else {
-            return getBigDecimal().intValue();
-        }
-    }
-    
-    long getLong() {
-        // no need to create BigDecimal for common integer values (1-18 digits)
-        int storeLen = storeEnd-storeBegin;
-        if (!fracOrExp && (storeLen <= 18 || (minus && storeLen <= 19))) {
-            long num = 0;
-            int i = minus ? 1 : 0;
-            for(; i < storeLen; i++) {
-                num = num * 10 + (buf[storeBegin+i] - '0');
-            }
-            return minus ? -num : num;
-        } else {
-            return getBigDecimal().longValue();
-        }
-    }
-
     // returns true for common integer values (1-9 digits).
     // So there are cases it will return false even though the number is int
     boolean isDefinitelyInt() {
@@ -589,22 +469,26 @@ final class JsonTokenizer implements Closeable {
         return !fracOrExp || getBigDecimal().scale() == 0;
     }
 
-    @Override
-    public void close() throws IOException {
-        reader.close();
-        bufferPool.recycle(buf);
-    }
-
-    private JsonParsingException unexpectedChar(int ch) {
+    JsonParsingException unexpectedChar(int ch) {
+        unreadLineBreak(ch);
         JsonLocation location = getLastCharLocation();
         return new JsonParsingException(
             JsonMessages.TOKENIZER_UNEXPECTED_CHAR(ch, location), location);
     }
 
-    private JsonParsingException expectedChar(int unexpected, char expected) {
+    JsonParsingException expectedChar(int unexpected, char expected) {
+        unreadLineBreak(unexpected);
         JsonLocation location = getLastCharLocation();
         return new JsonParsingException(
                 JsonMessages.TOKENIZER_EXPECTED_CHAR(unexpected, location, expected), location);
     }
-    
+
+    // JSON Lines: a line break that was just read is the end of the
+    // record, it is left for the next one even if it is an error
+    private void unreadLineBreak(int ch) {
+        if (lineMode && (ch == '\n' || ch == '\r')) {
+            readBegin--;
+        }
+    }
+
 }
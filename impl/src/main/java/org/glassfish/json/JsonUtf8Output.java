@@ -0,0 +1,326 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.PreparedName;
+
+import javax.json.JsonException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes the generated chars as UTF-8 directly into a byte buffer, which
+ * is written to an {@code OutputStream}. That saves the copy and the
+ * buffering of an intermediate {@code OutputStreamWriter}.
+ *
+ * <p>
+ * Like the JDK encoder, an unpaired surrogate is written as {@code '?'}.
+ */
+final class JsonUtf8Output extends JsonOutput {
+
+    private final BufferPool bufferPool;
+    private final OutputStream out;
+
+    private final byte buf[];     // capacity >= INT_MIN_VALUE_CHARS.length
+    private int len = 0;
+
+    JsonUtf8Output(OutputStream out, BufferPool bufferPool) {
+        this.out = out;
+        this.bufferPool = bufferPool;
+        this.buf = bufferPool.takeBytes();
+    }
+
+    @Override
+    void writeString(String str, int begin, int end) {
+        int i = begin;
+        while (i < end) {
+            // Copy ASCII chars as long as they fit in the buffer
+            int limit = Math.min(end, i + buf.length - len);
+            char c = 0;
+            while (i < limit && (c = str.charAt(i)) < 0x80) {
+                buf[len++] = (byte)c;
+                i++;
+            }
+            if (len >= buf.length) {
+                flushBuffer();
+                continue;
+            }
+            if (i == end) {
+                break;
+            }
+            // Multi-byte sequence needs upto 4 bytes
+            if (len + 4 > buf.length) {
+                flushBuffer();
+            }
+            if (Character.isHighSurrogate(c) && i+1 < end
+                    && Character.isLowSurrogate(str.charAt(i+1))) {
+                writeCodePoint(Character.toCodePoint(c, str.charAt(++i)));
+            } else {
+                writeMultiByteChar(c);
+            }
+            i++;
+        }
+    }
+
+    // Same as JsonOutput.writeEscapedString(), the chars that need no
+    // escape are encoded in the same pass
+    @Override
+    void writeEscapedString(String str, JsonEscapes escapes) {
+        byte[] table = escapes.table;
+        writeChar('"');
+        int end = str.length();
+        int i = 0;
+        while (i < end) {
+            // Copy ASCII chars as long as they fit in the buffer
+            int limit = Math.min(end, i + buf.length - len);
+            char c = 0;
+            while (i < limit && (c = str.charAt(i)) < 0x80 && table[c] == 0) {
+                buf[len++] = (byte)c;
+                i++;
+            }
+            if (len >= buf.length) {
+                flushBuffer();
+                continue;
+            }
+            if (i == end) {
+                break;
+            }
+            if (c < 0x80) {
+                if (c == '/' && (i == 0 || str.charAt(i - 1) != '<')) {
+                    writeChar(c);
+                } else {
+                    writeEscape(c, table[c]);
+                }
+            } else if (escapes.nonAscii) {
+                writeEscape(c, 'u');
+            } else {
+                // Multi-byte sequence needs upto 4 bytes
+                if (len + 4 > buf.length) {
+                    flushBuffer();
+                }
+                if (Character.isHighSurrogate(c) && i+1 < end
+                        && Character.isLowSurrogate(str.charAt(i+1))) {
+                    writeCodePoint(Character.toCodePoint(c, str.charAt(++i)));
+                } else {
+                    writeMultiByteChar(c);
+                }
+            }
+            i++;
+        }
+        writeChar('"');
+    }
+
+    @Override
+    void writeEscape(char c, int escape) {
+        if (len + 6 > buf.length) {
+            flushBuffer();
+        }
+        buf[len++] = '\\';
+        buf[len++] = (byte) escape;
+        if (escape == 'u') {
+            buf[len++] = (byte) HEX_DIGITS[c >> 12];
+            buf[len++] = (byte) HEX_DIGITS[(c >> 8) & 0xf];
+            buf[len++] = (byte) HEX_DIGITS[(c >> 4) & 0xf];
+            buf[len++] = (byte) HEX_DIGITS[c & 0xf];
+        }
+    }
+
+    @Override
+    void writeAscii(char[] chars, int begin, int end) {
+        if (len + end - begin > buf.length) {
+            flushBuffer();
+        }
+        for (int i = begin; i < end; i++) {
+            if (len == buf.length) {
+                // a buffer from a custom BufferPool may be that small
+                flushBuffer();
+            }
+            buf[len++] = (byte)chars[i];
+        }
+    }
+
+    @Override
+    void writeName(PreparedName name) {
+        int size = name.byteLength();
+        for (int i = 0; i < size; ) {
+            if (len == buf.length) {
+                flushBuffer();
+            }
+            int count = Math.min(size - i, buf.length - len);
+            name.getBytes(i, i + count, buf, len);
+            len += count;
+            i += count;
+        }
+    }
+
+    @Override
+    void writeChar(char c) {
+        if (len + 4 > buf.length) {
+            flushBuffer();
+        }
+        if (c < 0x80) {
+            buf[len++] = (byte)c;
+        } else {
+            writeMultiByteChar(c);
+        }
+    }
+
+    // Requires space for 3 bytes and c >= 0x80
+    private void writeMultiByteChar(char c) {
+        if (c < 0x800) {
+            buf[len++] = (byte)(0xc0 | (c >> 6));
+            buf[len++] = (byte)(0x80 | (c & 0x3f));
+        } else if (Character.isSurrogate(c)) {
+            buf[len++] = '?';
+        } else {
+            buf[len++] = (byte)(0xe0 | (c >> 12));
+            buf[len++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+            buf[len++] = (byte)(0x80 | (c & 0x3f));
+        }
+    }
+
+    // Requires space for 4 bytes
+    private void writeCodePoint(int cp) {
+        buf[len++] = (byte)(0xf0 | (cp >> 18));
+        buf[len++] = (byte)(0x80 | ((cp >> 12) & 0x3f));
+        buf[len++] = (byte)(0x80 | ((cp >> 6) & 0x3f));
+        buf[len++] = (byte)(0x80 | (cp & 0x3f));
+    }
+
+    // Not using Integer.toString() since it creates intermediary String
+    // Also, we want the bytes to be copied to our buffer directly
+    @Override
+    void writeInt(int num) {
+        int size;
+        if (num == Integer.MIN_VALUE) {
+            size = INT_MIN_VALUE_CHARS.length;
+        } else {
+            size = (num < 0) ? stringSize(-num) + 1 : stringSize(num);
+        }
+        if (len+size >= buf.length) {
+            flushBuffer();
+        }
+        if (num == Integer.MIN_VALUE) {
+            for (int i = 0; i < size; i++) {
+                buf[len+i] = (byte)INT_MIN_VALUE_CHARS[i];
+            }
+        } else {
+            fillIntBytes(num, buf, len+size);
+        }
+        len += size;
+    }
+
+    @Override
+    void flushBuffer() {
+        try {
+            if (len > 0) {
+                out.write(buf, 0, len);
+                len = 0;
+            }
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.GENERATOR_WRITE_IO_ERR(), ioe);
+        }
+    }
+
+    @Override
+    void flush() {
+        flushBuffer();
+        try {
+            out.flush();
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.GENERATOR_FLUSH_IO_ERR(), ioe);
+        }
+    }
+
+    @Override
+    void close() {
+        flushBuffer();
+        try {
+            out.close();
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.GENERATOR_CLOSE_IO_ERR(), ioe);
+        }
+        bufferPool.recycleBytes(buf);
+    }
+
+    /**
+     * Places the ASCII bytes representing the integer i into the
+     * byte array buf, backwards from the specified index (exclusive).
+     * Same as {@code JsonCharOutput#fillIntChars}.
+     *
+     * Will fail if i == Integer.MIN_VALUE
+     */
+    private static void fillIntBytes(int i, byte[] buf, int index) {
+        int q, r;
+        int charPos = index;
+        byte sign = 0;
+
+        if (i < 0) {
+            sign = '-';
+            i = -i;
+        }
+
+        // Generate two digits per iteration
+        while (i >= 65536) {
+            q = i / 100;
+            // really: r = i - (q * 100);
+            r = i - ((q << 6) + (q << 5) + (q << 2));
+            i = q;
+            buf [--charPos] = (byte)DIGIT_ONES[r];
+            buf [--charPos] = (byte)DIGIT_TENS[r];
+        }
+
+        // Fall thru to fast mode for smaller numbers
+        // assert(i <= 65536, i);
+        for (;;) {
+            q = (i * 52429) >>> (16+3);
+            r = i - ((q << 3) + (q << 1));  // r = i-(q*10) ...
+            buf [--charPos] = (byte)DIGITS[r];
+            i = q;
+            if (i == 0) break;
+        }
+        if (sign != 0) {
+            buf [--charPos] = sign;
+        }
+    }
+
+}
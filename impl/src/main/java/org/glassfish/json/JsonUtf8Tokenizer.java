@@ -0,0 +1,565 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.BufferPool;
+
+import javax.json.JsonException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JSON Tokenizer that scans UTF-8 bytes directly, without decoding the
+ * input through an {@code InputStreamReader} first. All the structural
+ * characters of JSON are ASCII, and no byte of a multi-byte UTF-8 sequence
+ * is in the ASCII range, so the input can be tokenized byte by byte. String
+ * contents are kept as raw bytes and are decoded only when
+ * {@link #getValue()} is called.
+ *
+ * <p>
+ * Since the input source is a byte stream, {@link javax.json.stream.JsonLocation}
+ * offsets and column numbers are in bytes.
+ */
+final class JsonUtf8Tokenizer extends JsonTokenizer {
+
+    private final BufferPool bufferPool;
+
+    private final InputStream in;
+
+    // Canonicalizes key names, null if not enabled
+    private final JsonKeyTable keyTable;
+
+    // Internal buffer that is used for parsing. It is also used
+    // for storing current string and number value token
+    private byte[] buf;
+
+    // A string with escape sequences is unescaped into this buffer
+    // as UTF-8 bytes. Only valid when escaped is true.
+    private byte[] unescaped;
+    private int unescapedLen;
+    private boolean escaped;
+
+    JsonUtf8Tokenizer(InputStream in, BufferPool bufferPool, JsonKeyTable keyTable) {
+        this.in = in;
+        this.bufferPool = bufferPool;
+        this.keyTable = keyTable;
+        buf = bufferPool.takeBytes();
+    }
+
+    @Override
+    void readString() {
+        escaped = false;
+        storeBegin = storeEnd = readBegin;
+
+        do {
+            // Scan an unescaped block within the current buffer. Bytes of
+            // multi-byte sequences are >= 0x80, they are never a quote,
+            // a backslash or a control char
+            int begin = readBegin;
+            int ch;
+            while(readBegin < readEnd && ((ch=buf[readBegin] & 0xff) >= 0x20) && ch != '\\') {
+                if (ch == '"') {
+                    if (escaped) {
+                        appendUnescaped(begin, readBegin);
+                    } else {
+                        storeEnd = readBegin;
+                    }
+                    readBegin++;                // consume quote char
+                    return;                     // Got the entire string
+                }
+                readBegin++;                    // consume unescaped byte
+            }
+            if (escaped) {
+                appendUnescaped(begin, readBegin);
+            } else {
+                storeEnd = readBegin;
+            }
+
+            // string may be crossing buffer boundaries and may contain
+            // escaped characters.
+            ch = read();
+            if (ch >= 0x20 && ch != 0x22 && ch != 0x5c) {
+                if (escaped) {
+                    appendUnescaped((byte)ch);
+                } else {
+                    storeEnd++;
+                }
+                continue;
+            }
+            switch (ch) {
+                case '\\':
+                    if (!escaped) {
+                        // Now onwards need to copy bytes
+                        escaped = true;
+                        unescapedLen = 0;
+                        appendUnescaped(storeBegin, storeEnd);
+                        storeBegin = storeEnd = 0;
+                    }
+                    unescape();
+                    break;
+                case '"':
+                    return;
+                default:
+                    throw unexpectedChar(ch);
+            }
+        } while (true);
+    }
+
+    private void unescape() {
+        int ch = read();
+        switch (ch) {
+            case 'b':
+                appendUnescaped((byte)'\b');
+                break;
+            case 't':
+                appendUnescaped((byte)'\t');
+                break;
+            case 'n':
+                appendUnescaped((byte)'\n');
+                break;
+            case 'f':
+                appendUnescaped((byte)'\f');
+                break;
+            case 'r':
+                appendUnescaped((byte)'\r');
+                break;
+            case '"':
+            case '\\':
+            case '/':
+                appendUnescaped((byte)ch);
+                break;
+            case 'u': {
+                int unicode = 0;
+                for (int i = 0; i < 4; i++) {
+                    int ch3 = read();
+                    int digit = (ch3 >= 0 && ch3 < HEX_LENGTH) ? HEX[ch3] : -1;
+                    if (digit < 0) {
+                        throw unexpectedChar(ch3);
+                    }
+                    unicode = (unicode << 4)|digit;
+                }
+                // Surrogates are encoded individually as 3-byte sequences,
+                // decodeUnescaped() puts them back as they are
+                if (unicode < 0x80) {
+                    appendUnescaped((byte)unicode);
+                } else if (unicode < 0x800) {
+                    appendUnescaped((byte)(0xc0 | (unicode >> 6)));
+                    appendUnescaped((byte)(0x80 | (unicode & 0x3f)));
+                } else {
+                    appendUnescaped((byte)(0xe0 | (unicode >> 12)));
+                    appendUnescaped((byte)(0x80 | ((unicode >> 6) & 0x3f)));
+                    appendUnescaped((byte)(0x80 | (unicode & 0x3f)));
+                }
+                break;
+            }
+            default:
+                throw unexpectedChar(ch);
+        }
+    }
+
+    private void appendUnescaped(int begin, int end) {
+        int len = end-begin;
+        if (len > 0) {
+            ensureUnescapedCapacity(len);
+            System.arraycopy(buf, begin, unescaped, unescapedLen, len);
+            unescapedLen += len;
+        }
+    }
+
+    private void appendUnescaped(byte b) {
+        ensureUnescapedCapacity(1);
+        unescaped[unescapedLen++] = b;
+    }
+
+    private void ensureUnescapedCapacity(int len) {
+        if (unescaped == null) {
+            unescaped = new byte[Math.max(64, len)];
+        } else if (unescapedLen+len > unescaped.length) {
+            unescaped = Arrays.copyOf(unescaped,
+                    Math.max(2 * unescaped.length, unescapedLen+len));
+        }
+    }
+
+    // Reads a number byte. If the byte is within the buffer, directly
+    // reads from the buffer. Otherwise, uses read() which takes care
+    // of resizing, filling up the buf, adjusting the pointers
+    private int readNumberChar() {
+        if (readBegin < readEnd) {
+            return buf[readBegin++] & 0xff;
+        } else {
+            storeEnd = readBegin;
+            return read();
+        }
+    }
+
+    @Override
+    void readNumber(int ch)  {
+        escaped = false;
+        storeBegin = storeEnd = readBegin-1;
+        // sign
+        if (ch == '-') {
+            this.minus = true;
+            ch = readNumberChar();
+            if (ch < '0' || ch >'9') {
+                throw unexpectedChar(ch);
+            }
+        }
+
+        // int
+        if (ch == '0') {
+            ch = readNumberChar();
+        } else {
+            do {
+                ch = readNumberChar();
+            } while (ch >= '0' && ch <= '9');
+        }
+
+        // frac
+        if (ch == '.') {
+            this.fracOrExp = true;
+            int count = 0;
+            do {
+                ch = readNumberChar();
+                count++;
+            } while (ch >= '0' && ch <= '9');
+            if (count == 1) {
+                throw unexpectedChar(ch);
+            }
+        }
+
+        // exp
+        if (ch == 'e' || ch == 'E') {
+            this.fracOrExp = true;
+            ch = readNumberChar();
+            if (ch == '+' || ch == '-') {
+                ch = readNumberChar();
+            }
+            int count;
+            for (count = 0; ch >= '0' && ch <= '9'; count++) {
+                ch = readNumberChar();
+            }
+            if (count == 0) {
+                throw unexpectedChar(ch);
+            }
+        }
+        if (ch != -1) {
+            // Only reset readBegin if eof has not been reached
+            readBegin--;
+            storeEnd = readBegin;
+        }
+    }
+
+    @Override
+    boolean skipStructure(boolean array) {
+        reset();
+        int depth = 1;
+        skippedOpen(depth, array);
+        boolean inString = false;
+        boolean escape = false;
+        while (readBegin < readEnd || peek() != -1) {
+            final byte[] buf = this.buf;
+            final int end = readEnd;
+            int i = readBegin;
+            while (i < end) {
+                int ch = buf[i++];
+                // bytes of multi-byte sequences are negative, they never
+                // match an ASCII char
+                if (inString) {
+                    if (escape) {
+                        escape = false;
+                    } else if (ch == '"') {
+                        inString = false;
+                    } else if (ch == '\\') {
+                        escape = true;
+                    }
+                } else if (ch == '"') {
+                    inString = true;
+                } else if (ch == '{' || ch == '[') {
+                    skippedOpen(++depth, ch == '[');
+                } else if (ch == '}' || ch == ']') {
+                    if (!skippedClose(depth, ch == ']')) {
+                        readBegin = i;
+                        throw unexpectedChar(ch);
+                    }
+                    if (--depth == 0) {
+                        readBegin = i;
+                        return true;
+                    }
+                } else if (ch == '\n' || ch == '\r') {
+                    skippedLineBreak(ch, bufferOffset+i-1);
+                }
+            }
+            readBegin = i;
+        }
+        return false;
+    }
+
+    @Override
+    int peek() {
+        try {
+            if (readBegin == readEnd) {     // need to fill the buffer
+                int len = fillBuf();
+                if (len == -1) {
+                    return -1;
+                }
+                assert len != 0;
+                readBegin = storeEnd;
+                readEnd = readBegin+len;
+            }
+            return buf[readBegin] & 0xff;
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.TOKENIZER_IO_ERR(), ioe);
+        }
+    }
+
+    @Override
+    int read() {
+        try {
+            if (readBegin == readEnd) {     // need to fill the buffer
+                int len = fillBuf();
+                if (len == -1) {
+                    return -1;
+                }
+                assert len != 0;
+                readBegin = storeEnd;
+                readEnd = readBegin+len;
+            }
+            return buf[readBegin++] & 0xff;
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.TOKENIZER_IO_ERR(), ioe);
+        }
+    }
+
+    private int fillBuf() throws IOException {
+        if (storeEnd != 0) {
+            int storeLen = storeEnd-storeBegin;
+            if (storeLen > 0) {
+                // there is some store data
+                if (storeLen == buf.length) {
+                    // buffer is full, double the capacity
+                    byte[] doubleBuf = bufferPool.takeBytes(2 * buf.length);
+                    System.arraycopy(buf, 0, doubleBuf, 0, buf.length);
+                    bufferPool.recycleBytes(buf);
+                    buf = doubleBuf;
+                } else {
+                    // Left shift all the stored data to make space
+                    System.arraycopy(buf, storeBegin, buf, 0, storeLen);
+                    storeEnd = storeLen;
+                    storeBegin = 0;
+                    bufferOffset += readBegin-storeEnd;
+                }
+            } else {
+                storeBegin = storeEnd = 0;
+                bufferOffset += readBegin;
+            }
+        } else {
+            bufferOffset += readBegin;
+        }
+        // Keeps the offset right when no more bytes are read now, a
+        // JsonFeedParser's input may have more later
+        readBegin = readEnd = storeEnd;
+        // Fill the rest of the buf
+        return in.read(buf, storeEnd, buf.length-storeEnd);
+    }
+
+    @Override
+    String getValue() {
+        if (escaped) {
+            return decodeUnescaped();
+        }
+        return new String(buf, storeBegin, storeEnd-storeBegin, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    String getKey() {
+        if (keyTable == null) {
+            return getValue();
+        }
+        // non-ASCII keys are not in the table
+        String key = escaped
+                ? keyTable.get(unescaped, 0, unescapedLen)
+                : keyTable.get(buf, storeBegin, storeEnd);
+        return key != null ? key : getValue();
+    }
+
+    // Decodes the unescaped UTF-8 bytes. Unlike the JDK decoder, it takes
+    // 3-byte sequences in the surrogate range as they are, since that is how
+    // unescape() stores \\uXXXX escapes of surrogates. Malformed sequences
+    // are replaced with U+FFFD like InputStreamReader does.
+    private String decodeUnescaped() {
+        byte[] b = unescaped;
+        int len = unescapedLen;
+        char[] chars = new char[len];
+        int n = 0;
+        int i = 0;
+        while (i < len) {
+            int b1 = b[i++];
+            if (b1 >= 0) {
+                chars[n++] = (char)b1;
+            } else if ((b1 & 0xe0) == 0xc0 && i < len && isContinuation(b[i])) {
+                chars[n++] = (char)(((b1 & 0x1f) << 6) | (b[i++] & 0x3f));
+            } else if ((b1 & 0xf0) == 0xe0 && i+1 < len
+                    && isContinuation(b[i]) && isContinuation(b[i+1])) {
+                chars[n++] = (char)(((b1 & 0x0f) << 12)
+                        | ((b[i++] & 0x3f) << 6) | (b[i++] & 0x3f));
+            } else if ((b1 & 0xf8) == 0xf0 && i+2 < len && isContinuation(b[i])
+                    && isContinuation(b[i+1]) && isContinuation(b[i+2])) {
+                int cp = ((b1 & 0x07) << 18) | ((b[i++] & 0x3f) << 12)
+                        | ((b[i++] & 0x3f) << 6) | (b[i++] & 0x3f);
+                chars[n++] = Character.highSurrogate(cp);
+                chars[n++] = Character.lowSurrogate(cp);
+            } else {
+                chars[n++] = '\ufffd';
+            }
+        }
+        return new String(chars, 0, n);
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xc0) == 0x80;
+    }
+
+    @Override
+    BigDecimal getBigDecimal() {
+        if (bd == null) {
+            int storeLen = storeEnd-storeBegin;
+            char[] chars = new char[storeLen];
+            for (int i = 0; i < storeLen; i++) {
+                chars[i] = (char)buf[storeBegin+i];
+            }
+            bd = new BigDecimal(chars, 0, storeLen);
+        }
+        return bd;
+    }
+
+    @Override
+    int getInt() {
+        // no need to create BigDecimal for common integer values (1-9 digits)
+        int storeLen = storeEnd-storeBegin;
+        if (!fracOrExp && (storeLen <= 9 || (minus && storeLen <= 10))) {
+            int num = 0;
+            int i = minus ? 1 : 0;
+            for(; i < storeLen; i++) {
+                num = num * 10 + (buf[storeBegin+i] - '0');
+            }
+            return minus ? -num : num;
+        } else {
+            return getBigDecimal().intValue();
+        }
+    }
+
+    @Override
+    long getLong() {
+        // no need to create BigDecimal for common integer values (1-18 digits)
+        int storeLen = storeEnd-storeBegin;
+        if (!fracOrExp && (storeLen <= 18 || (minus && storeLen <= 19))) {
+            long num = 0;
+            int i = minus ? 1 : 0;
+            for(; i < storeLen; i++) {
+                num = num * 10 + (buf[storeBegin+i] - '0');
+            }
+            return minus ? -num : num;
+        } else {
+            return getBigDecimal().longValue();
+        }
+    }
+
+    @Override
+    boolean scanDecimal() {
+        long w = 0;
+        int digits = 0;
+        int q = 0;
+        boolean exact = true;
+        boolean frac = false;
+        int i = minus ? storeBegin+1 : storeBegin;
+        for(; i < storeEnd; i++) {
+            int ch = buf[i];
+            if (ch == '.') {
+                frac = true;
+            } else if (ch == 'e' || ch == 'E') {
+                break;
+            } else if (digits < 19) {
+                w = w * 10 + (ch - '0');
+                if (w != 0) {
+                    digits++;
+                }
+                if (frac) {
+                    q--;
+                }
+            } else {
+                // w keeps the first 19 significant digits
+                exact = false;
+                if (!frac) {
+                    q++;
+                }
+            }
+        }
+        if (i < storeEnd) {
+            int ch = buf[++i];
+            boolean negativeExp = ch == '-';
+            if (ch == '-' || ch == '+') {
+                i++;
+            }
+            int exp = 0;
+            for(; i < storeEnd; i++) {
+                if (exp < 100000000) {
+                    exp = exp * 10 + (buf[i] - '0');
+                } else {
+                    exact = false;
+                }
+            }
+            q += negativeExp ? -exp : exp;
+        }
+        significand = w;
+        exponent = q;
+        return exact;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+        bufferPool.recycleBytes(buf);
+    }
+
+}
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2015-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,7 +41,6 @@
 package org.glassfish.json;
 
 import java.io.StringReader;
-import javax.json.Json;
 import javax.json.JsonReader;
 import javax.json.JsonValue;
 import javax.json.stream.JsonParsingException;
@@ -89,7 +88,7 @@ public final class JsonUtil {
             builder.append(ch);
         }
                    
-        JsonReader reader = Json.createReader(
+        JsonReader reader = JsonProviderImpl.INTERNAL.createReader(
                                 new StringReader(builder.toString()));
         JsonValue value = reader.readValue();
         reader.close();
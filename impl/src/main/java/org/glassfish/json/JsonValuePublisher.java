@@ -0,0 +1,222 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.JsonFlow;
+
+import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher of the values read from a JSON text. The values are read in
+ * the thread that requests them, as many as requested. A request from
+ * {@code onNext()} or from another thread while the values are read only
+ * adds to the demand, the reading thread emits them.
+ */
+abstract class JsonValuePublisher implements JsonFlow.Publisher<JsonValue> {
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    // Reads the next value, null after the last one
+    abstract JsonValue readValue();
+
+    // Closes the input
+    abstract void close();
+
+    // Publishes the elements of the top level array
+    static JsonValuePublisher array(JsonParserImpl parser) {
+        return new JsonValuePublisher() {
+            private boolean started;
+
+            @Override
+            JsonValue readValue() {
+                if (!started) {
+                    started = true;
+                    if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                        throw new JsonException(JsonMessages.PUBLISHER_NOT_ARRAY());
+                    }
+                }
+                if (parser.next() == JsonParser.Event.END_ARRAY) {
+                    // fails if anything follows the array
+                    parser.hasNext();
+                    return null;
+                }
+                return parser.getValue();
+            }
+
+            @Override
+            void close() {
+                parser.close();
+            }
+        };
+    }
+
+    // Publishes the JSON Lines records
+    static JsonValuePublisher lines(JsonLinesReaderImpl reader) {
+        return new JsonValuePublisher() {
+            @Override
+            JsonValue readValue() {
+                return reader.readValue();
+            }
+
+            @Override
+            void close() {
+                reader.close();
+            }
+        };
+    }
+
+    @Override
+    public void subscribe(JsonFlow.Subscriber<? super JsonValue> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            // the input is read already
+            subscriber.onSubscribe(new JsonFlow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(JsonMessages.PUBLISHER_SUBSCRIBED()));
+            return;
+        }
+        subscriber.onSubscribe(new ValueSubscription(subscriber));
+    }
+
+    private final class ValueSubscription implements JsonFlow.Subscription {
+        private final JsonFlow.Subscriber<? super JsonValue> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Number of drain() calls while values are emitted
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile IllegalArgumentException invalidRequest;
+        private boolean done;       // only used by the emitting thread
+
+        ValueSubscription(JsonFlow.Subscriber<? super JsonValue> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException(
+                        JsonMessages.PUBLISHER_INVALID_REQUEST(n));
+                cancelled = true;
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            long requested = demand.get();
+            long emitted = 0;
+            while (true) {
+                if (cancelled) {
+                    finish();
+                    if (invalidRequest != null) {
+                        subscriber.onError(invalidRequest);
+                    }
+                    return;
+                }
+                if (emitted == requested) {
+                    break;
+                }
+                JsonValue value;
+                try {
+                    value = readValue();
+                } catch (RuntimeException e) {
+                    finish();
+                    subscriber.onError(e);
+                    return;
+                }
+                if (value == null) {
+                    finish();
+                    subscriber.onComplete();
+                    return;
+                }
+                subscriber.onNext(value);
+                emitted++;
+            }
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            try {
+                close();
+            } catch (JsonException e) {
+                // nothing to do after the last value
+            }
+        }
+    }
+
+}
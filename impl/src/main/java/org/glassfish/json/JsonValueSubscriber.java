@@ -0,0 +1,146 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import org.glassfish.json.api.JsonFlow;
+
+import javax.json.JsonException;
+import javax.json.JsonValue;
+import java.util.Objects;
+
+/**
+ * Subscriber writing the received values with a generator, as the
+ * elements of an array or as JSON Lines records. The values are requested
+ * in batches, the output is flushed after each batch.
+ */
+final class JsonValueSubscriber implements JsonFlow.Subscriber<JsonValue> {
+
+    // Values requested at a time
+    static final int BATCH_SIZE = 256;
+
+    private final JsonGeneratorImpl generator;
+    private final boolean lines;
+    private JsonFlow.Subscription subscription;
+    private int received;
+    private boolean failed;
+
+    JsonValueSubscriber(JsonGeneratorImpl generator, boolean lines) {
+        this.generator = generator;
+        this.lines = lines;
+    }
+
+    @Override
+    public void onSubscribe(JsonFlow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (this.subscription != null) {
+            // a subscriber is used once
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        if (!lines) {
+            try {
+                generator.writeStartArray();
+            } catch (JsonException e) {
+                fail();
+                return;
+            }
+        }
+        subscription.request(BATCH_SIZE);
+    }
+
+    @Override
+    public void onNext(JsonValue value) {
+        Objects.requireNonNull(value);
+        if (failed) {
+            return;
+        }
+        try {
+            generator.write(value);
+            if (lines) {
+                generator.writeLineEnd();
+            }
+            if (++received == BATCH_SIZE) {
+                received = 0;
+                generator.flush();
+                subscription.request(BATCH_SIZE);
+            }
+        } catch (JsonException e) {
+            fail();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (!failed) {
+            failed = true;
+            generator.abort();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (failed) {
+            return;
+        }
+        try {
+            if (lines) {
+                generator.closeLines();
+            } else {
+                generator.writeEnd();
+                generator.close();
+            }
+        } catch (JsonException e) {
+            failed = true;
+            generator.abort();
+        }
+    }
+
+    // The output failed, no more values are written
+    private void fail() {
+        failed = true;
+        subscription.cancel();
+        generator.abort();
+    }
+
+}
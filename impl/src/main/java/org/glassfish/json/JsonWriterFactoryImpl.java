@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -41,42 +41,111 @@
 package org.glassfish.json;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonBufferWriterFactory;
+import org.glassfish.json.api.JsonFlow;
+import org.glassfish.json.api.JsonLinesWriter;
+import org.glassfish.json.api.JsonLinesWriterFactory;
+import org.glassfish.json.api.JsonSubscriberFactory;
 
+import javax.json.JsonValue;
 import javax.json.JsonWriter;
 import javax.json.JsonWriterFactory;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Jitendra Kotamraju
  */
-class JsonWriterFactoryImpl implements JsonWriterFactory {
+class JsonWriterFactoryImpl
+        implements JsonWriterFactory, JsonLinesWriterFactory, JsonBufferWriterFactory,
+        JsonSubscriberFactory {
     private final Map<String, ?> config;        // unmodifiable map
     private final boolean prettyPrinting;
+    private final JsonEscapes escapes;
     private final BufferPool bufferPool;
 
     JsonWriterFactoryImpl(Map<String, ?> config, boolean prettyPrinting,
-            BufferPool bufferPool) {
+            JsonEscapes escapes, BufferPool bufferPool) {
         this.config = config;
         this.prettyPrinting = prettyPrinting;
+        this.escapes = escapes;
         this.bufferPool = bufferPool;
     }
 
     @Override
     public JsonWriter createWriter(Writer writer) {
-        return new JsonWriterImpl(writer, prettyPrinting, bufferPool);
+        return new JsonWriterImpl(writer, prettyPrinting, escapes, bufferPool);
     }
 
     @Override
     public JsonWriter createWriter(OutputStream out) {
-        return new JsonWriterImpl(out, prettyPrinting, bufferPool);
+        return new JsonWriterImpl(out, StandardCharsets.UTF_8, prettyPrinting, escapes, bufferPool);
     }
 
     @Override
     public JsonWriter createWriter(OutputStream out, Charset charset) {
-        return new JsonWriterImpl(out, charset, prettyPrinting, bufferPool);
+        return new JsonWriterImpl(out, charset, prettyPrinting, escapes, bufferPool);
+    }
+
+    @Override
+    public JsonWriter createWriter(WritableByteChannel channel) {
+        return createWriter(Channels.newOutputStream(channel));
+    }
+
+    @Override
+    public JsonWriter createWriter(ByteBuffer buffer, UnaryOperator<ByteBuffer> bufferFull) {
+        return createWriter(new ByteBufferOutputStream(buffer, bufferFull));
+    }
+
+    @Override
+    public JsonLinesWriter createLinesWriter(Writer writer) {
+        return new JsonLinesWriterImpl(JsonOutput.of(writer, bufferPool), escapes);
+    }
+
+    @Override
+    public JsonLinesWriter createLinesWriter(OutputStream out) {
+        return createLinesWriter(out, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public JsonLinesWriter createLinesWriter(OutputStream out, Charset charset) {
+        return new JsonLinesWriterImpl(JsonOutput.of(out, charset, bufferPool), escapes);
+    }
+
+    @Override
+    public JsonFlow.Subscriber<JsonValue> createArraySubscriber(Writer writer) {
+        return arraySubscriber(JsonOutput.of(writer, bufferPool));
+    }
+
+    @Override
+    public JsonFlow.Subscriber<JsonValue> createArraySubscriber(OutputStream out) {
+        return arraySubscriber(JsonOutput.of(out, StandardCharsets.UTF_8, bufferPool));
+    }
+
+    @Override
+    public JsonFlow.Subscriber<JsonValue> createLinesSubscriber(Writer writer) {
+        return new JsonValueSubscriber(
+                new JsonGeneratorImpl(JsonOutput.of(writer, bufferPool), escapes), true);
+    }
+
+    @Override
+    public JsonFlow.Subscriber<JsonValue> createLinesSubscriber(OutputStream out) {
+        return new JsonValueSubscriber(new JsonGeneratorImpl(
+                JsonOutput.of(out, StandardCharsets.UTF_8, bufferPool), escapes), true);
+    }
+
+    private JsonFlow.Subscriber<JsonValue> arraySubscriber(JsonOutput output) {
+        JsonGeneratorImpl generator = prettyPrinting
+                ? new JsonPrettyGeneratorImpl(output, escapes)
+                : new JsonGeneratorImpl(output, escapes);
+        return new JsonValueSubscriber(generator, false);
     }
 
     @Override
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -67,9 +67,15 @@ class JsonWriterImpl implements JsonWriter {
     }
 
     JsonWriterImpl(Writer writer, boolean prettyPrinting, BufferPool bufferPool) {
+        this(writer, prettyPrinting, JsonEscapes.DEFAULT, bufferPool);
+    }
+
+    JsonWriterImpl(Writer writer, boolean prettyPrinting,
+                   JsonEscapes escapes, BufferPool bufferPool) {
+        JsonOutput output = JsonOutput.of(writer, bufferPool);
         generator = prettyPrinting
-                ? new JsonPrettyGeneratorImpl(writer, bufferPool)
-                : new JsonGeneratorImpl(writer, bufferPool);
+                ? new JsonPrettyGeneratorImpl(output, escapes)
+                : new JsonGeneratorImpl(output, escapes);
         os = null;
     }
 
@@ -83,12 +89,18 @@ class JsonWriterImpl implements JsonWriter {
 
     JsonWriterImpl(OutputStream out, Charset charset,
                    boolean prettyPrinting, BufferPool bufferPool) {
+        this(out, charset, prettyPrinting, JsonEscapes.DEFAULT, bufferPool);
+    }
+
+    JsonWriterImpl(OutputStream out, Charset charset, boolean prettyPrinting,
+                   JsonEscapes escapes, BufferPool bufferPool) {
         // Decorating the given stream, so that buffered contents can be
         // written without actually flushing the stream.
         this.os = new NoFlushOutputStream(out);
+        JsonOutput output = JsonOutput.of(os, charset, bufferPool);
         generator = prettyPrinting
-                ? new JsonPrettyGeneratorImpl(os, charset, bufferPool)
-                : new JsonGeneratorImpl(os, charset, bufferPool);
+                ? new JsonPrettyGeneratorImpl(output, escapes)
+                : new JsonGeneratorImpl(output, escapes);
     }
 
     @Override
@@ -103,7 +115,8 @@ class JsonWriterImpl implements JsonWriter {
         }
         generator.writeEnd();
         // Flush the generator's buffered contents. This won't work for byte
-        // streams as intermediary OutputStreamWriter buffers.
+        // streams in encodings other than UTF-8 as intermediary
+        // OutputStreamWriter buffers.
         generator.flushBuffer();
         // Flush buffered contents but not the byte stream. generator.flush()
         // does OutputStreamWriter#flushBuffer (package private) and underlying
@@ -125,7 +138,8 @@ class JsonWriterImpl implements JsonWriter {
         }
         generator.writeEnd();
         // Flush the generator's buffered contents. This won't work for byte
-        // streams as intermediary OutputStreamWriter buffers.
+        // streams in encodings other than UTF-8 as intermediary
+        // OutputStreamWriter buffers.
         generator.flushBuffer();
         // Flush buffered contents but not the byte stream. generator.flush()
         // does OutputStreamWriter#flushBuffer (package private) and underlying
@@ -0,0 +1,146 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json;
+
+import javax.json.JsonException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through memory mappings of its regions, each region is
+ * mapped when the previous one is read. The bytes are copied from the
+ * mapping straight into the tokenizer buffer, and files larger than a
+ * single mapping can be read.
+ */
+final class MappedInputStream extends InputStream {
+
+    // size of the mapped regions
+    static final long REGION_SIZE = 1L << 28;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final long regionSize;
+    private final long end;
+    private long position;          // offset in the file of the next region
+    private ByteBuffer region = EMPTY;
+
+    // Reads the channel from its current position to its end
+    MappedInputStream(FileChannel channel, long regionSize) throws IOException {
+        this.channel = channel;
+        this.regionSize = regionSize;
+        this.position = channel.position();
+        this.end = channel.size();
+    }
+
+    static InputStream of(FileChannel channel) {
+        try {
+            return new MappedInputStream(channel, REGION_SIZE);
+        } catch (IOException ioe) {
+            throw new JsonException(JsonMessages.READER_MAPPED_IO_ERR(channel), ioe);
+        }
+    }
+
+    static InputStream of(Path path) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new MappedInputStream(channel, REGION_SIZE);
+        } catch (IOException ioe) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    ioe.addSuppressed(e);
+                }
+            }
+            throw new JsonException(JsonMessages.READER_MAPPED_IO_ERR(path), ioe);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!region.hasRemaining() && !mapNextRegion()) {
+            return -1;
+        }
+        return region.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!region.hasRemaining() && !mapNextRegion()) {
+            return -1;
+        }
+        int count = Math.min(len, region.remaining());
+        region.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, region.remaining() + end - position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = EMPTY;
+        channel.close();
+    }
+
+    private boolean mapNextRegion() throws IOException {
+        if (position >= end) {
+            return false;
+        }
+        long size = Math.min(regionSize, end - position);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        position += size;
+        return true;
+    }
+
+}
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2015-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -40,7 +40,9 @@
 
 package org.glassfish.json;
 
-import javax.json.Json;
+import org.glassfish.json.api.JsonPersistentArray;
+import org.glassfish.json.api.JsonPersistentObject;
+
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonException;
@@ -69,6 +71,10 @@ import javax.json.JsonValue;
  * must not modify the referenced JSON object or array. The methods {@link #add},
  * {@link #replace}, and {@link #remove} returns a new
  * JSON object or array after the execution of the operation.</p>
+ *
+ * <p>A {@code JsonPersistentObject} or {@code JsonPersistentArray} is updated
+ * with its own methods, the new version shares the untouched values with it
+ * instead of being a copy.</p>
  */
 abstract class NodeReference {
 
@@ -225,7 +231,10 @@ abstract class NodeReference {
 
         @Override
         public JsonObject add(JsonValue value) {
-            return Json.createObjectBuilder(object).add(key, value).build();
+            if (object instanceof JsonPersistentObject) {
+                return ((JsonPersistentObject) object).with(key, value);
+            }
+            return JsonProviderImpl.INTERNAL.createObjectBuilder(object).add(key, value).build();
         }
 
         @Override
@@ -233,7 +242,10 @@ abstract class NodeReference {
             if (!contains()) {
                 throw new JsonException(JsonMessages.NODEREF_OBJECT_MISSING(key));
             }
-            return Json.createObjectBuilder(object).remove(key).build();
+            if (object instanceof JsonPersistentObject) {
+                return ((JsonPersistentObject) object).without(key);
+            }
+            return JsonProviderImpl.INTERNAL.createObjectBuilder(object).remove(key).build();
         }
 
         @Override
@@ -272,7 +284,14 @@ abstract class NodeReference {
         public JsonArray add(JsonValue value) {
             //TODO should we check for arrayoutofbounds?
             // The spec seems to say index = array.size() is allowed. This is handled as append
-            JsonArrayBuilder builder = Json.createArrayBuilder(this.array);
+            if (array instanceof JsonPersistentArray) {
+                if (index > array.size()) {
+                    throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
+                }
+                return ((JsonPersistentArray) array).inserting(
+                        index == -1 ? array.size() : index, value);
+            }
+            JsonArrayBuilder builder = JsonProviderImpl.INTERNAL.createArrayBuilder(this.array);
             if (index == -1 || index == array.size()) {
                 builder.add(value);
             } else {
@@ -290,7 +309,10 @@ abstract class NodeReference {
             if (!contains()) {
                 throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
             }
-            JsonArrayBuilder builder = Json.createArrayBuilder(this.array);
+            if (array instanceof JsonPersistentArray) {
+                return ((JsonPersistentArray) array).without(index);
+            }
+            JsonArrayBuilder builder = JsonProviderImpl.INTERNAL.createArrayBuilder(this.array);
             return builder.remove(index).build();
         }
 
@@ -299,7 +321,10 @@ abstract class NodeReference {
             if (!contains()) {
                 throw new JsonException(JsonMessages.NODEREF_ARRAY_INDEX_ERR(index, array.size()));
             }
-            JsonArrayBuilder builder = Json.createArrayBuilder(this.array);
+            if (array instanceof JsonPersistentArray) {
+                return ((JsonPersistentArray) array).with(index, value);
+            }
+            JsonArrayBuilder builder = JsonProviderImpl.INTERNAL.createArrayBuilder(this.array);
             return builder.set(index, value).build();
         }
     }
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2013-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -42,6 +42,8 @@ package org.glassfish.json.api;
 
 /**
  * char[] pool that pool instances of char[] which are expensive to create.
+ * It also pools the byte[] instances used to parse and generate UTF-8 bytes
+ * directly.
  *
  * @author Jitendra Kotamraju
  */
@@ -65,4 +67,59 @@ public interface BufferPool {
      */
     void recycle(char[] buf);
 
+    /**
+     * Gets a char[] object of at least the given length from the pool.
+     * It is used when a buffer needs to grow.
+     *
+     * <p>
+     * The default implementation always creates a new one.
+     *
+     * @param minLength minimum length of the char[]
+     * @return
+     *      always non-null.
+     */
+    default char[] take(int minLength) {
+        return new char[minLength];
+    }
+
+    /**
+     * Gets a new byte[] object from the pool.
+     *
+     * <p>
+     * If no object is available in the pool, this method creates a new one.
+     * The default implementation always creates a new one.
+     *
+     * @return
+     *      always non-null.
+     */
+    default byte[] takeBytes() {
+        return new byte[8192];
+    }
+
+    /**
+     * Returns a byte[] object back to the pool.
+     *
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param buf object to return back to the pool
+     */
+    default void recycleBytes(byte[] buf) {
+    }
+
+    /**
+     * Gets a byte[] object of at least the given length from the pool.
+     * It is used when a buffer needs to grow.
+     *
+     * <p>
+     * The default implementation always creates a new one.
+     *
+     * @param minLength minimum length of the byte[]
+     * @return
+     *      always non-null.
+     */
+    default byte[] takeBytes(int minLength) {
+        return new byte[minLength];
+    }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.UnaryOperator;
+
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Creates {@code JsonGenerator} instances that write UTF-8 to NIO channels
+ * and buffers. The generator factories created by this implementation are
+ * instances of this interface. For example, to serialize straight into
+ * pooled network buffers:
+ *
+ * <pre>
+ * <code>
+ * JsonBufferGeneratorFactory factory = (JsonBufferGeneratorFactory) Json.createGeneratorFactory(null);
+ * JsonGenerator generator = factory.createGenerator(pool.acquire(), full -&gt; {
+ *     full.flip();
+ *     send(full);
+ *     return pool.acquire();
+ * });
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * The bytes are put into the buffer from its position up to its limit,
+ * heap and direct buffers alike. They are encoded in the generator's own
+ * buffer, and put in bulk when that fills up and on {@code flush()}. The
+ * callback receives the buffer when it is full, on {@code flush()} and on
+ * {@code close()}, with the generated bytes before its position. It
+ * returns the buffer for the next bytes, which can be the same buffer
+ * once it is drained. The buffer it returns on {@code close()} is
+ * ignored.
+ *
+ * @see JsonBufferWriterFactory
+ */
+public interface JsonBufferGeneratorFactory {
+
+    /**
+     * Creates a generator that writes to the channel. Closing the
+     * generator closes the channel.
+     *
+     * @param channel the bytes are written to this channel
+     * @return a JSON generator
+     */
+    JsonGenerator createGenerator(WritableByteChannel channel);
+
+    /**
+     * Creates a generator that puts the bytes into the buffers.
+     *
+     * @param buffer the first buffer for the bytes
+     * @param bufferFull receives the full, flushed or last buffer, and
+     *      returns the buffer for the next bytes
+     * @return a JSON generator
+     */
+    JsonGenerator createGenerator(ByteBuffer buffer, UnaryOperator<ByteBuffer> bufferFull);
+
+}
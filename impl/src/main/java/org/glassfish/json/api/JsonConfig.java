@@ -0,0 +1,135 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json.api;
+
+/**
+ * Configuration properties supported by this implementation in addition
+ * to the ones defined by the API. They are passed in the config map when
+ * creating the factories, for example
+ * {@link javax.json.Json#createGeneratorFactory(java.util.Map)}.
+ */
+public final class JsonConfig {
+
+    /**
+     * Configuration property to write the chars outside of ASCII as
+     * {@code &#92;uXXXX} escapes in the generated JSON strings, so that
+     * the output is plain ASCII in any encoding. Like
+     * {@link javax.json.stream.JsonGenerator#PRETTY_PRINTING}, the value of
+     * the property could be anything. Supported by the generator and the
+     * writer factories.
+     */
+    public static final String ESCAPE_NON_ASCII = "org.glassfish.json.escapeNonAscii";
+
+    /**
+     * Configuration property to write the HTML-sensitive chars
+     * {@code < > & '} as {@code &#92;uXXXX} escapes in the generated JSON
+     * strings, so that the output can be embedded in HTML, in an element
+     * or an attribute, without other escaping. Like
+     * {@link #ESCAPE_NON_ASCII}, the value of the property could be
+     * anything. Supported by the generator and the writer factories.
+     */
+    public static final String ESCAPE_HTML = "org.glassfish.json.escapeHtml";
+
+    /**
+     * Configuration property to write the solidus of {@code </} as
+     * {@code \/} in the generated JSON strings, so that the output can be
+     * embedded in a {@code <script>} element: no string can close it.
+     * The other chars are written as usual. Like {@link #ESCAPE_NON_ASCII},
+     * the value of the property could be anything. Supported by the
+     * generator and the writer factories.
+     */
+    public static final String ESCAPE_CLOSING_TAGS = "org.glassfish.json.escapeClosingTags";
+
+    /**
+     * Configuration property to canonicalize the key names of the parsed
+     * objects. The parsers created by the same factory share a bounded table
+     * of the key names seen so far, and return a known key as the same
+     * {@code String} instance instead of allocating a new one. This reduces
+     * the garbage for documents that repeat the same keys, like a stream
+     * of events. Like {@link #ESCAPE_NON_ASCII}, the value of the property
+     * could be anything. Supported by the parser and the reader factories.
+     */
+    public static final String CANONICALIZE_KEYS = "org.glassfish.json.canonicalizeKeys";
+
+    /**
+     * Configuration property to skip values faster with
+     * {@link javax.json.stream.JsonParser#skipArray()} and
+     * {@link javax.json.stream.JsonParser#skipObject()}. The skipped values
+     * are only scanned for the nesting of the objects and arrays and for
+     * the boundaries of the strings, their other tokens are not validated.
+     * By default, the tokens of the skipped values are validated as if
+     * they were parsed. Like {@link #ESCAPE_NON_ASCII}, the value of the
+     * property could be anything. Supported by the parser factory, and by
+     * the reader factory for the values skipped with
+     * {@link #SELECTED_POINTERS}.
+     */
+    public static final String RELAXED_SKIPPING = "org.glassfish.json.relaxedSkipping";
+
+    /**
+     * Configuration property to read the objects and arrays lazily. The
+     * reader checks the whole document and records where each value starts
+     * and ends, but creates an object or an array, and the values in it,
+     * only when it is first accessed. This is cheaper when only a few
+     * values of a large document are used. Like {@link #ESCAPE_NON_ASCII},
+     * the value of the property could be anything. Supported by the reader
+     * factory.
+     */
+    public static final String LAZY_READING = "org.glassfish.json.lazyReading";
+
+    /**
+     * Configuration property to read only the values selected by a set of
+     * JSON Pointers. The value of the property is a {@code Collection} of
+     * JSON Pointer strings, or of {@link javax.json.JsonPointer}s created
+     * by this provider. The reader streams through the document and skips
+     * the values that are not on the path to a selected value, so the
+     * memory used is proportional to the selected values. The result has
+     * the shape of the document, and the same pointers can be applied to
+     * it: the objects on the paths have only the members that lead to a
+     * selected value, and the skipped elements of the arrays on the paths
+     * are {@code null}, up to the last selected element. Supported by the
+     * reader factory, and takes precedence over {@link #LAZY_READING}.
+     */
+    public static final String SELECTED_POINTERS = "org.glassfish.json.selectedPointers";
+
+    private JsonConfig() {
+    }
+
+}
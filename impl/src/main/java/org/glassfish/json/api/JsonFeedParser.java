@@ -0,0 +1,121 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.nio.ByteBuffer;
+
+import javax.json.stream.JsonParser;
+
+/**
+ * A parser that never blocks for input. The caller feeds the UTF-8 bytes
+ * as they arrive, and {@link #nextEvent()} returns {@link #NEED_MORE_INPUT}
+ * when the next event is not fed completely. The events and the state
+ * are the same as of a {@code JsonParser} reading the fed bytes.
+ *
+ * <p>
+ * {@link #next()} throws {@code IllegalStateException} instead of
+ * returning {@code NEED_MORE_INPUT}, and {@link #hasNext()} is
+ * {@code true} until {@link #endOfInput()} is called. {@link #getObject()},
+ * {@link #getArray()}, {@link #getValue()}, {@link #skipObject()},
+ * {@link #skipArray()} and the streams of the values need the whole
+ * structure to be fed, see {@link #isStructureComplete()}.
+ *
+ * @see JsonFeedParserFactory
+ */
+public interface JsonFeedParser extends JsonParser {
+
+    /**
+     * Returned by {@link #nextEvent()} when more input is needed. It is
+     * {@code null}, as the {@code Event} enum cannot be extended.
+     */
+    Event NEED_MORE_INPUT = null;
+
+    /**
+     * Feeds the next bytes of the JSON text. The bytes are copied.
+     *
+     * @param bytes the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IllegalStateException if {@link #endOfInput()} was called
+     */
+    void feed(byte[] bytes, int offset, int length);
+
+    /**
+     * Feeds the remaining bytes of the buffer, its position is advanced
+     * to its limit.
+     *
+     * @param bytes the bytes
+     * @throws IllegalStateException if {@link #endOfInput()} was called
+     */
+    void feed(ByteBuffer bytes);
+
+    /**
+     * Tells that all the JSON text is fed. The remaining events are
+     * returned, and a truncated JSON text fails as with a
+     * {@code JsonParser}.
+     */
+    void endOfInput();
+
+    /**
+     * Returns the next event, or {@link #NEED_MORE_INPUT} if it is not
+     * fed yet. After the top level value, it returns
+     * {@code NEED_MORE_INPUT} until {@link #endOfInput()} is called.
+     *
+     * @return the next event or {@code NEED_MORE_INPUT}
+     * @throws java.util.NoSuchElementException if there are no more
+     *     events after the end of input
+     * @throws javax.json.stream.JsonParsingException if the fed bytes are
+     *     not valid JSON
+     */
+    Event nextEvent();
+
+    /**
+     * Returns whether the object or the array that the current event is
+     * in is fed up to its end. Right after {@code START_OBJECT} or
+     * {@code START_ARRAY} that is the started structure.
+     *
+     * @return true if the current structure can be read without more
+     *     input
+     */
+    boolean isStructureComplete();
+
+}
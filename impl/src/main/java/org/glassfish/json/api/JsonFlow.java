@@ -0,0 +1,130 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+/**
+ * The reactive streams interfaces of the publishers and subscribers of
+ * {@link JsonPublisherFactory} and {@link JsonSubscriberFactory}. They
+ * are the same as the nested interfaces of
+ * {@code java.util.concurrent.Flow}, which is not available on Java 8,
+ * and follow the same rules. On Java 9 or later, a {@code Flow.Subscriber}
+ * is adapted by forwarding the four methods.
+ */
+public final class JsonFlow {
+
+    private JsonFlow() {
+    }
+
+    /**
+     * A source of items to a subscriber, as many as it requested.
+     *
+     * @param <T> the type of the items
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds the subscriber. It receives {@link Subscriber#onSubscribe}
+         * first, the items only after it requested them.
+         *
+         * @param subscriber the subscriber
+         * @throws NullPointerException if the subscriber is null
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items.
+     *
+     * @param <T> the type of the items
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called before any other method of the subscriber.
+         *
+         * @param subscription the subscription to request the items
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item, once for each requested item.
+         *
+         * @param item the item
+         */
+        void onNext(T item);
+
+        /**
+         * Called when the publisher fails, no other method is called
+         * after it.
+         *
+         * @param throwable the failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called after the last item, no other method is called after it.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link of a publisher and a subscriber.
+     */
+    public interface Subscription {
+
+        /**
+         * Requests more items. The requests add up, a total of
+         * {@code Long.MAX_VALUE} or more is unbounded.
+         *
+         * @param n the number of items, a value less than 1 makes the
+         *     publisher call {@code onError}
+         */
+        void request(long n);
+
+        /**
+         * Stops the items, some may still arrive.
+         */
+        void cancel();
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.json.JsonValue;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * Reads the records of JSON Lines (newline-delimited JSON) input, one JSON
+ * value per line. Blank lines are skipped. All the records are read with
+ * the same parser and input buffer.
+ *
+ * <p>
+ * A record that is malformed, or that doesn't end at its line break, is
+ * reported with a {@code JsonParsingException} whose location has the
+ * line number of the record. The reader then continues with the next
+ * line:
+ *
+ * <pre>
+ * <code>
+ * JsonLinesReaderFactory factory = (JsonLinesReaderFactory) Json.createReaderFactory(null);
+ * try (JsonLinesReader reader = factory.createLinesReader(in)) {
+ *     reader.stream(e -&gt; log(e.getLocation().getLineNumber()))
+ *             .forEach(record -&gt; ...);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @see JsonLinesReaderFactory
+ */
+public interface JsonLinesReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return the value of the next record, or {@code null} at the end of
+     *      the input
+     * @throws JsonParsingException if the record is malformed. The reader
+     *      is then at the next line, reading can continue
+     * @throws javax.json.JsonException if an i/o error occurs
+     */
+    JsonValue readValue();
+
+    /**
+     * Returns the line number of the last record that is read, or failed.
+     * The first line is 1.
+     *
+     * @return the line number of the last record
+     */
+    long getLineNumber();
+
+    /**
+     * Returns the remaining records as a sequential stream. A malformed
+     * record ends the stream with a {@code JsonParsingException}. Closing
+     * the stream closes this reader.
+     *
+     * @return the stream of the record values
+     */
+    Stream<JsonValue> stream();
+
+    /**
+     * Returns the remaining records as a sequential stream, the malformed
+     * records are skipped. Closing the stream closes this reader.
+     *
+     * @param errorHandler receives the exception of each malformed record
+     * @return the stream of the values of the well-formed records
+     */
+    Stream<JsonValue> stream(Consumer<? super JsonParsingException> errorHandler);
+
+    /**
+     * Closes this reader and the underlying input source.
+     *
+     * @throws javax.json.JsonException if an i/o error occurs
+     */
+    @Override
+    void close();
+
+}
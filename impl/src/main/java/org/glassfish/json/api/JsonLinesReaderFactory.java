@@ -0,0 +1,87 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * Creates {@link JsonLinesReader} instances. The reader factories created
+ * by this implementation are instances of this interface, the readers
+ * use the configuration of the factory:
+ *
+ * <pre>
+ * <code>
+ * JsonLinesReaderFactory factory = (JsonLinesReaderFactory) Json.createReaderFactory(config);
+ * </code>
+ * </pre>
+ */
+public interface JsonLinesReaderFactory {
+
+    /**
+     * Creates a JSON Lines reader from a character stream.
+     *
+     * @param reader the records are read from this character stream
+     * @return a JSON Lines reader
+     */
+    JsonLinesReader createLinesReader(Reader reader);
+
+    /**
+     * Creates a JSON Lines reader from a byte stream. The character
+     * encoding is detected as for {@code JsonReader}.
+     *
+     * @param in the records are read from this byte stream
+     * @return a JSON Lines reader
+     */
+    JsonLinesReader createLinesReader(InputStream in);
+
+    /**
+     * Creates a JSON Lines reader from a byte stream in the given encoding.
+     *
+     * @param in the records are read from this byte stream
+     * @param charset the character set of the bytes
+     * @return a JSON Lines reader
+     */
+    JsonLinesReader createLinesReader(InputStream in, Charset charset);
+
+}
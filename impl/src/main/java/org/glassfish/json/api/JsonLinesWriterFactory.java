@@ -0,0 +1,86 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Creates {@link JsonLinesWriter} instances. The writer factories created
+ * by this implementation are instances of this interface, the writers
+ * use the configuration of the factory except pretty printing:
+ *
+ * <pre>
+ * <code>
+ * JsonLinesWriterFactory factory = (JsonLinesWriterFactory) Json.createWriterFactory(config);
+ * </code>
+ * </pre>
+ */
+public interface JsonLinesWriterFactory {
+
+    /**
+     * Creates a JSON Lines writer to a character stream.
+     *
+     * @param writer the records are written to this character stream
+     * @return a JSON Lines writer
+     */
+    JsonLinesWriter createLinesWriter(Writer writer);
+
+    /**
+     * Creates a JSON Lines writer to a byte stream, in UTF-8.
+     *
+     * @param out the records are written to this byte stream
+     * @return a JSON Lines writer
+     */
+    JsonLinesWriter createLinesWriter(OutputStream out);
+
+    /**
+     * Creates a JSON Lines writer to a byte stream in the given encoding.
+     *
+     * @param out the records are written to this byte stream
+     * @param charset the character set of the bytes
+     * @return a JSON Lines writer
+     */
+    JsonLinesWriter createLinesWriter(OutputStream out, Charset charset);
+
+}
@@ -0,0 +1,101 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import javax.json.JsonReader;
+
+/**
+ * Creates {@code JsonReader} instances over memory-mapped files and byte
+ * buffers. The reader factories created by this implementation are
+ * instances of this interface:
+ *
+ * <pre>
+ * <code>
+ * JsonMappedReaderFactory factory = (JsonMappedReaderFactory) Json.createReaderFactory(null);
+ * try (JsonReader reader = factory.createReader(Paths.get("fixture.json"))) {
+ *     JsonObject fixture = reader.readObject();
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * A file is mapped in regions as it is read, and the bytes are tokenized
+ * from the mapping without going through a stream reader. The character
+ * encoding is detected as for {@code JsonReader}.
+ *
+ * @see JsonMappedParserFactory
+ */
+public interface JsonMappedReaderFactory {
+
+    /**
+     * Creates a reader of the file.
+     *
+     * @param path the JSON text is read from this file
+     * @return a JSON reader
+     * @throws javax.json.JsonException if the file cannot be opened
+     */
+    JsonReader createReader(Path path);
+
+    /**
+     * Creates a reader of the channel, from its current position to its
+     * end. Closing the reader closes the channel.
+     *
+     * @param channel the JSON text is read from this file channel
+     * @return a JSON reader
+     * @throws javax.json.JsonException if an i/o error occurs
+     */
+    JsonReader createReader(FileChannel channel);
+
+    /**
+     * Creates a reader of the buffer, from its position to its limit. The
+     * position of the buffer is not changed.
+     *
+     * @param input the JSON text is read from this buffer
+     * @return a JSON reader
+     */
+    JsonReader createReader(ByteBuffer input);
+
+}
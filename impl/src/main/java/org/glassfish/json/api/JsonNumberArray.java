@@ -0,0 +1,94 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import javax.json.JsonArray;
+
+/**
+ * {@code JsonArray} of numbers that are stored unboxed. The arrays read
+ * by this implementation whose elements are all integral numbers, or all
+ * decimal numbers that are exactly representable as {@code double}, are
+ * instances of this interface. So are the arrays built from {@code int},
+ * {@code long} or {@code double} values only with a {@code JsonArrayBuilder}.
+ *
+ * <p>
+ * The elements are boxed to {@code JsonNumber} only when they are accessed
+ * through the {@code List} methods. The bulk accessors of this interface
+ * copy the numbers without boxing them:
+ *
+ * <pre>
+ * <code>
+ * JsonArray samples = reader.readArray();
+ * if (samples instanceof JsonNumberArray) {
+ *     double[] values = ((JsonNumberArray) samples).toDoubleArray();
+ *     ...
+ * }
+ * </code>
+ * </pre>
+ */
+public interface JsonNumberArray extends JsonArray {
+
+    /**
+     * Returns the elements of this array converted like
+     * {@link javax.json.JsonNumber#intValue()}.
+     *
+     * @return a new array with the int values of the elements
+     */
+    int[] toIntArray();
+
+    /**
+     * Returns the elements of this array converted like
+     * {@link javax.json.JsonNumber#longValue()}.
+     *
+     * @return a new array with the long values of the elements
+     */
+    long[] toLongArray();
+
+    /**
+     * Returns the elements of this array converted like
+     * {@link javax.json.JsonNumber#doubleValue()}.
+     *
+     * @return a new array with the double values of the elements
+     */
+    double[] toDoubleArray();
+
+}
@@ -0,0 +1,100 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import javax.json.JsonArray;
+import javax.json.JsonValue;
+
+/**
+ * {@code JsonArray} that is updated by creating new versions of it. A new
+ * version shares the elements, and the internal nodes that hold them, that
+ * are not changed with this array, so setting, inserting or removing an
+ * element costs {@code O(log n)} in time and space instead of a copy of
+ * all the elements.
+ *
+ * <p>
+ * The arrays are created with {@link JsonPersistentFactory}, see
+ * {@link JsonPersistentObject}.
+ */
+public interface JsonPersistentArray extends JsonArray {
+
+    /**
+     * Returns an array with the element at the index replaced with the
+     * value. This array is not modified.
+     *
+     * @param index index of the element
+     * @param value the new value of the element
+     * @return the new version of this array, or this array if the element
+     *    is the value already
+     * @throws NullPointerException if the value is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *    ({@code index < 0 || index >= size()})
+     */
+    JsonPersistentArray with(int index, JsonValue value);
+
+    /**
+     * Returns an array with the value inserted at the index. The element
+     * at the index and the subsequent ones are shifted to the right, an
+     * index equal to the size of this array appends the value. This array
+     * is not modified.
+     *
+     * @param index index at which the value is inserted
+     * @param value the value to insert
+     * @return the new version of this array
+     * @throws NullPointerException if the value is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *    ({@code index < 0 || index > size()})
+     */
+    JsonPersistentArray inserting(int index, JsonValue value);
+
+    /**
+     * Returns an array without the element at the index. The subsequent
+     * elements are shifted to the left. This array is not modified.
+     *
+     * @param index index of the element
+     * @return the new version of this array
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *    ({@code index < 0 || index >= size()})
+     */
+    JsonPersistentArray without(int index);
+
+}
@@ -0,0 +1,95 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * {@code JsonObject} that is updated by creating new versions of it. A new
+ * version shares the members, and the internal nodes that hold them, that
+ * are not changed with this object, so adding, replacing or removing a
+ * member costs {@code O(log n)} in time and space instead of a copy of
+ * all the members. The members keep their insertion order, a replaced
+ * member keeps its position.
+ *
+ * <p>
+ * The objects are created with {@link JsonPersistentFactory}. The
+ * operations of {@link javax.json.JsonPointer}, {@link javax.json.JsonPatch}
+ * and {@link javax.json.JsonMergePatch} of this implementation update a
+ * persistent target this way, and return a persistent result:
+ *
+ * <pre>
+ * <code>
+ * JsonPersistentFactory factory = (JsonPersistentFactory) Json.createBuilderFactory(null);
+ * JsonPersistentObject v1 = factory.createPersistentObject(document);
+ * JsonPersistentObject v2 = v1.with("status", Json.createValue("closed"));
+ * </code>
+ * </pre>
+ */
+public interface JsonPersistentObject extends JsonObject {
+
+    /**
+     * Returns an object with the name/value pair added to the members of
+     * this object. If this object has a member with the name, it is
+     * replaced at its position. This object is not modified.
+     *
+     * @param name name of the member
+     * @param value value of the member
+     * @return the new version of this object, or this object if the member
+     *    has the same value already
+     * @throws NullPointerException if the name or the value is null
+     */
+    JsonPersistentObject with(String name, JsonValue value);
+
+    /**
+     * Returns an object without the member of this object with the name.
+     * This object is not modified.
+     *
+     * @param name name of the member
+     * @return the new version of this object, or this object if it has
+     *    no member with the name
+     * @throws NullPointerException if the name is null
+     */
+    JsonPersistentObject without(String name);
+
+}
@@ -0,0 +1,103 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+/**
+ * A set of JSON Pointers that are evaluated together against a document.
+ * The reference tokens of the pointers are merged into a trie, so that a
+ * prefix shared by several pointers is walked once per document, and no
+ * reference objects are created while walking:
+ *
+ * <pre>
+ * <code>
+ * JsonPointerBatchFactory factory = (JsonPointerBatchFactory) JsonProvider.provider();
+ * JsonPointerBatch routing = factory.createPointerBatch(
+ *         Arrays.asList("/header/type", "/header/tenant", "/body/0/id"));
+ * JsonValue[] values = new JsonValue[routing.size()];
+ * for (JsonObject record : records) {
+ *     routing.getValues(record, values);
+ *     ...
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * A batch is immutable and can be shared by threads.
+ */
+public interface JsonPointerBatch {
+
+    /**
+     * Returns the number of the pointers of this batch.
+     *
+     * @return the number of the pointers
+     */
+    int size();
+
+    /**
+     * Returns the values referenced by the pointers in the target.
+     *
+     * @param target the target of the pointers
+     * @return a new array with the value referenced by each pointer, in
+     *    the order of the pointers, {@code null} for a pointer that
+     *    references no value in the target
+     * @throws NullPointerException if {@code target} is {@code null}
+     */
+    JsonValue[] getValues(JsonStructure target);
+
+    /**
+     * Stores the values referenced by the pointers in the target into
+     * the array, so that the array can be reused for many targets.
+     *
+     * @param target the target of the pointers
+     * @param values the array for the value referenced by each pointer,
+     *    in the order of the pointers, {@code null} for a pointer that
+     *    references no value in the target
+     * @throws NullPointerException if {@code target} is {@code null}
+     * @throws IllegalArgumentException if the array is shorter than
+     *    {@link #size()}
+     */
+    void getValues(JsonStructure target, JsonValue[] values);
+
+}
@@ -0,0 +1,103 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.json.JsonValue;
+
+/**
+ * Creates publishers of the values read from a JSON text. The reader
+ * factories created by this implementation are instances of this
+ * interface. The values are parsed as they are requested, so a large
+ * input is never held in memory.
+ *
+ * <p>
+ * A publisher reads its input once, it accepts a single subscriber. The
+ * input is closed after the last value, after a failure and after the
+ * subscription is cancelled. A parsing failure is passed to
+ * {@code onError}.
+ */
+public interface JsonPublisherFactory {
+
+    /**
+     * Creates a publisher of the elements of the array read from a
+     * character stream.
+     *
+     * @param reader the array is read from this character stream
+     * @return a publisher of the elements of the array
+     */
+    JsonFlow.Publisher<JsonValue> createArrayPublisher(Reader reader);
+
+    /**
+     * Creates a publisher of the elements of the array read from a byte
+     * stream. The character encoding is detected as for
+     * {@code JsonReader}.
+     *
+     * @param in the array is read from this byte stream
+     * @return a publisher of the elements of the array
+     */
+    JsonFlow.Publisher<JsonValue> createArrayPublisher(InputStream in);
+
+    /**
+     * Creates a publisher of the JSON Lines records read from a character
+     * stream.
+     *
+     * @param reader the records are read from this character stream
+     * @return a publisher of the records
+     * @see JsonLinesReader
+     */
+    JsonFlow.Publisher<JsonValue> createLinesPublisher(Reader reader);
+
+    /**
+     * Creates a publisher of the JSON Lines records read from a byte
+     * stream. The character encoding is detected as for
+     * {@code JsonReader}.
+     *
+     * @param in the records are read from this byte stream
+     * @return a publisher of the records
+     * @see JsonLinesReader
+     */
+    JsonFlow.Publisher<JsonValue> createLinesPublisher(InputStream in);
+
+}
@@ -0,0 +1,94 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+
+import javax.json.JsonValue;
+
+/**
+ * Creates splittable {@code Spliterator}s over the values of large UTF-8
+ * input, for parallel streams. The reader factories created by this
+ * implementation are instances of this interface. The input is split into
+ * chunks at record boundaries, and the chunks are parsed concurrently:
+ *
+ * <pre>
+ * <code>
+ * JsonSplittingReaderFactory factory = (JsonSplittingReaderFactory) Json.createReaderFactory(null);
+ * long errors = StreamSupport.stream(factory.createLinesSpliterator(bytes), true)
+ *         .filter(record -&gt; record.asJsonObject().containsKey("error"))
+ *         .count();
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * The bytes are read from the position to the limit of the buffer, the
+ * position of the buffer is not changed. The buffer must not be modified
+ * while the values are read. A malformed value fails the stream with a
+ * {@code JsonParsingException}, whose location is relative to the chunk
+ * that contains it.
+ */
+public interface JsonSplittingReaderFactory {
+
+    /**
+     * Creates a spliterator over the records of JSON Lines. The input is
+     * split at line breaks.
+     *
+     * @param input UTF-8 JSON Lines
+     * @return a splittable spliterator over the record values
+     */
+    Spliterator<JsonValue> createLinesSpliterator(ByteBuffer input);
+
+    /**
+     * Creates a spliterator over the elements of a JSON array. The input is
+     * pre-scanned for the commas between the elements, the array is split
+     * at those.
+     *
+     * @param input a UTF-8 JSON array
+     * @return a splittable spliterator over the array elements
+     * @throws javax.json.stream.JsonParsingException if the input is not
+     *      a single array
+     */
+    Spliterator<JsonValue> createArraySpliterator(ByteBuffer input);
+
+}
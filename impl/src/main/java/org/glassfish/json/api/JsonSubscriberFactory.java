@@ -0,0 +1,101 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.api;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+import javax.json.JsonValue;
+
+/**
+ * Creates subscribers that write the received values. The writer
+ * factories created by this implementation are instances of this
+ * interface, the subscribers use the configuration of the factory.
+ *
+ * <p>
+ * A subscriber requests the values in batches, and flushes the output
+ * after each batch. It closes the output after the last value. When the
+ * publisher fails, the output is closed as is, with an incomplete JSON
+ * text. When the output fails, the subscription is cancelled and the
+ * output is closed.
+ */
+public interface JsonSubscriberFactory {
+
+    /**
+     * Creates a subscriber that writes the values as the elements of an
+     * array to a character stream.
+     *
+     * @param writer the array is written to this character stream
+     * @return a subscriber writing an array
+     */
+    JsonFlow.Subscriber<JsonValue> createArraySubscriber(Writer writer);
+
+    /**
+     * Creates a subscriber that writes the values as the elements of an
+     * array to a byte stream, in UTF-8.
+     *
+     * @param out the array is written to this byte stream
+     * @return a subscriber writing an array
+     */
+    JsonFlow.Subscriber<JsonValue> createArraySubscriber(OutputStream out);
+
+    /**
+     * Creates a subscriber that writes the values as JSON Lines records
+     * to a character stream.
+     *
+     * @param writer the records are written to this character stream
+     * @return a subscriber writing JSON Lines
+     * @see JsonLinesWriter
+     */
+    JsonFlow.Subscriber<JsonValue> createLinesSubscriber(Writer writer);
+
+    /**
+     * Creates a subscriber that writes the values as JSON Lines records
+     * to a byte stream, in UTF-8.
+     *
+     * @param out the records are written to this byte stream
+     * @return a subscriber writing JSON Lines
+     * @see JsonLinesWriter
+     */
+    JsonFlow.Subscriber<JsonValue> createLinesSubscriber(OutputStream out);
+
+}
@@ -0,0 +1,229 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json.api;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Key name that is escaped, quoted and encoded to UTF-8 only once, to be
+ * written any number of times by a {@link PreparedNameGenerator}. The
+ * generator copies the prepared chars, or the prepared bytes for UTF-8
+ * output, instead of checking each char of the name for escapes.
+ *
+ * <p>
+ * Instances are immutable and can be kept in static fields:
+ *
+ * <pre>
+ * <code>
+ * static final PreparedName ID = PreparedName.of("id");
+ * ...
+ * if (generator instanceof PreparedNameGenerator) {
+ *     ((PreparedNameGenerator) generator).writeKey(ID).write(id);
+ * } else {
+ *     generator.write("id", id);
+ * }
+ * </code>
+ * </pre>
+ */
+public final class PreparedName {
+
+    private final String name;
+    // the name as written by default, with the quotes
+    private final char[] chars;
+    private final byte[] bytes;
+    private final boolean ascii;
+    private final boolean htmlSafe;
+
+    private PreparedName(String name) {
+        this.name = name;
+        StringBuilder sb = new StringBuilder(name.length() + 2);
+        sb.append('"');
+        boolean ascii = true;
+        boolean htmlSafe = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            ascii &= c < 0x80;
+            htmlSafe &= c != '<' && c != '>' && c != '&' && c != '\'';
+            switch (c) {
+                case '"':
+                case '\\':
+                    sb.append('\\').append(c);
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        String hex = "000" + Integer.toHexString(c);
+                        sb.append("\\u").append(hex.substring(hex.length() - 4));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+        String quoted = sb.toString();
+        this.chars = quoted.toCharArray();
+        this.bytes = quoted.getBytes(StandardCharsets.UTF_8);
+        this.ascii = ascii;
+        this.htmlSafe = htmlSafe;
+    }
+
+    /**
+     * Prepares the given key name.
+     *
+     * @param name a key name
+     * @return the prepared name
+     * @throws NullPointerException if the name is null
+     */
+    public static PreparedName of(String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        return new PreparedName(name);
+    }
+
+    /**
+     * Returns the key name.
+     *
+     * @return the name, as given to {@link #of(String)}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether the name has only ASCII chars. The names that have
+     * others are escaped again by the generators that escape the chars
+     * outside of ASCII.
+     *
+     * @return true if all the chars of the name are ASCII
+     */
+    public boolean isAscii() {
+        return ascii;
+    }
+
+    /**
+     * Returns whether the name has none of the chars {@code < > & '}. The
+     * names that have some are escaped again by the generators that escape
+     * HTML-sensitive chars.
+     *
+     * @return true if the name has no HTML-sensitive char
+     */
+    public boolean isHtmlSafe() {
+        return htmlSafe;
+    }
+
+    /**
+     * Returns the number of chars of the escaped name, with the quotes.
+     *
+     * @return the number of chars
+     */
+    public int length() {
+        return chars.length;
+    }
+
+    /**
+     * Copies chars of the escaped name, with the quotes, into the
+     * destination array. Same as {@link String#getChars}.
+     *
+     * @param srcBegin index of the first char to copy
+     * @param srcEnd index after the last char to copy
+     * @param dst the destination array
+     * @param dstBegin the start offset in the destination array
+     * @throws IndexOutOfBoundsException if the indexes are out of range
+     */
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        System.arraycopy(chars, srcBegin, dst, dstBegin, srcEnd - srcBegin);
+    }
+
+    /**
+     * Returns the number of bytes of the escaped name, with the quotes,
+     * in UTF-8.
+     *
+     * @return the number of bytes
+     */
+    public int byteLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Copies bytes of the escaped name, with the quotes, in UTF-8 into the
+     * destination array.
+     *
+     * @param srcBegin index of the first byte to copy
+     * @param srcEnd index after the last byte to copy
+     * @param dst the destination array
+     * @param dstBegin the start offset in the destination array
+     * @throws IndexOutOfBoundsException if the indexes are out of range
+     */
+    public void getBytes(int srcBegin, int srcEnd, byte[] dst, int dstBegin) {
+        System.arraycopy(bytes, srcBegin, dst, dstBegin, srcEnd - srcBegin);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PreparedName && name.equals(((PreparedName) obj).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,284 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json.api;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BufferPool} that keeps the buffers per thread, so that the threads
+ * don't contend on a shared queue. It is used by passing an instance in the
+ * config map with the {@code BufferPool.class.getName()} key, for example
+ * <pre>{@code
+ * Map<String, Object> config = new HashMap<>();
+ * config.put(BufferPool.class.getName(), new ThreadLocalBufferPool());
+ * JsonParserFactory factory = Json.createParserFactory(config);
+ * }</pre>
+ *
+ * <p>The buffers are pooled in size classes, from 4096 chars or 8192 bytes
+ * (the size returned by {@link #take()} and {@link #takeBytes()}) up to
+ * 256 times that size, each class twice the size of the previous one. So a
+ * buffer grown by the parser for a long string is reused for the next long
+ * string, and larger buffers are not pooled at all. Each thread keeps
+ * a few buffers of each class, up to a limit of retained bytes. The
+ * buffers that don't fit there go to a queue per class shared by the
+ * threads, which also has a limit of retained bytes, and the threads
+ * take from it when they have no buffer of their own.
+ *
+ * <p>The buffers kept by a thread are released when the thread ends, or
+ * when the pool is no longer referenced: the buffers of the threads don't
+ * reference the pool, so they are dropped with the thread-local entries of
+ * a collected pool.
+ */
+public final class ThreadLocalBufferPool implements BufferPool {
+
+    /** Default limit of the bytes retained by each thread, 256 KiB. */
+    public static final long DEFAULT_MAX_THREAD_BYTES = 256L * 1024;
+
+    /** Default limit of the bytes retained in the shared queues, 8 MiB. */
+    public static final long DEFAULT_MAX_SHARED_BYTES = 8L * 1024 * 1024;
+
+    private static final int CHAR_SIZE = 4096;
+    private static final int BYTE_SIZE = 8192;
+    private static final int CLASSES = 9;
+    // buffers of a class kept by a thread
+    private static final int THREAD_BUFFERS = 2;
+
+    private final long maxThreadBytes;
+    private final long maxSharedBytes;
+    private final ThreadLocal<Cache> cache;
+    private final ConcurrentLinkedQueue<char[]>[] sharedChars;
+    private final ConcurrentLinkedQueue<byte[]>[] sharedBytes;
+    private final AtomicLong sharedSize = new AtomicLong();
+
+    /**
+     * Creates a pool with {@link #DEFAULT_MAX_THREAD_BYTES} and
+     * {@link #DEFAULT_MAX_SHARED_BYTES} limits.
+     */
+    public ThreadLocalBufferPool() {
+        this(DEFAULT_MAX_THREAD_BYTES, DEFAULT_MAX_SHARED_BYTES);
+    }
+
+    /**
+     * Creates a pool with the given limits. A char is counted as two bytes.
+     *
+     * @param maxThreadBytes limit of the bytes retained by each thread
+     * @param maxSharedBytes limit of the bytes retained in the shared queues
+     * @throws IllegalArgumentException if a limit is negative
+     */
+    @SuppressWarnings("unchecked")
+    public ThreadLocalBufferPool(long maxThreadBytes, long maxSharedBytes) {
+        if (maxThreadBytes < 0 || maxSharedBytes < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxThreadBytes = maxThreadBytes;
+        this.maxSharedBytes = maxSharedBytes;
+        // the supplier must not capture the pool, see Cache
+        cache = ThreadLocal.withInitial(() -> new Cache(maxThreadBytes));
+        sharedChars = (ConcurrentLinkedQueue<char[]>[]) new ConcurrentLinkedQueue<?>[CLASSES];
+        sharedBytes = (ConcurrentLinkedQueue<byte[]>[]) new ConcurrentLinkedQueue<?>[CLASSES];
+        for (int i = 0; i < CLASSES; i++) {
+            sharedChars[i] = new ConcurrentLinkedQueue<>();
+            sharedBytes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    @Override
+    public char[] take() {
+        return take(CHAR_SIZE);
+    }
+
+    @Override
+    public char[] take(int minLength) {
+        int sizeClass = sizeClass(minLength, CHAR_SIZE);
+        if (sizeClass < 0) {
+            return new char[minLength];
+        }
+        char[] buf = cache.get().takeChars(sizeClass);
+        if (buf == null) {
+            buf = sharedChars[sizeClass].poll();
+            if (buf == null) {
+                return new char[CHAR_SIZE << sizeClass];
+            }
+            sharedSize.addAndGet(-2L * buf.length);
+        }
+        return buf;
+    }
+
+    @Override
+    public void recycle(char[] buf) {
+        int sizeClass = exactSizeClass(buf.length, CHAR_SIZE);
+        if (sizeClass < 0) {
+            return;
+        }
+        long size = 2L * buf.length;
+        if (!cache.get().recycleChars(sizeClass, buf, size) && reserveShared(size)) {
+            sharedChars[sizeClass].offer(buf);
+        }
+    }
+
+    @Override
+    public byte[] takeBytes() {
+        return takeBytes(BYTE_SIZE);
+    }
+
+    @Override
+    public byte[] takeBytes(int minLength) {
+        int sizeClass = sizeClass(minLength, BYTE_SIZE);
+        if (sizeClass < 0) {
+            return new byte[minLength];
+        }
+        byte[] buf = cache.get().takeBytes(sizeClass);
+        if (buf == null) {
+            buf = sharedBytes[sizeClass].poll();
+            if (buf == null) {
+                return new byte[BYTE_SIZE << sizeClass];
+            }
+            sharedSize.addAndGet(-buf.length);
+        }
+        return buf;
+    }
+
+    @Override
+    public void recycleBytes(byte[] buf) {
+        int sizeClass = exactSizeClass(buf.length, BYTE_SIZE);
+        if (sizeClass < 0) {
+            return;
+        }
+        if (!cache.get().recycleBytes(sizeClass, buf, buf.length) && reserveShared(buf.length)) {
+            sharedBytes[sizeClass].offer(buf);
+        }
+    }
+
+    private boolean reserveShared(long size) {
+        if (sharedSize.addAndGet(size) <= maxSharedBytes) {
+            return true;
+        }
+        sharedSize.addAndGet(-size);
+        return false;
+    }
+
+    // Smallest class with buffers of at least the given length, or -1
+    private static int sizeClass(int minLength, int base) {
+        if (minLength <= base) {
+            return 0;
+        }
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(minLength - 1)
+                - Integer.numberOfTrailingZeros(base);
+        return sizeClass < CLASSES ? sizeClass : -1;
+    }
+
+    // Class of the buffers of exactly the given length, or -1
+    private static int exactSizeClass(int length, int base) {
+        if (length < base || Integer.bitCount(length) != 1) {
+            return -1;
+        }
+        int sizeClass = Integer.numberOfTrailingZeros(length)
+                - Integer.numberOfTrailingZeros(base);
+        return sizeClass < CLASSES ? sizeClass : -1;
+    }
+
+    // Buffers kept by a thread, THREAD_BUFFERS slots per class. It is the
+    // value of the thread-local entry, so it doesn't reference the pool:
+    // that would keep the weak key of the entry, and the pool, reachable
+    // as long as the thread is alive
+    private static final class Cache {
+        private final long maxThreadBytes;
+        private final char[][] chars = new char[CLASSES * THREAD_BUFFERS][];
+        private final byte[][] bytes = new byte[CLASSES * THREAD_BUFFERS][];
+        private final int[] charCount = new int[CLASSES];
+        private final int[] byteCount = new int[CLASSES];
+        private long size;
+
+        Cache(long maxThreadBytes) {
+            this.maxThreadBytes = maxThreadBytes;
+        }
+
+        char[] takeChars(int sizeClass) {
+            int count = charCount[sizeClass];
+            if (count == 0) {
+                return null;
+            }
+            int slot = sizeClass * THREAD_BUFFERS + count - 1;
+            char[] buf = chars[slot];
+            chars[slot] = null;
+            charCount[sizeClass] = count - 1;
+            size -= 2L * buf.length;
+            return buf;
+        }
+
+        boolean recycleChars(int sizeClass, char[] buf, long bufSize) {
+            int count = charCount[sizeClass];
+            if (count == THREAD_BUFFERS || size + bufSize > maxThreadBytes) {
+                return false;
+            }
+            chars[sizeClass * THREAD_BUFFERS + count] = buf;
+            charCount[sizeClass] = count + 1;
+            size += bufSize;
+            return true;
+        }
+
+        byte[] takeBytes(int sizeClass) {
+            int count = byteCount[sizeClass];
+            if (count == 0) {
+                return null;
+            }
+            int slot = sizeClass * THREAD_BUFFERS + count - 1;
+            byte[] buf = bytes[slot];
+            bytes[slot] = null;
+            byteCount[sizeClass] = count - 1;
+            size -= buf.length;
+            return buf;
+        }
+
+        boolean recycleBytes(int sizeClass, byte[] buf, long bufSize) {
+            int count = byteCount[sizeClass];
+            if (count == THREAD_BUFFERS || size + bufSize > maxThreadBytes) {
+                return false;
+            }
+            bytes[sizeClass * THREAD_BUFFERS + count] = buf;
+            byteCount[sizeClass] = count + 1;
+            size += bufSize;
+            return true;
+        }
+    }
+
+}
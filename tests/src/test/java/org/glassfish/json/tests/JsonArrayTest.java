@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -45,8 +45,14 @@ import junit.framework.TestCase;
 import javax.json.*;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.JsonNumberArray;
+
 /**
  * @author Jitendra Kotamraju
  */
@@ -126,6 +132,107 @@ public class JsonArrayTest extends TestCase {
         assertEquals(10, array.getInt(1));
     }
 
+    public void testNumberArray() throws Exception {
+        JsonArray ints = read("[1, -2, 300]");
+        assertTrue(ints instanceof JsonNumberArray);
+        assertArrayEquals(new int[] {1, -2, 300}, ((JsonNumberArray) ints).toIntArray());
+        assertEquals(300, ints.getInt(2));
+        assertEquals(-2L, ints.getJsonNumber(1).longValueExact());
+        assertEquals("[1,-2,300]", ints.toString());
+
+        JsonArray longs = read("[1, 12345678901, -922337203685477580]");
+        assertTrue(longs instanceof JsonNumberArray);
+        assertEquals(12345678901L, ((JsonNumberArray) longs).toLongArray()[1]);
+        assertEquals(-922337203685477580L, longs.getJsonNumber(2).longValue());
+        assertEquals(1, longs.getInt(0));
+        assertEquals("[1,12345678901,-922337203685477580]", longs.toString());
+
+        JsonArray doubles = read("[0.5, -1.25, 3.0]");
+        assertTrue(doubles instanceof JsonNumberArray);
+        assertEquals(-1.25, ((JsonNumberArray) doubles).toDoubleArray()[1]);
+        assertEquals(new BigDecimal("3.0"), doubles.getJsonNumber(2).bigDecimalValue());
+        assertEquals("[0.5,-1.25,3.0]", doubles.toString());
+
+        // boxed elements compare the same as the ones of a generic array
+        JsonArray generic = Json.createArrayBuilder()
+                .add(Json.createValue(0.5)).add(Json.createValue(-1.25)).add(Json.createValue(3.0))
+                .build();
+        assertFalse(generic instanceof JsonNumberArray);
+        assertEquals(generic, doubles);
+        assertEquals(doubles, generic);
+        assertEquals(generic.hashCode(), doubles.hashCode());
+    }
+
+    public void testNumberArrayKeepsNumbers() throws Exception {
+        // these would not read back the same from a double or are mixed
+        assertFalse(read("[1.10, 2.5]") instanceof JsonNumberArray);
+        assertFalse(read("[1e3]") instanceof JsonNumberArray);
+        assertFalse(read("[1, 2.5]") instanceof JsonNumberArray);
+        assertFalse(read("[1, null]") instanceof JsonNumberArray);
+        assertEquals("[1.10,2.5]", read("[1.10, 2.5]").toString());
+        assertEquals("[1E+3]", read("[1e3]").toString());
+        assertEquals("[1,2.5]", read("[1, 2.5]").toString());
+        assertEquals("[1,null]", read("[1, null]").toString());
+    }
+
+    public void testNumberArrayExponents() throws Exception {
+        JsonArray doubles = read("[1.5e10, 2.5E-5, 12.25e1]");
+        assertTrue(doubles instanceof JsonNumberArray);
+        assertEquals(1.5e10, ((JsonNumberArray) doubles).toDoubleArray()[0]);
+        assertEquals("[1.5E+10,0.000025,122.5]", doubles.toString());
+        // many digits are kept as they are
+        assertFalse(read("[0.1234567890123456]") instanceof JsonNumberArray);
+        assertFalse(read("[1.5e20]") instanceof JsonNumberArray);
+    }
+
+    public void testLazyNumberArray() throws Exception {
+        JsonReaderFactory factory = Json.createReaderFactory(
+                Collections.singletonMap(JsonConfig.LAZY_READING, true));
+        for (String json : new String[] {"[0.5, -1.25, 3.0]", "[1.10, 2.5]", "[[1e3, 12345678901234567890.5]]"}) {
+            JsonArray eager = read(json);
+            JsonArray lazy;
+            try (JsonReader reader = factory.createReader(new StringReader(json))) {
+                lazy = reader.readArray();
+            }
+            assertEquals(eager, lazy);
+            assertEquals(eager.toString(), lazy.toString());
+            JsonArray elements = eager.get(0) instanceof JsonArray ? eager.getJsonArray(0) : eager;
+            JsonArray lazyElements = lazy.get(0) instanceof JsonArray ? lazy.getJsonArray(0) : lazy;
+            for (int i = 0; i < elements.size(); i++) {
+                assertEquals(elements.get(i).getClass(), lazyElements.get(i).getClass());
+            }
+        }
+    }
+
+    public void testNumberArrayBuilder() throws Exception {
+        JsonArray array = Json.createArrayBuilder().add(1).add(2L).add(3).build();
+        assertTrue(array instanceof JsonNumberArray);
+        assertEquals(read("[1,2,3]"), array);
+
+        array = Json.createArrayBuilder().add(1).add(2).add(0, 5).remove(1).set(0, 9).build();
+        assertEquals("[9,2]", array.toString());
+
+        array = Json.createArrayBuilder().add(1.5).add("a").build();
+        assertEquals("[1.5,\"a\"]", array.toString());
+
+        try {
+            Json.createArrayBuilder().add(Double.NaN);
+            fail("JsonArrayBuilder#add(NaN) should throw NumberFormatException");
+        } catch (NumberFormatException e) {
+            // Expected
+        }
+    }
+
+    private static JsonArray read(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readArray();
+        }
+    }
+
+    private static void assertArrayEquals(int[] expected, int[] actual) {
+        assertTrue(Arrays.equals(expected, actual));
+    }
+
     public void testArrayBuilderNpe() {
         try {
             JsonArray array = Json.createArrayBuilder().add((JsonValue)null).build();
@@ -0,0 +1,277 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParsingException;
+
+import org.glassfish.json.api.JsonFeedParser;
+import org.glassfish.json.api.JsonFeedParserFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests JsonFeedParser
+ */
+public class JsonFeedParserTest extends TestCase {
+
+    private static final String JSON = "{\"a\" : [1, -2.5e+3, true, false, null],"
+            + " \"b\\\"c\": {\"d\": \"e\\\\f\\n" + (char) 0xe9 + "\\" + "u00e9\"}, \"g\":[ ], \"h\":{}, "
+            + "\"i\": 123456789012345678901234567890, \"j\": [[[\"k\"]]]}";
+
+    private static JsonFeedParser parser() {
+        JsonFeedParserFactory factory = (JsonFeedParserFactory) Json.createParserFactory(null);
+        return factory.createFeedParser();
+    }
+
+    // Events with their values, as read by a blocking parser
+    private static List<String> parse(String json) {
+        List<String> events = new ArrayList<>();
+        JsonParser parser = Json.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        while (parser.hasNext()) {
+            events.add(describe(parser, parser.next()));
+        }
+        parser.close();
+        return events;
+    }
+
+    // Events with their values, as read by a feed parser fed in chunks
+    private static List<String> feed(String json, int chunk) {
+        List<String> events = new ArrayList<>();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonFeedParser parser = parser();
+        for (int i = 0; i < bytes.length; i += chunk) {
+            parser.feed(bytes, i, Math.min(chunk, bytes.length - i));
+            Event event;
+            while ((event = parser.nextEvent()) != JsonFeedParser.NEED_MORE_INPUT) {
+                events.add(describe(parser, event));
+            }
+        }
+        parser.endOfInput();
+        while (parser.hasNext()) {
+            events.add(describe(parser, parser.nextEvent()));
+        }
+        parser.close();
+        return events;
+    }
+
+    private static String describe(JsonParser parser, Event event) {
+        switch (event) {
+            case KEY_NAME:
+            case VALUE_STRING:
+                return event + " " + parser.getString();
+            case VALUE_NUMBER:
+                return event + " " + parser.getBigDecimal();
+            default:
+                return event.toString();
+        }
+    }
+
+    public void testFeedInChunks() {
+        List<String> expected = parse(JSON);
+        for (int chunk = 1; chunk <= 16; chunk++) {
+            assertEquals("chunk " + chunk, expected, feed(JSON, chunk));
+        }
+        assertEquals(expected, feed(JSON, 1000));
+    }
+
+    public void testTopLevelValues() {
+        for (String json : new String[] {"12", " -0.5 ", "\"s\"", "true", "null", " [ ] "}) {
+            for (int chunk = 1; chunk <= 3; chunk++) {
+                assertEquals(parse(json), feed(json, chunk));
+            }
+        }
+    }
+
+    public void testNeedMoreInput() {
+        JsonFeedParser parser = parser();
+        assertNull(JsonFeedParser.NEED_MORE_INPUT);
+        assertTrue(parser.hasNext());
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        feed(parser, "{\"ab");
+        assertEquals(Event.START_OBJECT, parser.nextEvent());
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        try {
+            parser.next();
+            fail("next() must fail without the input");
+        } catch (IllegalStateException expected) {
+            // no-op
+        }
+        feed(parser, "c\":12");
+        assertEquals(Event.KEY_NAME, parser.nextEvent());
+        assertEquals("abc", parser.getString());
+        // the number may go on
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        feed(parser, "3}");
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals(123, parser.getInt());
+        assertEquals(Event.END_OBJECT, parser.next());
+        // more values may follow until the end of input
+        assertTrue(parser.hasNext());
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        feed(parser, "  ");
+        parser.endOfInput();
+        assertFalse(parser.hasNext());
+        try {
+            parser.nextEvent();
+            fail("nextEvent() must fail after the last event");
+        } catch (NoSuchElementException expected) {
+            // no-op
+        }
+        parser.close();
+    }
+
+    public void testNumberAtEndOfInput() {
+        JsonFeedParser parser = parser();
+        feed(parser, "[1,2");
+        assertEquals(Event.START_ARRAY, parser.nextEvent());
+        assertEquals(Event.VALUE_NUMBER, parser.nextEvent());
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        parser.endOfInput();
+        assertEquals(Event.VALUE_NUMBER, parser.nextEvent());
+        assertEquals(2, parser.getInt());
+        try {
+            parser.nextEvent();
+            fail("The array is not closed");
+        } catch (JsonParsingException expected) {
+            // no-op
+        }
+        parser.close();
+    }
+
+    public void testStructureComplete() {
+        JsonFeedParser parser = parser();
+        parser.feed(ByteBuffer.wrap(bytes("[{\"a\":[1,{\"b\":2}]")));
+        assertEquals(Event.START_ARRAY, parser.nextEvent());
+        assertEquals(Event.START_OBJECT, parser.nextEvent());
+        assertFalse(parser.isStructureComplete());
+        try {
+            parser.getObject();
+            fail("The object is not fed");
+        } catch (IllegalStateException expected) {
+            // no-op
+        }
+        feed(parser, ", \"c\": \"}\"}");
+        assertTrue(parser.isStructureComplete());
+        JsonObject object = parser.getObject();
+        assertEquals(2, object.getJsonArray("a").getJsonObject(1).getInt("b"));
+        assertEquals("}", object.getString("c"));
+        // the enclosing array is not complete
+        assertFalse(parser.isStructureComplete());
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        feed(parser, ",[3]]");
+        assertTrue(parser.isStructureComplete());
+        assertEquals(Event.START_ARRAY, parser.nextEvent());
+        parser.skipArray();
+        assertEquals(Event.END_ARRAY, parser.nextEvent());
+        parser.endOfInput();
+        assertFalse(parser.hasNext());
+        parser.close();
+    }
+
+    public void testInvalidInput() {
+        JsonFeedParser parser = parser();
+        feed(parser, "[1, x");
+        assertEquals(Event.START_ARRAY, parser.nextEvent());
+        assertEquals(Event.VALUE_NUMBER, parser.nextEvent());
+        try {
+            parser.nextEvent();
+            fail("x is not a value");
+        } catch (JsonParsingException expected) {
+            assertEquals(5L, expected.getLocation().getColumnNumber());
+        }
+        parser.close();
+    }
+
+    public void testTruncatedInput() {
+        JsonFeedParser parser = parser();
+        feed(parser, "{\"a\":\"b");
+        assertEquals(Event.START_OBJECT, parser.nextEvent());
+        assertEquals(Event.KEY_NAME, parser.nextEvent());
+        assertSame(JsonFeedParser.NEED_MORE_INPUT, parser.nextEvent());
+        parser.endOfInput();
+        try {
+            parser.nextEvent();
+            fail("The string is not closed");
+        } catch (JsonParsingException expected) {
+            // no-op
+        }
+        try {
+            feed(parser, "\"}");
+            fail("Cannot feed after the end of input");
+        } catch (IllegalStateException expected) {
+            // no-op
+        }
+        parser.close();
+    }
+
+    public void testLargeInput() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i == 0 ? "" : ",").append("{\"id\":").append(i)
+                    .append(",\"name\":\"name").append(i).append("\"}");
+        }
+        String json = sb.append("]").toString();
+        assertEquals(parse(json), feed(json, 997));
+    }
+
+    private static void feed(JsonFeedParser parser, String str) {
+        byte[] bytes = bytes(str);
+        parser.feed(bytes, 0, bytes.length);
+    }
+
+    private static byte[] bytes(String str) {
+        return str.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,298 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParsingException;
+
+import org.glassfish.json.api.JsonFlow;
+import org.glassfish.json.api.JsonPublisherFactory;
+import org.glassfish.json.api.JsonSubscriberFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the publishers of JsonPublisherFactory and the subscribers of
+ * JsonSubscriberFactory
+ */
+public class JsonFlowTest extends TestCase {
+
+    private static JsonPublisherFactory publishers() {
+        return (JsonPublisherFactory) Json.createReaderFactory(null);
+    }
+
+    private static JsonSubscriberFactory subscribers() {
+        return (JsonSubscriberFactory) Json.createWriterFactory(null);
+    }
+
+    // Records the signals, requests the given number of values at a time
+    private static class Recorder implements JsonFlow.Subscriber<JsonValue> {
+        final long batch;
+        final List<JsonValue> values = new ArrayList<>();
+        JsonFlow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        Recorder(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(JsonFlow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(JsonValue item) {
+            assertFalse(completed);
+            assertNull(error);
+            values.add(item);
+            if (batch > 0 && values.size() % batch == 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            assertFalse(completed);
+            assertNull(error);
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            assertFalse(completed);
+            assertNull(error);
+            completed = true;
+        }
+    }
+
+    public void testArrayPublisher() {
+        Recorder recorder = new Recorder(0);
+        publishers().createArrayPublisher(new StringReader("[1, {\"a\": [true]}, \"s\", null]"))
+                .subscribe(recorder);
+        assertNotNull(recorder.subscription);
+        assertTrue(recorder.values.isEmpty());
+        recorder.subscription.request(2);
+        assertEquals(2, recorder.values.size());
+        assertEquals(Json.createValue(1), recorder.values.get(0));
+        assertTrue(recorder.values.get(1).asJsonObject().getJsonArray("a").getBoolean(0));
+        assertFalse(recorder.completed);
+        recorder.subscription.request(2);
+        assertEquals(4, recorder.values.size());
+        assertEquals(JsonValue.NULL, recorder.values.get(3));
+        // the end is known after the next read
+        assertFalse(recorder.completed);
+        recorder.subscription.request(1);
+        assertTrue(recorder.completed);
+    }
+
+    public void testRequestFromOnNext() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i == 0 ? "" : ",").append(i);
+        }
+        byte[] json = sb.append("]").toString().getBytes(StandardCharsets.UTF_8);
+        Recorder recorder = new Recorder(1);
+        publishers().createArrayPublisher(new ByteArrayInputStream(json)).subscribe(recorder);
+        recorder.subscription.request(1);
+        assertEquals(1000, recorder.values.size());
+        assertEquals(Json.createValue(999), recorder.values.get(999));
+        assertTrue(recorder.completed);
+    }
+
+    public void testUnboundedRequest() {
+        Recorder recorder = new Recorder(0);
+        publishers().createLinesPublisher(new StringReader("1\n2\n3\n")).subscribe(recorder);
+        recorder.subscription.request(Long.MAX_VALUE);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(3, recorder.values.size());
+        assertTrue(recorder.completed);
+    }
+
+    public void testCancel() {
+        Recorder recorder = new Recorder(0);
+        publishers().createLinesPublisher(new StringReader("1\n2\n3\n")).subscribe(recorder);
+        recorder.subscription.request(1);
+        recorder.subscription.cancel();
+        recorder.subscription.request(5);
+        assertEquals(1, recorder.values.size());
+        assertFalse(recorder.completed);
+        assertNull(recorder.error);
+    }
+
+    public void testInvalidRequest() {
+        Recorder recorder = new Recorder(0);
+        publishers().createArrayPublisher(new StringReader("[1]")).subscribe(recorder);
+        recorder.subscription.request(0);
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        recorder.subscription.request(1);
+        assertTrue(recorder.values.isEmpty());
+    }
+
+    public void testSingleSubscriber() {
+        JsonFlow.Publisher<JsonValue> publisher = publishers().createArrayPublisher(new StringReader("[1]"));
+        Recorder first = new Recorder(0);
+        Recorder second = new Recorder(0);
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertNotNull(second.subscription);
+        assertTrue(second.error instanceof IllegalStateException);
+        first.subscription.request(2);
+        assertEquals(1, first.values.size());
+        assertTrue(first.completed);
+    }
+
+    public void testParsingErrors() {
+        Recorder recorder = new Recorder(0);
+        publishers().createArrayPublisher(new StringReader("{\"a\":1}")).subscribe(recorder);
+        recorder.subscription.request(1);
+        assertTrue(recorder.error instanceof JsonException);
+
+        recorder = new Recorder(0);
+        publishers().createArrayPublisher(new StringReader("[1, 2 x")).subscribe(recorder);
+        recorder.subscription.request(5);
+        assertEquals(2, recorder.values.size());
+        assertTrue(recorder.error instanceof JsonParsingException);
+
+        recorder = new Recorder(0);
+        publishers().createArrayPublisher(new StringReader("[1] 2")).subscribe(recorder);
+        recorder.subscription.request(5);
+        assertEquals(1, recorder.values.size());
+        assertTrue(recorder.error instanceof JsonParsingException);
+    }
+
+    public void testArraySubscriber() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append("}");
+        }
+        String json = sb.append("]").toString();
+        StringWriter writer = new StringWriter();
+        publishers().createArrayPublisher(new StringReader(json))
+                .subscribe(subscribers().createArraySubscriber(writer));
+        assertEquals(json, writer.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        publishers().createArrayPublisher(new StringReader("[]"))
+                .subscribe(subscribers().createArraySubscriber(out));
+        assertEquals("[]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testLinesSubscriber() {
+        String lines = "{\"a\":1}\n[2]\n\"s\"\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        publishers().createLinesPublisher(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)))
+                .subscribe(subscribers().createLinesSubscriber(out));
+        assertEquals(lines, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        StringWriter writer = new StringWriter();
+        publishers().createArrayPublisher(new StringReader("[1,[2]]"))
+                .subscribe(subscribers().createLinesSubscriber(writer));
+        assertEquals("1\n[2]\n", writer.toString());
+    }
+
+    public void testSubscriberPublisherError() {
+        StringWriter writer = new StringWriter();
+        publishers().createArrayPublisher(new StringReader("[1, 2 x"))
+                .subscribe(subscribers().createArraySubscriber(writer));
+        assertEquals("[1,2", writer.toString());
+    }
+
+    public void testSubscriberOutputError() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("failed");
+            }
+        };
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            sb.append(i == 0 ? "" : ",").append(i);
+        }
+        JsonFlow.Subscriber<JsonValue> sink = subscribers().createArraySubscriber(failing);
+        Recorder recorder = new Recorder(0) {
+            @Override
+            public void onSubscribe(JsonFlow.Subscription subscription) {
+                super.onSubscribe(subscription);
+                sink.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(JsonValue item) {
+                super.onNext(item);
+                sink.onNext(item);
+            }
+        };
+        publishers().createArrayPublisher(new StringReader(sb.append("]").toString())).subscribe(recorder);
+        // the sink cancels after the first flush fails
+        assertTrue(recorder.values.size() < 10000);
+        assertFalse(recorder.completed);
+    }
+
+    public void testPrettyArraySubscriber() {
+        JsonSubscriberFactory factory = (JsonSubscriberFactory) Json.createWriterFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+        StringWriter writer = new StringWriter();
+        publishers().createArrayPublisher(new StringReader("[1,2]"))
+                .subscribe(factory.createArraySubscriber(writer));
+        JsonArray array = Json.createReader(new StringReader(writer.toString())).readArray();
+        assertEquals(2, array.size());
+        assertTrue(writer.toString().contains("\n"));
+    }
+
+}
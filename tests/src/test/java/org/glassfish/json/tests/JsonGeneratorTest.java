@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -42,11 +42,23 @@ package org.glassfish.json.tests;
 
 import junit.framework.TestCase;
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonBufferGeneratorFactory;
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.PreparedName;
+import org.glassfish.json.api.PreparedNameGenerator;
 
 import javax.json.*;
 import javax.json.stream.*;
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -459,6 +471,119 @@ public class JsonGeneratorTest extends TestCase {
         }
     }
 
+    public void testLongGenerator() throws Exception {
+        long[] nums = { 0L, -1L, 1L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L,
+                9999999999L, 10000000000L, -9999999999L,
+                Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+        for (long num : nums) {
+            assertNumbers(String.valueOf(num), num, null);
+        }
+        Random r = new Random(System.currentTimeMillis());
+        for (int i = 0; i < 10000; i++) {
+            long num = r.nextLong();
+            assertNumbers(String.valueOf(num), num, null);
+        }
+    }
+
+    public void testDoubleGenerator() throws Exception {
+        double[] nums = { 0.0, -0.0, 1.0, -1.0, 0.5, 100.0, 0.001,
+                1.0E-4, 1234567.0, 9999999.0, 1.0E7, 1.2345678E7,
+                0.1, 0.3, 2.0 / 3, Math.PI, 2.0E-3,
+                Double.MAX_VALUE, Double.MIN_VALUE, Double.MIN_NORMAL,
+                Float.MAX_VALUE, (double) Long.MAX_VALUE };
+        for (double num : nums) {
+            assertNumbers(Double.toString(num), num);
+            assertNumbers(Double.toString(-num), -num);
+        }
+        // Double.toString() gives 9.999999999999999E22 before JDK 19
+        assertNumbers("1.0E23", 1.0E23);
+                Random r = new Random(System.currentTimeMillis());
+        for (int i = 0; i < 10000; i++) {
+            double num = Double.longBitsToDouble(r.nextLong());
+            if (!Double.isNaN(num) && !Double.isInfinite(num)) {
+                assertNumbers(null, num);
+            }
+        }
+    }
+
+    // The shortest digits may differ from Double.toString() in older JDKs,
+    // but must always read back as the same double
+    private void assertNumbers(String expected, double num) throws Exception {
+        String got = assertNumbers(expected, null, num);
+        assertEquals(num, Double.parseDouble(got));
+        assertTrue(got.length() <= Double.toString(num).length());
+    }
+
+    private String assertNumbers(String expected, Long l, Double d) throws Exception {
+        StringWriter sw = new StringWriter();
+        JsonGenerator generator = Json.createGenerator(sw);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator utf8 = Json.createGenerator(out);
+        for (JsonGenerator gen : new JsonGenerator[] { generator, utf8 }) {
+            if (l != null) {
+                gen.writeStartArray().write(l).writeStartObject().write("n", l)
+                        .writeEnd().writeEnd().close();
+            } else {
+                gen.writeStartArray().write(d).writeStartObject().write("n", d)
+                        .writeEnd().writeEnd().close();
+            }
+        }
+        String json = sw.toString();
+        assertEquals(json, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        String got = json.substring(1, json.indexOf(','));
+        if (expected != null) {
+            assertEquals(expected, got);
+        }
+        assertEquals("[" + got + ",{\"n\":" + got + "}]", json);
+        return got;
+    }
+
+    public void testJsonNumberGenerator() throws Exception {
+        JsonArray array = Json.createArrayBuilder()
+                .add(12).add(Long.MIN_VALUE).add(new BigInteger("123456789012345678901234567890"))
+                .add(new BigInteger("-42")).add(new BigDecimal("1.50")).add(2.5)
+                .build();
+        String expected = "[12,-9223372036854775808,123456789012345678901234567890,-42,1.50,2.5]";
+
+        StringWriter sw = new StringWriter();
+        Json.createWriter(sw).write(array);
+        assertEquals(expected, sw.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = Json.createGenerator(out);
+        generator.writeStartObject().write("a", array).write("n", array.getJsonNumber(1)).writeEnd().close();
+        assertEquals("{\"a\":" + expected + ",\"n\":-9223372036854775808}",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        sw = new StringWriter();
+        generator = Json.createGenerator(sw);
+        generator.writeStartArray().write(new BigInteger("-9223372036854775808"))
+                .write(new BigInteger("9223372036854775808")).writeEnd().close();
+        assertEquals("[-9223372036854775808,9223372036854775808]", sw.toString());
+    }
+
+    public void testNumberBufferSizes() throws Exception {
+        for(int size=10; size < 40; size++) {
+            final JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(size);
+            Map<String, Object> config = new HashMap<String, Object>() {{
+                put(BufferPool.class.getName(), bufferPool);
+            }};
+            JsonGeneratorFactory gf = Json.createGeneratorFactory(config);
+            StringWriter sw = new StringWriter();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonGenerator[] generators = { gf.createGenerator(sw), gf.createGenerator(out) };
+            for (JsonGenerator generator : generators) {
+                generator.writeStartArray().write(-1.2345678901234568E-300)
+                        .write(Long.MIN_VALUE).write(-1234567890123456789L)
+                        .write(0.001).writeEnd().close();
+            }
+            String expected = "[-1.2345678901234568E-300,-9223372036854775808,-1234567890123456789,0.001]";
+            assertEquals(expected, sw.toString());
+            assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
     public void testGeneratorBuf() throws Exception {
         JsonGeneratorFactory gf = Json.createGeneratorFactory(null);
         JsonReaderFactory rf = Json.createReaderFactory(null);
@@ -528,6 +653,196 @@ public class JsonGeneratorTest extends TestCase {
         }
     }
 
+    // UTF-8 is encoded directly into the byte buffer, multi-byte chars
+    // may cross the buffer boundaries
+    public void testUtf8BufferSizes() throws Exception {
+        String value = "a\u00e9\u20ac\ud83d\ude00";
+        for(int size=10; size < 100; size++) {
+            final JsonParserTest.MyBufferPool bufferPool = new JsonParserTest.MyBufferPool(size);
+            Map<String, Object> config = new HashMap<String, Object>() {{
+                put(BufferPool.class.getName(), bufferPool);
+            }};
+            JsonGeneratorFactory gf = Json.createGeneratorFactory(config);
+
+            StringBuilder sb = new StringBuilder();
+            for(int i=0; i < 100; i++) {
+                sb.append(value);
+                String name = sb.toString();
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                JsonGenerator generator = gf.createGenerator(out);
+                generator.writeStartObject().write(name, i).write("\\", name).writeEnd().close();
+
+                String expected = "{\"" + name + "\":" + i + ",\"\\\\\":\"" + name + "\"}";
+                assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+            }
+            assertTrue(bufferPool.isTakeCalled());
+            assertTrue(bufferPool.isRecycleCalled());
+        }
+    }
+
+    public void testEscapeNonAscii() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.ESCAPE_NON_ASCII, true);
+        JsonGeneratorFactory gf = Json.createGeneratorFactory(config);
+        assertTrue(gf.getConfigInUse().containsKey(JsonConfig.ESCAPE_NON_ASCII));
+
+        String expected = "{\"\\u00e9\":\"a\\u00e9\\u20ac\\ud83d\\ude00\"}";
+        StringWriter sw = new StringWriter();
+        JsonGenerator generator = gf.createGenerator(sw);
+        generator.writeStartObject().write("\u00e9", "a\u00e9\u20ac\ud83d\ude00").writeEnd().close();
+        assertEquals(expected, sw.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator = gf.createGenerator(out);
+        generator.writeStartObject().write("\u00e9", "a\u00e9\u20ac\ud83d\ude00").writeEnd().close();
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    public void testEscapeHtml() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.ESCAPE_HTML, true);
+        JsonGeneratorFactory gf = Json.createGeneratorFactory(config);
+        assertTrue(gf.getConfigInUse().containsKey(JsonConfig.ESCAPE_HTML));
+
+        String expected = "{\"\\u003ca\\u003e\":\"</b> \\u0026 \\u0027\\\"\u00e9\"}"
+                .replace("</b>", "\\u003c/b\\u003e");
+        assertGenerated(gf, expected, "<a>", "</b> & '\"\u00e9");
+
+        JsonWriterFactory wf = Json.createWriterFactory(config);
+        assertTrue(wf.getConfigInUse().containsKey(JsonConfig.ESCAPE_HTML));
+        StringWriter sw = new StringWriter();
+        try (JsonWriter writer = wf.createWriter(sw)) {
+            writer.writeArray(Json.createArrayBuilder().add("<&>").build());
+        }
+        assertEquals("[\"\\u003c\\u0026\\u003e\"]", sw.toString());
+    }
+
+    public void testEscapeClosingTags() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.ESCAPE_CLOSING_TAGS, true);
+        JsonGeneratorFactory gf = Json.createGeneratorFactory(config);
+        assertTrue(gf.getConfigInUse().containsKey(JsonConfig.ESCAPE_CLOSING_TAGS));
+
+        String expected = "{\"/</\":\"<\\/script> a/b < /\"}".replace("/</", "/<\\/");
+        assertGenerated(gf, expected, "/</", "</script> a/b < /");
+
+        JsonReader reader = Json.createReader(new StringReader(expected));
+        assertEquals("</script> a/b < /", reader.readObject().getString("/</"));
+    }
+
+    public void testEscapeAllModes() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.ESCAPE_NON_ASCII, true);
+        config.put(JsonConfig.ESCAPE_HTML, true);
+        config.put(JsonConfig.ESCAPE_CLOSING_TAGS, true);
+        JsonGeneratorFactory gf = Json.createGeneratorFactory(config);
+        String expected = "{\"k\":\"\\u003c/\\u00e9\\t\"}";
+        assertGenerated(gf, expected, "k", "</\u00e9\t");
+    }
+
+    // Every ASCII char, JSON requires to escape the control chars only
+    public void testEscapeAscii() throws Exception {
+        StringBuilder value = new StringBuilder();
+        StringBuilder expected = new StringBuilder("{\"k\":\"");
+        for (char c = 0; c < 0x80; c++) {
+            value.append(c);
+            switch (c) {
+                case '"': expected.append("\\\""); break;
+                case '\\': expected.append("\\\\"); break;
+                case '\b': expected.append("\\b"); break;
+                case '\f': expected.append("\\f"); break;
+                case '\n': expected.append("\\n"); break;
+                case '\r': expected.append("\\r"); break;
+                case '\t': expected.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        expected.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        expected.append(c);
+                    }
+            }
+        }
+        expected.append("\"}");
+        assertGenerated(Json.createGeneratorFactory(null), expected.toString(), "k", value.toString());
+    }
+
+    // Same output for a Writer and for UTF-8 bytes
+    private void assertGenerated(JsonGeneratorFactory gf, String expected,
+            String name, String value) throws Exception {
+        StringWriter sw = new StringWriter();
+        JsonGenerator generator = gf.createGenerator(sw);
+        generator.writeStartObject().write(name, value).writeEnd().close();
+        assertEquals(expected, sw.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator = gf.createGenerator(out);
+        generator.writeStartObject().write(name, value).writeEnd().close();
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testPreparedNames() throws Exception {
+        String[] names = { "", "id", "a\"b\\c", "\b\f\n\r\t\u0001\u001f",
+                "caf\u00e9 \u20ac", "\ud83d\ude00", "\ud83d", "</script>", "a&b'c>",
+                "name_that_is_longer_than_the_small_buffers" };
+        Map<String, Object> escapeConfig = new HashMap<>();
+        escapeConfig.put(JsonConfig.ESCAPE_NON_ASCII, true);
+        Map<String, Object> prettyConfig = new HashMap<>();
+        prettyConfig.put(JsonGenerator.PRETTY_PRINTING, true);
+        Map<String, Object> htmlConfig = new HashMap<>();
+        htmlConfig.put(JsonConfig.ESCAPE_HTML, true);
+        Map<String, Object> tagsConfig = new HashMap<>();
+        tagsConfig.put(JsonConfig.ESCAPE_CLOSING_TAGS, true);
+        for (Map<String, Object> config : new Map[] { null, escapeConfig, prettyConfig, htmlConfig, tagsConfig }) {
+            for (int size : new int[] { 10, 16, 4096 }) {
+                Map<String, Object> poolConfig = config == null
+                        ? new HashMap<String, Object>() : new HashMap<>(config);
+                poolConfig.put(BufferPool.class.getName(), new JsonParserTest.MyBufferPool(size));
+                JsonGeneratorFactory gf = Json.createGeneratorFactory(poolConfig);
+                for (String name : names) {
+                    PreparedName prepared = PreparedName.of(name);
+                    assertEquals(name, prepared.getName());
+
+                    StringWriter expected = new StringWriter();
+                    ByteArrayOutputStream expectedOut = new ByteArrayOutputStream();
+                    for (JsonGenerator generator : new JsonGenerator[] {
+                            gf.createGenerator(expected), gf.createGenerator(expectedOut) }) {
+                        generator.writeStartObject()
+                                .write(name, 1).write(name, "v")
+                                .writeStartObject(name).writeEnd()
+                                .writeStartArray(name).writeEnd()
+                                .writeEnd().close();
+                    }
+
+                    StringWriter sw = new StringWriter();
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    for (JsonGenerator generator : new JsonGenerator[] {
+                            gf.createGenerator(sw), gf.createGenerator(out) }) {
+                        PreparedNameGenerator pg = (PreparedNameGenerator) generator;
+                        pg.writeStartObject();
+                        pg.writeKey(prepared).write(1);
+                        pg.writeKey(prepared).write("v");
+                        pg.writeStartObject(prepared).writeEnd();
+                        pg.writeStartArray(prepared).writeEnd();
+                        pg.writeEnd().close();
+                    }
+                    assertEquals(expected.toString(), sw.toString());
+                    assertTrue(Arrays.equals(expectedOut.toByteArray(), out.toByteArray()));
+                }
+            }
+        }
+    }
+
+    public void testPreparedNameContext() {
+        PreparedNameGenerator generator = (PreparedNameGenerator) Json.createGenerator(new StringWriter());
+        generator.writeStartArray();
+        try {
+            generator.writeKey(PreparedName.of("a"));
+            fail("writeKey() should fail in an array context");
+        } catch (JsonGenerationException expected) {
+            // no-op
+        }
+    }
+
     public void testString() throws Exception {
         escapedString("");
         escapedString("abc");
@@ -565,4 +880,65 @@ public class JsonGeneratorTest extends TestCase {
         assertEquals("{}", baos.toString("UTF-8"));
     }
 
+    public void testByteBufferGenerator() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            text.append("value ").append(i).append(' ').append((char) (0x100 + i));
+        }
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        generateBufferData(Json.createGenerator(expected), text.toString());
+
+        JsonBufferGeneratorFactory factory =
+                (JsonBufferGeneratorFactory) Json.createGeneratorFactory(null);
+        for (boolean direct : new boolean[] {false, true}) {
+            for (int size : new int[] {1, 7, 100, 65536}) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                List<Integer> calls = new ArrayList<>();
+                ByteBuffer first = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+                JsonGenerator generator = factory.createGenerator(first, full -> {
+                    calls.add(full.position());
+                    full.flip();
+                    while (full.hasRemaining()) {
+                        out.write(full.get());
+                    }
+                    full.clear();
+                    return full;
+                });
+                generateBufferData(generator, text.toString());
+                assertEquals(expected.toString("UTF-8"), out.toString("UTF-8"));
+                assertTrue(calls.size() >= 2);
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateBufferData(factory.createGenerator(Channels.newChannel(out)), text.toString());
+        assertEquals(expected.toString("UTF-8"), out.toString("UTF-8"));
+    }
+
+    private static void generateBufferData(JsonGenerator generator, String text) {
+        generator.writeStartObject()
+                .write("text", text)
+                .write("number", 1.5)
+                .writeStartArray("array");
+        for (int i = 0; i < 1000; i++) {
+            generator.write(i);
+        }
+        generator.writeEnd()
+                .writeEnd();
+        generator.flush();
+        generator.close();
+    }
+
+    public void testByteBufferGeneratorNoSpace() throws Exception {
+        JsonBufferGeneratorFactory factory =
+                (JsonBufferGeneratorFactory) Json.createGeneratorFactory(null);
+        JsonGenerator generator = factory.createGenerator(ByteBuffer.allocate(4), full -> full);
+        try {
+            generator.write("0123456789").close();
+            fail("Expected JsonException when the buffer is not drained");
+        } catch (JsonException expected) {
+            // no-op
+        }
+    }
+
 }
@@ -0,0 +1,240 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParsingException;
+
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.JsonLinesReader;
+import org.glassfish.json.api.JsonLinesReaderFactory;
+import org.glassfish.json.api.JsonLinesWriter;
+import org.glassfish.json.api.JsonLinesWriterFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests JsonLinesReader and JsonLinesWriter
+ */
+public class JsonLinesTest extends TestCase {
+
+    private static JsonLinesReader reader(String input) {
+        JsonLinesReaderFactory factory = (JsonLinesReaderFactory) Json.createReaderFactory(null);
+        return factory.createLinesReader(new StringReader(input));
+    }
+
+    private static JsonLinesReader utf8Reader(String input) {
+        JsonLinesReaderFactory factory = (JsonLinesReaderFactory) Json.createReaderFactory(null);
+        return factory.createLinesReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public void testReadValues() {
+        String input = "{\"a\":1}\n[1,2]\n\"s\"\n12.5\ntrue\nnull\n";
+        for (JsonLinesReader reader : new JsonLinesReader[] {reader(input), utf8Reader(input)}) {
+            assertEquals(1, reader.readValue().asJsonObject().getInt("a"));
+            assertEquals(1L, reader.getLineNumber());
+            assertEquals(2, reader.readValue().asJsonArray().size());
+            assertEquals(Json.createValue("s"), reader.readValue());
+            assertEquals(Json.createValue(12.5), reader.readValue());
+            assertEquals(JsonValue.TRUE, reader.readValue());
+            assertEquals(JsonValue.NULL, reader.readValue());
+            assertEquals(6L, reader.getLineNumber());
+            assertNull(reader.readValue());
+            assertNull(reader.readValue());
+            reader.close();
+        }
+    }
+
+    public void testBlankLinesAndLineBreaks() {
+        String input = "\n  {\"a\" : 1}  \r\n\r\n\t[ 2 ]\r  3\n\n";
+        for (JsonLinesReader reader : new JsonLinesReader[] {reader(input), utf8Reader(input)}) {
+            assertEquals(1, reader.readValue().asJsonObject().getInt("a"));
+            assertEquals(2L, reader.getLineNumber());
+            assertEquals(2, reader.readValue().asJsonArray().getInt(0));
+            assertEquals(4L, reader.getLineNumber());
+            assertEquals(Json.createValue(3), reader.readValue());
+            assertEquals(5L, reader.getLineNumber());
+            assertNull(reader.readValue());
+            reader.close();
+        }
+    }
+
+    public void testNoLineBreakAtEnd() {
+        JsonLinesReader reader = reader("1\n2");
+        assertEquals(Json.createValue(1), reader.readValue());
+        assertEquals(Json.createValue(2), reader.readValue());
+        assertNull(reader.readValue());
+        reader.close();
+
+        reader = reader("");
+        assertNull(reader.readValue());
+        reader.close();
+    }
+
+    public void testStream() {
+        String input = "{\"n\":1}\n{\"n\":2}\n{\"n\":3}\n";
+        List<Integer> numbers = reader(input).stream()
+                .map(v -> v.asJsonObject().getInt("n"))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 2, 3), numbers);
+    }
+
+    public void testMalformedRecords() {
+        // incomplete record, a record over two lines, trailing value,
+        // bad literal, raw line break in a string
+        String input = "{\"n\":1}\n{\"n\":\n2}\n{\"n\":3} 4\n[tru]\n{\"n\":4}\n\"a\nb\"\n{\"n\":5}\n";
+        for (JsonLinesReader reader : new JsonLinesReader[] {reader(input), utf8Reader(input)}) {
+            List<Long> errorLines = new ArrayList<>();
+            List<Integer> numbers = reader.stream(e -> errorLines.add(e.getLocation().getLineNumber()))
+                    .map(v -> v.asJsonObject().getInt("n"))
+                    .collect(Collectors.toList());
+            assertEquals(Arrays.asList(1, 4, 5), numbers);
+            assertEquals(Arrays.asList(2L, 3L, 4L, 5L, 7L, 8L), errorLines);
+        }
+    }
+
+    public void testReadValueAfterError() {
+        JsonLinesReader reader = reader("[1,\n[2]\n");
+        try {
+            reader.readValue();
+            fail("Expected JsonParsingException for the incomplete record");
+        } catch (JsonParsingException e) {
+            assertEquals(1L, e.getLocation().getLineNumber());
+            assertEquals(1L, reader.getLineNumber());
+        }
+        assertEquals(2, reader.readValue().asJsonArray().getInt(0));
+        assertEquals(2L, reader.getLineNumber());
+        assertNull(reader.readValue());
+        reader.close();
+    }
+
+    public void testStreamError() {
+        try {
+            reader("1\n{\n3\n").stream().count();
+            fail("Expected JsonParsingException for the malformed record");
+        } catch (JsonParsingException e) {
+            assertEquals(2L, e.getLocation().getLineNumber());
+        }
+    }
+
+    public void testWriteRecords() {
+        JsonObject object = Json.createObjectBuilder().add("a", 1).add("b", "x").build();
+        JsonArray array = Json.createArrayBuilder().add(1).add(2).build();
+        String expected = "{\"a\":1,\"b\":\"x\"}\n[1,2]\n\"s\"\n2.5\nnull\n";
+
+        JsonLinesWriterFactory factory = (JsonLinesWriterFactory) Json.createWriterFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+        StringWriter sw = new StringWriter();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (JsonLinesWriter writer : new JsonLinesWriter[] {
+                factory.createLinesWriter(sw), factory.createLinesWriter(bytes)}) {
+            writer.write(object);
+            writer.write(array);
+            writer.write(Json.createValue("s"));
+            writer.write(Json.createValue(2.5));
+            writer.write(JsonValue.NULL);
+            writer.close();
+        }
+        assertEquals(expected, sw.toString());
+        assertEquals(expected, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testWriteNoRecord() {
+        JsonLinesWriterFactory factory = (JsonLinesWriterFactory) Json.createWriterFactory(null);
+        StringWriter sw = new StringWriter();
+        JsonLinesWriter writer = factory.createLinesWriter(sw);
+        writer.flush();
+        writer.close();
+        assertEquals("", sw.toString());
+    }
+
+    public void testWriteEscapes() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.ESCAPE_NON_ASCII, true);
+        JsonLinesWriterFactory factory = (JsonLinesWriterFactory) Json.createWriterFactory(config);
+        StringWriter sw = new StringWriter();
+        JsonLinesWriter writer = factory.createLinesWriter(sw);
+        writer.write(Json.createValue("line\nbreak" + (char) 0xe9));
+        writer.close();
+        assertEquals("\"line\\nbreak\\" + "u00e9\"\n", sw.toString());
+    }
+
+    public void testRoundTrip() {
+        StringWriter sw = new StringWriter();
+        JsonLinesWriter writer = ((JsonLinesWriterFactory) Json.createWriterFactory(null))
+                .createLinesWriter(sw);
+        List<JsonValue> records = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            JsonObject record = Json.createObjectBuilder()
+                    .add("id", i)
+                    .add("msg", "message " + i + " \"quoted\"\n")
+                    .add("tags", Json.createArrayBuilder().add("a").add(i % 7))
+                    .build();
+            records.add(record);
+            writer.write(record);
+        }
+        writer.close();
+
+        JsonLinesReader reader = reader(sw.toString());
+        assertEquals(records, reader.stream().collect(Collectors.toList()));
+        assertEquals(2000L, reader.getLineNumber());
+    }
+
+}
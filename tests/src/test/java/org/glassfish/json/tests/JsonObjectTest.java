@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -43,6 +43,9 @@ package org.glassfish.json.tests;
 import junit.framework.TestCase;
 
 import javax.json.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Jitendra Kotamraju
@@ -137,6 +140,39 @@ public class JsonObjectTest extends TestCase {
         }
     }
 
+    public void testLargeObject() {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        Map<String, JsonValue> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            builder.add("key" + i, i);
+            expected.put("key" + i, Json.createValue(i));
+        }
+        // replaced values keep their position, removed ones go away
+        builder.add("key5", "five").remove("key6").remove("key99");
+        expected.put("key5", Json.createValue("five"));
+        expected.remove("key6");
+        expected.remove("key99");
+        JsonObject obj = builder.build();
+
+        assertEquals(98, obj.size());
+        assertEquals("five", obj.getString("key5"));
+        assertEquals(42, obj.getInt("key42"));
+        assertTrue(obj.containsKey("key98"));
+        assertFalse(obj.containsKey("key6"));
+        assertNull(obj.get("key99"));
+        assertNull(obj.get(5));
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(obj.keySet()));
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(obj.values()));
+        assertEquals(expected, obj);
+        assertEquals(obj, expected);
+        assertEquals(expected.hashCode(), obj.hashCode());
+
+        JsonObject copy = Json.createObjectBuilder(obj).add("key100", true).build();
+        assertEquals(99, copy.size());
+        assertTrue(copy.getBoolean("key100"));
+        assertEquals(98, obj.size());
+    }
+
     public void testObjectBuilderNpe() {
         try {
             JsonObject obj = Json.createObjectBuilder().add(null, 1).build();
@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -40,9 +40,18 @@
 
 package org.glassfish.json.tests;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import javax.json.Json;
 import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import javax.json.stream.JsonParsingException;
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonConfig;
 import junit.framework.TestCase;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
@@ -137,4 +146,123 @@ public class JsonParserSkipTest extends TestCase {
         assertEquals(JsonParser.Event.END_OBJECT, parser.next());
         assertEquals(false, parser.hasNext());
     }
+
+    public void testSkipRestOfArrayReader() {
+        try (JsonParser parser = Json.createParser(new StringReader("{\"a\":[1,[2],{\"b\":[3]},4],\"c\":{\"d\":5,\"e\":{}}}"))) {
+            assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+            assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+            parser.skipArray();
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            assertEquals("c", parser.getString());
+            assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+            parser.skipObject();
+            assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+            assertFalse(parser.hasNext());
+        }
+    }
+
+    public void testSkipStringsAndBuffers() throws Exception {
+        String skipped = "{\"a]\":\"}}\\\"[\\\\\",\r\n\"b\":[1.5e3,{\"c\":\"\u00e9{\"}],\n\"d\":null}";
+        String json = "[" + skipped + ",\n" + skipped + ",{\"x\":[true]},\"end\"]";
+        for (int size = 4; size < 64; size++) {
+            for (int input = 0; input < 4; input++) {
+                Map<String, Object> config = new HashMap<>();
+                config.put(BufferPool.class.getName(), new JsonParserTest.MyBufferPool(size));
+                if (input >= 2) {
+                    config.put(JsonConfig.RELAXED_SKIPPING, true);
+                }
+                JsonParserFactory factory = Json.createParserFactory(config);
+                try (JsonParser parser = input % 2 == 0
+                        ? factory.createParser(new StringReader(json))
+                        : factory.createParser(new ByteArrayInputStream(
+                                json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)) {
+                    String msg = "size=" + size + " input=" + input;
+                    assertEquals(msg, JsonParser.Event.START_ARRAY, parser.next());
+                    assertEquals(msg, JsonParser.Event.START_OBJECT, parser.next());
+                    parser.skipObject();
+                    assertEquals(msg, JsonParser.Event.START_OBJECT, parser.next());
+                    assertEquals(msg, JsonParser.Event.KEY_NAME, parser.next());
+                    parser.skipObject();
+                    assertEquals(msg, JsonParser.Event.START_OBJECT, parser.next());
+                    assertEquals(msg, JsonParser.Event.KEY_NAME, parser.next());
+                    assertEquals(msg, "x", parser.getString());
+                    // lines are counted in the skipped values
+                    assertEquals(msg, 6, parser.getLocation().getLineNumber());
+                    assertEquals(msg, JsonParser.Event.START_ARRAY, parser.next());
+                    parser.skipArray();
+                    assertEquals(msg, JsonParser.Event.END_OBJECT, parser.next());
+                    assertEquals(msg, JsonParser.Event.VALUE_STRING, parser.next());
+                    assertEquals(msg, "end", parser.getString());
+                    assertEquals(msg, JsonParser.Event.END_ARRAY, parser.next());
+                    assertFalse(msg, parser.hasNext());
+                }
+            }
+        }
+    }
+
+    public void testSkipIncomplete() {
+        JsonParserFactory relaxed = Json.createParserFactory(
+                Collections.singletonMap(JsonConfig.RELAXED_SKIPPING, true));
+        for (String json : new String[] {"[1, [2, \"]\"", "{\"a\":{\"b\":\"\\\"}\"}", "[{"}) {
+            assertSkipError(Json.createParser(new StringReader(json)));
+            assertSkipError(relaxed.createParser(new StringReader(json)));
+        }
+    }
+
+    public void testSkipValidation() {
+        // the tokens of the skipped values are validated by default
+        for (String json : new String[] {"[[1,{\"a\":[tru]}],2]", "[[1 2 garbage } , 3]", "[{\"a\" \"b\" ]]"}) {
+            assertSkipError(Json.createParser(new StringReader(json)));
+        }
+        JsonParserFactory relaxed = Json.createParserFactory(
+                Collections.singletonMap(JsonConfig.RELAXED_SKIPPING, true));
+        assertTrue(relaxed.getConfigInUse().containsKey(JsonConfig.RELAXED_SKIPPING));
+        for (int input = 0; input < 2; input++) {
+            String json = "[[1,{\"a\":[tru]}],2]";
+            try (JsonParser parser = input == 0
+                    ? relaxed.createParser(new StringReader(json))
+                    : relaxed.createParser(new ByteArrayInputStream(
+                            json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)) {
+                assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+                assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+                parser.skipArray();
+                assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+                assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+            }
+            // each close must still match its open
+            for (String mismatched : new String[] {"[[1,}],2]", "[[{\"a\":1]],2]", "[{\"a\":[}]]"}) {
+                assertSkipError(input == 0
+                        ? relaxed.createParser(new StringReader(mismatched))
+                        : relaxed.createParser(new ByteArrayInputStream(
+                                mismatched.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    // Skips the inner array or object, and the rest of the outer one
+    private static void assertSkipError(JsonParser parser) {
+        try {
+            parser.next();
+            JsonParser.Event e = parser.next();
+            if (e == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else {
+                parser.skipArray();
+            }
+            parser.skipArray();
+            parser.skipObject();
+            fail("Expected JsonParsingException");
+        } catch (JsonParsingException expected) {
+            // no-op
+        } finally {
+            parser.close();
+        }
+    }
 }
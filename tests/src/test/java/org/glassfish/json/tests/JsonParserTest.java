@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -53,16 +53,25 @@ import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParser.Event;
 import javax.json.stream.JsonParserFactory;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Scanner;
 import javax.json.stream.JsonParsingException;
 
+import org.glassfish.json.JsonParserImpl;
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.JsonMappedParserFactory;
 
 /**
  * JsonParser Tests
@@ -605,6 +614,65 @@ public class JsonParserTest extends TestCase {
 
     }
 
+    public void testDoubleNumber() {
+        String[] nums = { "0", "-0", "0.0", "-0.0", "1.5", "-1.5E-3", "0.1",
+                "1e22", "1e23", "9007199254740993", "9007199254740993.0",
+                "123456789012345678901234567890", "0.30000000000000000001",
+                "2.2250738585072011e-308", "2.2250738585072012e-308",
+                "4.9e-324", "2.4703282292062328e-324", "2.4703282292062327e-324",
+                "1.7976931348623157e308", "1.7976931348623159e308",
+                "1e400", "-1e400", "1e-400", "0e999999999", "0.000001234E+2",
+                "12345678901234567890e-30", "1.00000000000000000000000000001" };
+        for (String num : nums) {
+            assertDouble(num);
+        }
+        Random r = new Random(System.currentTimeMillis());
+        for (int i = 0; i < 10000; i++) {
+            double d = Double.longBitsToDouble(r.nextLong());
+            if (!Double.isNaN(d) && !Double.isInfinite(d)) {
+                assertDouble(Double.toString(d));
+            }
+            assertDouble(r.nextLong() + "." + Math.abs(r.nextInt()) + "e" + (r.nextInt(700) - 350));
+        }
+    }
+
+    private void assertDouble(String num) {
+        double expected = new BigDecimal(num).doubleValue();
+        JsonParserFactory factory = Json.createParserFactory(null);
+        JsonParser[] parsers = {
+            factory.createParser(new StringReader("[" + num + "]")),
+            factory.createParser(new ByteArrayInputStream(
+                    ("{\"a\":" + num + "}").getBytes(StandardCharsets.UTF_8)))
+        };
+        for (JsonParser parser : parsers) {
+            parser.next();
+            if (parser.next() == Event.KEY_NAME) {
+                parser.next();
+            }
+            assertEquals("Fails for num=" + num, expected, ((JsonParserImpl) parser).getDouble());
+            JsonNumber value = (JsonNumber) parser.getValue();
+            assertEquals("Fails for num=" + num, expected, value.doubleValue());
+            assertEquals(new BigDecimal(num), value.bigDecimalValue());
+            assertEquals(new BigDecimal(num).toString(), value.toString());
+            assertEquals(Json.createValue(new BigDecimal(num)), value);
+            assertEquals(new BigDecimal(num).hashCode(), value.hashCode());
+            assertEquals(new BigDecimal(num).scale() == 0, value.isIntegral());
+            parser.close();
+        }
+    }
+
+    public void testGetDoubleState() {
+        try (JsonParser parser = Json.createParser(new StringReader("[1.5]"))) {
+            parser.next();
+            try {
+                ((JsonParserImpl) parser).getDouble();
+                fail("getDouble() should fail for START_ARRAY");
+            } catch (IllegalStateException expected) {
+                // no-op
+            }
+        }
+    }
+
     public void testBigDecimalGetString() {
         JsonParserFactory f = Json.createParserFactory(null);
         JsonObject obj = Json.createObjectBuilder().add("a", BigDecimal.ONE).build();
@@ -630,9 +698,11 @@ public class JsonParserTest extends TestCase {
         private boolean takeCalled;
         private boolean recycleCalled;
         private final char[] buf;
+        private final byte[] bytes;
 
         MyBufferPool(int size) {
             buf = new char[size];
+            bytes = new byte[size];
         }
 
         @Override
@@ -646,6 +716,17 @@ public class JsonParserTest extends TestCase {
             recycleCalled = true;
         }
 
+        @Override
+        public byte[] takeBytes() {
+            takeCalled = true;
+            return bytes;
+        }
+
+        @Override
+        public void recycleBytes(byte[] buf) {
+            recycleCalled = true;
+        }
+
         boolean isTakeCalled() {
             return takeCalled;
         }
@@ -788,6 +869,80 @@ public class JsonParserTest extends TestCase {
         }
     }
 
+    // UTF-8 streams are tokenized from bytes, strings with multi-byte chars
+    // and escapes may cross the buffer boundaries
+    public void testUtf8StringUsingBuffers() throws Throwable {
+        String raw = "a\u00e9\u20ac\ud83d\ude00";
+        String escaped = "\\\"\\u00e9\\ud83d\\ude00\\n";
+        String unescaped = "\"\u00e9\ud83d\ude00\n";
+        for(int size=20; size < 100; size++) {
+            final MyBufferPool bufferPool = new MyBufferPool(size);
+            Map<String, Object> config = new HashMap<String, Object>() {{
+                put(BufferPool.class.getName(), bufferPool);
+            }};
+            JsonParserFactory factory = Json.createParserFactory(config);
+
+            StringBuilder sb = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            for(int i=0; i < 50; i++) {
+                sb.append(i%2 == 0 ? raw : escaped);
+                expected.append(i%2 == 0 ? raw : unescaped);
+                String str = "{\""+sb+"\":[\""+sb+"\", 12.5e3]}";
+                InputStream in = new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8));
+                try (JsonParser parser = factory.createParser(in)) {
+                    parser.next();
+                    parser.next();
+                    assertEquals(expected.toString(), parser.getString());
+                    parser.next();
+                    parser.next();
+                    assertEquals(expected.toString(), parser.getString());
+                    parser.next();
+                    assertEquals(new BigDecimal("12.5e3"), parser.getBigDecimal());
+                } catch (Throwable e) {
+                    throw new Throwable("Failed for buffer size=" + size + " length=" + i, e);
+                }
+            }
+            assertTrue(bufferPool.isTakeCalled());
+            assertTrue(bufferPool.isRecycleCalled());
+        }
+    }
+
+    public void testCanonicalizeKeys() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(JsonConfig.CANONICALIZE_KEYS, true);
+        JsonParserFactory factory = Json.createParserFactory(config);
+        assertTrue(factory.getConfigInUse().containsKey(JsonConfig.CANONICALIZE_KEYS));
+
+        String json = "[{\"id\":1, \"na\\u006de\":\"a\", \"\u00e9t\u00e9\":true},"
+                + " {\"name\":\"b\", \"id\":2, \"\u00e9t\u00e9\":false}]";
+        List<String> fromChars = keys(factory.createParser(new StringReader(json)));
+        List<String> fromBytes = keys(factory.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(Arrays.asList("id", "name", "\u00e9t\u00e9", "name", "id", "\u00e9t\u00e9"), fromChars);
+        assertEquals(fromChars, fromBytes);
+
+        // known keys are the same instances, across the parsers of the factory
+        assertSame(fromChars.get(0), fromChars.get(4));
+        assertSame(fromChars.get(1), fromChars.get(3));
+        assertSame(fromChars.get(0), fromBytes.get(0));
+        assertSame(fromChars.get(1), fromBytes.get(1));
+        assertSame(fromChars.get(1), fromBytes.get(3));
+    }
+
+    private static List<String> keys(JsonParser parser) {
+        List<String> keys = new ArrayList<>();
+        try {
+            while (parser.hasNext()) {
+                if (parser.next() == Event.KEY_NAME) {
+                    keys.add(parser.getString());
+                }
+            }
+        } finally {
+            parser.close();
+        }
+        return keys;
+    }
+
     public void testExceptionsFromHasNext() {
         checkExceptionFromHasNext("{");
         checkExceptionFromHasNext("{\"key\"");
@@ -848,4 +1003,36 @@ public class JsonParserTest extends TestCase {
         }
         fail();
     }
-}
\ No newline at end of file
+    public void testMappedParser() throws Exception {
+        JsonMappedParserFactory factory = (JsonMappedParserFactory) Json.createParserFactory(null);
+        Path file = Files.createTempFile("parser", ".json");
+        try {
+            Files.write(file, "{\"a\":[1,\"x\"]}".getBytes(StandardCharsets.UTF_8));
+            try (JsonParser parser = factory.createParser(file)) {
+                assertEquals(Event.START_OBJECT, parser.next());
+                assertEquals(Event.KEY_NAME, parser.next());
+                assertEquals("a", parser.getString());
+                assertEquals(Event.START_ARRAY, parser.next());
+                assertEquals(Event.VALUE_NUMBER, parser.next());
+                assertEquals(1, parser.getInt());
+                assertEquals(Event.VALUE_STRING, parser.next());
+                assertEquals("x", parser.getString());
+                assertEquals(Event.END_ARRAY, parser.next());
+                assertEquals(Event.END_OBJECT, parser.next());
+                assertFalse(parser.hasNext());
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        ByteBuffer input = ByteBuffer.allocateDirect(16);
+        input.put("[true]".getBytes(StandardCharsets.UTF_8)).flip();
+        try (JsonParser parser = factory.createParser(input)) {
+            assertEquals(Event.START_ARRAY, parser.next());
+            assertEquals(Event.VALUE_TRUE, parser.next());
+            assertEquals(Event.END_ARRAY, parser.next());
+            assertFalse(parser.hasNext());
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonPatch;
+
+import org.junit.Test;
+
+/**
+ * Tests the diff of large arrays
+ */
+public class JsonPatchArrayDiffTest {
+
+    @Test
+    public void shouldDiffLargeArrays() {
+        JsonArrayBuilder source = Json.createArrayBuilder();
+        JsonArrayBuilder target = Json.createArrayBuilder();
+        for (int i = 0; i < 20000; i++) {
+            source.add(Json.createObjectBuilder().add("id", i));
+            if (i % 97 != 0) {
+                target.add(Json.createObjectBuilder().add("id", i % 500 == 0 ? -i : i));
+            }
+            if (i % 131 == 0) {
+                target.add("added " + i);
+            }
+        }
+        assertDiff(source.build(), target.build());
+    }
+
+    @Test
+    public void shouldDiffArraysWithoutCommonElements() {
+        JsonArrayBuilder source = Json.createArrayBuilder();
+        JsonArrayBuilder target = Json.createArrayBuilder();
+        for (int i = 0; i < 5000; i++) {
+            source.add(i);
+            target.add(-i - 1);
+        }
+        JsonPatch diff = assertDiff(source.build(), target.build());
+        assertEquals(5000, diff.toJsonArray().size());
+    }
+
+    // the search of the shortest script gives up past its cost limit, this
+    // took tens of seconds without it
+    @Test(timeout = 20000)
+    public void shouldDiffLargeArraysWithFewCommonElements() {
+        Random random = new Random(11);
+        JsonArrayBuilder source = Json.createArrayBuilder();
+        JsonArrayBuilder target = Json.createArrayBuilder();
+        for (int i = 0; i < 50000; i++) {
+            source.add(random.nextInt(1000000));
+            target.add(random.nextInt(1000000));
+        }
+        assertDiff(source.build(), target.build());
+    }
+
+    @Test
+    public void shouldDiffRandomArrays() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            assertDiff(randomArray(random, 2), randomArray(random, 2));
+        }
+    }
+
+    private static JsonPatch assertDiff(JsonArray source, JsonArray target) {
+        JsonPatch diff = Json.createDiff(source, target);
+        assertEquals(target, diff.apply(source));
+        return diff;
+    }
+
+    private static JsonArray randomArray(Random random, int depth) {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        int size = random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+            if (depth > 0 && random.nextInt(5) == 0) {
+                builder.add(randomArray(random, depth - 1));
+            } else if (random.nextInt(6) == 0) {
+                builder.add(Json.createObjectBuilder().add("k", random.nextInt(3)));
+            } else {
+                builder.add(random.nextInt(4));
+            }
+        }
+        return builder.build();
+    }
+
+}
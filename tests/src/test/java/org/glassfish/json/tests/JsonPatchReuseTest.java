@@ -0,0 +1,157 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonPatch;
+import javax.json.JsonPatchBuilder;
+import javax.json.JsonStructure;
+
+import org.junit.Test;
+
+/**
+ * Tests a JsonPatch that is applied many times, its operations are parsed
+ * once and applied to a transient copy of the target
+ */
+public class JsonPatchReuseTest {
+
+    private static JsonStructure read(String json) {
+        return Json.createReader(new StringReader(json.replace('\'', '"'))).read();
+    }
+
+    @Test
+    public void shouldApplySamePatchToManyTargets() {
+        JsonPatch patch = Json.createPatch((JsonArray) read("["
+                + "{'op':'add','path':'/a/b/c','value':1},"
+                + "{'op':'replace','path':'/a/b/c','value':2},"
+                + "{'op':'copy','from':'/a/b','path':'/d'},"
+                + "{'op':'move','from':'/a/b/c','path':'/a/e'},"
+                + "{'op':'remove','path':'/x/0'},"
+                + "{'op':'add','path':'/x/-','value':[1]},"
+                + "{'op':'test','path':'/d','value':{'c':2}}"
+                + "]"));
+        for (int i = 0; i < 3; i++) {
+            JsonObject target = (JsonObject) read("{'a':{'b':{}},'x':[" + i + ",'y'],'z':{'k':true}}");
+            JsonObject result = (JsonObject) patch.apply(target);
+            assertEquals(read("{'a':{'b':{},'e':2},'x':['y',[1]],'z':{'k':true},'d':{'c':2}}"), result);
+            // the target is not modified, untouched values are shared
+            assertEquals(read("{'a':{'b':{}},'x':[" + i + ",'y'],'z':{'k':true}}"), target);
+            assertSame(target.get("z"), result.get("z"));
+        }
+    }
+
+    @Test
+    public void shouldKeepMemberOrder() {
+        JsonPatch patch = Json.createPatchBuilder()
+                .replace("/b", 20)
+                .remove("/a")
+                .add("/a", 10)
+                .add("/d", 4)
+                .build();
+        JsonObject result = patch.apply((JsonObject) read("{'a':1,'b':2,'c':3}"));
+        assertEquals("{\"b\":20,\"c\":3,\"a\":10,\"d\":4}", result.toString());
+    }
+
+    @Test
+    public void shouldReturnTargetForTestsOnly() {
+        JsonStructure target = read("{'a':[1,{'b':null}]}");
+        JsonPatch patch = Json.createPatchBuilder()
+                .test("/a/1", read("{'b':null}"))
+                .move("/a", "/a")
+                .build();
+        assertSame(target, patch.apply(target));
+    }
+
+    @Test
+    public void shouldApplyManyOperations() {
+        JsonPatchBuilder builder = Json.createPatchBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add("/l1/l2/l3/n" + i, i);
+        }
+        JsonPatch patch = builder.build();
+        JsonObject result = patch.apply((JsonObject) read("{'l1':{'l2':{'l3':{}}}}"));
+        JsonObject l3 = result.getJsonObject("l1").getJsonObject("l2").getJsonObject("l3");
+        assertEquals(1000, l3.size());
+        assertEquals(999, l3.getInt("n999"));
+    }
+
+    @Test
+    public void shouldFailAsBefore() {
+        JsonStructure target = read("{'a':[1],'s':'t'}");
+        String[] patches = {
+            "[{'op':'remove','path':'/b'}]",
+            "[{'op':'replace','path':'/a/1','value':0}]",
+            "[{'op':'add','path':'/a/3','value':0}]",
+            "[{'op':'add','path':'/b/c','value':0}]",
+            "[{'op':'add','path':'/s/c','value':0}]",
+            "[{'op':'add','path':'/a/x','value':0}]",
+            "[{'op':'remove','path':''}]",
+            "[{'op':'add','path':'','value':1}]",
+            "[{'op':'move','from':'/a','path':'/a/0'}]",
+            "[{'op':'move','from':'/b','path':'/c'}]",
+            "[{'op':'test','path':'/s','value':'u'}]",
+            "[{'op':'copy','path':'/c'}]",
+            "[{'op':'add','path':'/c'}]",
+            "[{'op':'bogus','path':'/c'}]",
+            "[1]",
+        };
+        for (String p : patches) {
+            JsonPatch patch = Json.createPatch((JsonArray) read(p));
+            try {
+                patch.apply(target);
+                fail(p + " must fail");
+            } catch (JsonException expected) {
+                // no-op
+            }
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonPointer;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+import org.glassfish.json.api.JsonPersistentArray;
+import org.glassfish.json.api.JsonPersistentFactory;
+import org.glassfish.json.api.JsonPersistentObject;
+import org.junit.Test;
+
+/**
+ * Tests JsonPersistentObject and JsonPersistentArray
+ */
+public class JsonPersistentTest {
+
+    private static final JsonPersistentFactory FACTORY =
+            (JsonPersistentFactory) Json.createBuilderFactory(null);
+
+    private static JsonStructure read(String json) {
+        return Json.createReader(new StringReader(json.replace('\'', '"'))).read();
+    }
+
+    private static JsonPersistentObject persistent(String json) {
+        return FACTORY.createPersistentObject((JsonObject) read(json));
+    }
+
+    @Test
+    public void shouldConvertRecursively() {
+        JsonObject object = (JsonObject) read("{'a':{'b':[1,{'c':null}]},'d':'e'}");
+        JsonPersistentObject p = FACTORY.createPersistentObject(object);
+        assertEquals(object, p);
+        assertEquals(p, object);
+        assertEquals(object.hashCode(), p.hashCode());
+        assertEquals(object.toString(), p.toString());
+        assertTrue(p.get("a") instanceof JsonPersistentObject);
+        assertTrue(p.getJsonObject("a").get("b") instanceof JsonPersistentArray);
+        assertTrue(p.getJsonObject("a").getJsonArray("b").get(1) instanceof JsonPersistentObject);
+        assertSame(p, FACTORY.createPersistentObject(p));
+    }
+
+    @Test
+    public void shouldKeepInsertionOrder() {
+        JsonPersistentObject p = persistent("{}");
+        for (int i = 0; i < 100; i++) {
+            p = p.with("k" + i, Json.createValue(i));
+        }
+        p = p.with("k10", JsonValue.TRUE).without("k50").without("k0").with("k0", JsonValue.NULL);
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i < 100; i++) {
+            if (i != 50) {
+                expected.add("k" + i);
+            }
+        }
+        expected.add("k0");
+        assertEquals(expected, new ArrayList<>(p.keySet()));
+        assertEquals(99, p.size());
+        assertEquals(JsonValue.TRUE, p.get("k10"));
+        assertEquals(42, p.getInt("k42"));
+        assertTrue(p.isNull("k0"));
+        assertEquals(null, p.get("k50"));
+    }
+
+    @Test
+    public void shouldShareUntouchedMembers() {
+        JsonPersistentObject v1 = persistent("{'a':{'x':1},'b':{'y':2},'c':3}");
+        JsonPersistentObject v2 = v1.with("c", Json.createValue(4));
+        assertSame(v1.get("a"), v2.get("a"));
+        assertSame(v1.get("b"), v2.get("b"));
+        assertEquals(read("{'a':{'x':1},'b':{'y':2},'c':3}"), v1);
+        assertEquals(read("{'a':{'x':1},'b':{'y':2},'c':4}"), v2);
+        assertSame(v2, v2.with("c", v2.get("c")));
+        assertSame(v2, v2.without("z"));
+    }
+
+    @Test
+    public void shouldMatchMapSemanticsUnderRandomUpdates() {
+        Random random = new Random(7);
+        Map<String, JsonValue> expected = new LinkedHashMap<>();
+        JsonPersistentObject p = persistent("{}");
+        for (int i = 0; i < 5000; i++) {
+            // small key space, also colliding names
+            String name = random.nextBoolean() ? "n" + random.nextInt(300) : collidingName(random.nextInt(4));
+            if (random.nextInt(3) == 0) {
+                expected.remove(name);
+                p = p.without(name);
+            } else {
+                JsonValue value = Json.createValue(i);
+                expected.put(name, value);
+                p = p.with(name, value);
+            }
+        }
+        assertEquals(expected, p);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(p.keySet()));
+        for (String name : expected.keySet()) {
+            assertTrue(p.containsKey(name));
+        }
+    }
+
+    // "Aa" and "BB" have the same hash code
+    private static String collidingName(int i) {
+        return ((i & 1) == 0 ? "Aa" : "BB") + ((i & 2) == 0 ? "Aa" : "BB");
+    }
+
+    @Test
+    public void shouldUpdateArray() {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        List<JsonValue> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(i);
+            expected.add(Json.createValue(i));
+        }
+        JsonPersistentArray p = FACTORY.createPersistentArray(builder.build());
+        Random random = new Random(11);
+        for (int i = 0; i < 3000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                p = p.without(index);
+            } else if (op == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, Json.createValue("s" + i));
+                p = p.with(index, expected.get(index));
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, Json.createValue(i));
+                p = p.inserting(index, expected.get(index));
+            }
+        }
+        assertEquals(expected, p);
+        assertEquals(expected.size(), p.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), p.get(i));
+        }
+        JsonArrayBuilder copy = Json.createArrayBuilder();
+        expected.forEach(copy::add);
+        assertEquals(copy.build().toString(), p.toString());
+    }
+
+    @Test
+    public void shouldShareUntouchedElements() {
+        JsonPersistentArray v1 = FACTORY.createPersistentArray((JsonArray) read("[{'a':1},{'b':2},3]"));
+        JsonPersistentArray v2 = v1.with(2, JsonValue.FALSE).inserting(3, JsonValue.TRUE);
+        assertSame(v1.get(0), v2.get(0));
+        assertSame(v1.get(1), v2.get(1));
+        assertEquals(read("[{'a':1},{'b':2},3]"), v1);
+        assertEquals(read("[{'a':1},{'b':2},false,true]"), v2);
+        assertEquals(read("[{'b':2},false,true]"), v2.without(0));
+        try {
+            v1.inserting(4, JsonValue.TRUE);
+            fail("index out of range");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldUpdateWithPointer() {
+        JsonPersistentObject v1 = persistent("{'a':{'b':[1,2,3]},'c':{'d':true}}");
+        JsonPointer pointer = Json.createPointer("/a/b/1");
+        JsonStructure v2 = pointer.replace(v1, Json.createValue(20));
+        assertTrue(v2 instanceof JsonPersistentObject);
+        assertEquals(read("{'a':{'b':[1,20,3]},'c':{'d':true}}"), v2);
+        assertSame(v1.get("c"), ((JsonObject) v2).get("c"));
+        assertTrue(((JsonObject) v2).getJsonObject("a").get("b") instanceof JsonPersistentArray);
+
+        JsonStructure v3 = Json.createPointer("/a/b/-").add(v2, JsonValue.NULL);
+        assertEquals(read("{'a':{'b':[1,20,3,null]},'c':{'d':true}}"), v3);
+        JsonStructure v4 = Json.createPointer("/c/d").remove(v3);
+        assertEquals(read("{'a':{'b':[1,20,3,null]},'c':{}}"), v4);
+        try {
+            Json.createPointer("/a/b/9").add(v4, JsonValue.NULL);
+            fail("index out of range");
+        } catch (JsonException expected) {
+            // expected
+        }
+        assertEquals(read("{'a':{'b':[1,2,3]},'c':{'d':true}}"), v1);
+    }
+
+    @Test
+    public void shouldApplyPatchAndMergePatch() {
+        JsonPersistentObject v1 = persistent("{'a':{'b':{}},'x':[0,'y'],'z':{'k':true}}");
+        JsonStructure v2 = Json.createPatch((JsonArray) read("["
+                + "{'op':'add','path':'/a/b/c','value':1},"
+                + "{'op':'copy','from':'/a/b','path':'/d'},"
+                + "{'op':'move','from':'/a/b/c','path':'/a/e'},"
+                + "{'op':'remove','path':'/x/0'},"
+                + "{'op':'test','path':'/d','value':{'c':1}}"
+                + "]")).apply(v1);
+        assertTrue(v2 instanceof JsonPersistentObject);
+        assertEquals(read("{'a':{'b':{},'e':1},'x':['y'],'z':{'k':true},'d':{'c':1}}"), v2);
+        assertSame(v1.get("z"), ((JsonObject) v2).get("z"));
+
+        JsonValue v3 = Json.createMergePatch(read("{'a':{'e':null,'f':2},'z':null,'n':{'m':1}}")).apply(v2);
+        assertTrue(v3 instanceof JsonPersistentObject);
+        assertEquals(read("{'a':{'b':{},'f':2},'x':['y'],'d':{'c':1},'n':{'m':1}}"), v3);
+        assertSame(((JsonObject) v2).get("x"), ((JsonObject) v3).get("x"));
+        assertNotSame(v2, v3);
+        assertEquals(Arrays.asList("a", "x", "d", "n"), new ArrayList<>(((JsonObject) v3).keySet()));
+    }
+
+}
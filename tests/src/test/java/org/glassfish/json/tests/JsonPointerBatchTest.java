@@ -0,0 +1,190 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonPointer;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import org.glassfish.json.api.JsonPointerBatch;
+import org.glassfish.json.api.JsonPointerBatchFactory;
+import org.junit.Test;
+
+/**
+ * Tests the read path of JsonPointer and JsonPointerBatch
+ */
+public class JsonPointerBatchTest {
+
+    private static final JsonStructure DOCUMENT = read("{"
+            + "'header':{'type':'order','tenant':'t1','a/b':1,'m~n':2},"
+            + "'body':[{'id':10},{'id':20,'tags':['x','y']}],"
+            + "'n':5}");
+
+    private static JsonStructure read(String json) {
+        return Json.createReader(new StringReader(json.replace('\'', '"'))).read();
+    }
+
+    private static JsonPointerBatch batch(Object... pointers) {
+        return ((JsonPointerBatchFactory) JsonProvider.provider()).createPointerBatch(Arrays.asList(pointers));
+    }
+
+    @Test
+    public void shouldEvaluateSharedPrefixes() {
+        JsonPointerBatch batch = batch("/header/type", "/header/tenant", "/body/1/tags/0",
+                "/body/0/id", "/header/type", "", "/header/a~1b", "/header/m~0n");
+        assertEquals(8, batch.size());
+        JsonObject document = (JsonObject) DOCUMENT;
+        JsonValue[] values = batch.getValues(DOCUMENT);
+        assertEquals(Arrays.asList(
+                Json.createValue("order"), Json.createValue("t1"), Json.createValue("x"),
+                Json.createValue(10), Json.createValue("order"), DOCUMENT,
+                Json.createValue(1), Json.createValue(2)), Arrays.asList(values));
+        assertSame(document.getJsonObject("header").get("type"), values[0]);
+    }
+
+    @Test
+    public void shouldMatchPointerValues() {
+        String[] pointers = { "/header", "/body/1/id", "/body/1/tags/1", "/n", "/body/01/id" };
+        JsonValue[] values = batch((Object[]) pointers).getValues(DOCUMENT);
+        for (int i = 0; i < pointers.length; i++) {
+            JsonPointer pointer = Json.createPointer(pointers[i]);
+            assertTrue(pointer.containsValue(DOCUMENT));
+            assertEquals(pointer.getValue(DOCUMENT), values[i]);
+        }
+    }
+
+    @Test
+    public void shouldGiveNullForMissingValues() {
+        JsonPointerBatch batch = batch("/header/none", "/body/2/id", "/body/-/id", "/n/x",
+                "/body/x", "/none/a", "/body/1/id");
+        JsonValue[] values = new JsonValue[10];
+        Arrays.fill(values, JsonValue.TRUE);
+        batch.getValues(DOCUMENT, values);
+        for (int i = 0; i < 6; i++) {
+            assertNull(values[i]);
+        }
+        assertEquals(Json.createValue(20), values[6]);
+        // beyond the size of the batch
+        assertEquals(JsonValue.TRUE, values[7]);
+        try {
+            batch.getValues(DOCUMENT, new JsonValue[6]);
+            fail("array too short");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidPointers() {
+        try {
+            batch("header");
+            fail("invalid pointer");
+        } catch (JsonException expected) {
+            // expected
+        }
+        try {
+            batch(Collections.singletonList("/a"));
+            fail("not a pointer");
+        } catch (JsonException expected) {
+            // expected
+        }
+        assertEquals(Json.createValue(5), batch(Json.createPointer("/n")).getValues(DOCUMENT)[0]);
+    }
+
+    @Test
+    public void shouldKeepPointerErrors() {
+        assertFalse(Json.createPointer("/body/-").containsValue(DOCUMENT));
+        assertFalse(Json.createPointer("/header/none").containsValue(DOCUMENT));
+        assertError("/body/2", "/body/x", "/n/x", "/none/a", "/header/none", "/body/-");
+        try {
+            Json.createPointer("/body/x").containsValue(DOCUMENT);
+            fail("invalid index");
+        } catch (JsonException expected) {
+            // expected
+        }
+    }
+
+    private static void assertError(String... pointers) {
+        for (String pointer : pointers) {
+            try {
+                Json.createPointer(pointer).getValue(DOCUMENT);
+                fail("no value for " + pointer);
+            } catch (JsonException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void shouldSerializeParsedPointer() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(Json.createPointer("/body/1/tags/1"));
+        }
+        JsonPointer pointer;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            pointer = (JsonPointer) ois.readObject();
+        }
+        assertEquals(Json.createPointer("/body/1/tags/1"), pointer);
+        assertEquals(Json.createValue("y"), pointer.getValue(DOCUMENT));
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.json.spi.JsonProvider;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the resolution of JsonProvider
+ */
+public class JsonProviderTest extends TestCase {
+
+    public void testProviderIsCached() {
+        JsonProvider provider = JsonProvider.provider();
+        assertSame(provider, JsonProvider.provider());
+        assertEquals("org.glassfish.json.JsonProviderImpl", provider.getClass().getName());
+    }
+
+    public void testProviderPerContextClassLoader() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        JsonProvider provider = JsonProvider.provider();
+        try (URLClassLoader loader = new URLClassLoader(new URL[0], original)) {
+            thread.setContextClassLoader(loader);
+            JsonProvider other = JsonProvider.provider();
+            assertNotSame(provider, other);
+            assertSame(other, JsonProvider.provider());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        assertSame(provider, JsonProvider.provider());
+    }
+
+    public void testApplicationProviderNotCached() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        WeakReference<ClassLoader> ref;
+        try {
+            ref = useApplicationProvider();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        // the provider defined by the application's loader isn't cached,
+        // it doesn't keep the loader reachable
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+    }
+
+    private static WeakReference<ClassLoader> useApplicationProvider() throws Exception {
+        URL impl = JsonProvider.provider().getClass()
+                .getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader loader = new ApplicationClassLoader(impl, Thread.currentThread().getContextClassLoader());
+        Thread.currentThread().setContextClassLoader(loader);
+        JsonProvider provider = JsonProvider.provider();
+        assertSame(loader, provider.getClass().getClassLoader());
+        assertNotSame(provider, JsonProvider.provider());
+        return new WeakReference<>(loader);
+    }
+
+    // Defines its own copy of the impl classes, like an application that
+    // bundles the impl
+    private static class ApplicationClassLoader extends URLClassLoader {
+
+        ApplicationClassLoader(URL impl, ClassLoader parent) {
+            super(new URL[] {impl}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith("org.glassfish.json.")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    clazz = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+    }
+
+}
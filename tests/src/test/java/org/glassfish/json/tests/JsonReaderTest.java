@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -45,18 +45,33 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import javax.json.Json;
 import javax.json.JsonArray;
+import javax.json.JsonException;
 import javax.json.JsonNumber;
 import javax.json.JsonObject;
+import javax.json.JsonPointer;
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
+import javax.json.JsonStructure;
 import javax.json.JsonValue;
+import javax.json.stream.JsonParsingException;
 
 import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.JsonConfig;
+import org.glassfish.json.api.JsonMappedReaderFactory;
 
 import junit.framework.TestCase;
 
@@ -229,4 +244,209 @@ public class JsonReaderTest extends TestCase {
         }
     }
 
+    public void testLazyReading() throws Exception {
+        JsonReaderFactory factory = Json.createReaderFactory(
+                Collections.singletonMap(JsonConfig.LAZY_READING, true));
+        assertTrue(factory.getConfigInUse().containsKey(JsonConfig.LAZY_READING));
+        for (String name : new String[] {"/twitter.json", "/facebook.json", "/wiki.json", "/rfc6901.json"}) {
+            JsonStructure expected;
+            try (JsonReader reader = Json.createReader(
+                    JsonReaderTest.class.getResourceAsStream(name))) {
+                expected = reader.read();
+            }
+            JsonStructure actual;
+            try (JsonReader reader = factory.createReader(
+                    JsonReaderTest.class.getResourceAsStream(name))) {
+                actual = reader.read();
+            }
+            assertEquals(name, expected, actual);
+            assertEquals(name, expected.hashCode(), actual.hashCode());
+            assertEquals(name, expected.toString(), actual.toString());
+        }
+    }
+
+    public void testLazyReadingValues() throws Exception {
+        JsonReaderFactory factory = Json.createReaderFactory(
+                Collections.singletonMap(JsonConfig.LAZY_READING, true));
+        String json = "{ \"a\\tb\" : \"x\\u00e9\\\"y\", \"n\": [ 1, -2147483649, 1.5e3, 12345678901234567890 ],"
+                + "\"o\":{\"p\":{}, \"q\":[[],[null,true,false]]}, \"a\\tb\": 2 }";
+        JsonObject object;
+        try (JsonReader reader = factory.createReader(new StringReader(json))) {
+            object = reader.readObject();
+        }
+        assertEquals(2, object.getInt("a\tb"));
+        assertSame(object.get("n"), object.get("n"));
+        assertEquals("d", object.getString("n", "d"));
+        assertFalse(object.containsKey("x"));
+        assertEquals(3, object.size());
+        JsonArray n = object.getJsonArray("n");
+        assertEquals(1, n.getInt(0));
+        assertEquals(-2147483649L, n.getJsonNumber(1).longValueExact());
+        assertEquals(new BigDecimal("1.5e3"), n.getJsonNumber(2).bigDecimalValue());
+        assertEquals(new BigInteger("12345678901234567890"), n.getJsonNumber(3).bigIntegerValueExact());
+        assertTrue(object.getJsonObject("o").getJsonObject("p").isEmpty());
+        JsonArray q = object.getJsonObject("o").getJsonArray("q");
+        assertTrue(q.getJsonArray(0).isEmpty());
+        assertTrue(q.getJsonArray(1).isNull(0));
+        assertTrue(q.getJsonArray(1).getBoolean(1));
+        assertFalse(q.getJsonArray(1).getBoolean(2));
+
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            assertEquals(reader.readObject(), object);
+        }
+        try (JsonReader reader = factory.createReader(new StringReader("[\"x\\u00e9\\\"y\"]"))) {
+            assertEquals("x\u00e9\"y", reader.readArray().getString(0));
+        }
+        try (JsonReader reader = factory.createReader(new StringReader(" 12 "))) {
+            assertEquals(12, ((JsonNumber) reader.readValue()).intValue());
+        }
+    }
+
+    public void testLazyReadingErrors() throws Exception {
+        JsonReaderFactory factory = Json.createReaderFactory(
+                Collections.singletonMap(JsonConfig.LAZY_READING, true));
+        // The whole document is validated by read()
+        for (String json : new String[] {"{\"a\":[1,2,}]}", "[1, {\"a\":tru}]", "[[1]"}) {
+            try (JsonReader reader = factory.createReader(new StringReader(json))) {
+                reader.read();
+                fail("Expected JsonParsingException for " + json);
+            } catch (JsonParsingException expected) {
+                // no-op
+            }
+        }
+        try (JsonReader reader = factory.createReader(new StringReader("[]"))) {
+            reader.readObject();
+            fail("Expected JsonParsingException");
+        } catch (JsonParsingException expected) {
+            // no-op
+        }
+        try (JsonReader reader = factory.createReader(new StringReader("{}"))) {
+            reader.readArray();
+            fail("Expected JsonParsingException");
+        } catch (JsonParsingException expected) {
+            // no-op
+        }
+    }
+
+    public void testSelectedPointers() throws Exception {
+        String[] pointers = {"/statuses/0/user/id", "/statuses/0/entities/hashtags",
+                "/statuses/3/metadata", "/search_metadata/count", "/statuses/1/nothing",
+                "/missing"};
+        JsonReaderFactory factory = Json.createReaderFactory(
+                Collections.singletonMap(JsonConfig.SELECTED_POINTERS, Arrays.asList(pointers)));
+        JsonObject expected;
+        try (JsonReader reader = Json.createReader(
+                JsonReaderTest.class.getResourceAsStream("/twitter.json"))) {
+            expected = reader.readObject();
+        }
+        JsonObject actual;
+        try (JsonReader reader = factory.createReader(
+                JsonReaderTest.class.getResourceAsStream("/twitter.json"))) {
+            actual = reader.readObject();
+        }
+        for (String p : pointers) {
+            JsonPointer pointer = Json.createPointer(p);
+            assertEquals(p, pointer.containsValue(expected), pointer.containsValue(actual));
+            if (pointer.containsValue(expected)) {
+                assertEquals(p, pointer.getValue(expected), pointer.getValue(actual));
+            }
+        }
+        // only the paths to the selected values are kept
+        assertEquals(new HashSet<>(Arrays.asList("statuses", "search_metadata")), actual.keySet());
+        JsonArray statuses = actual.getJsonArray("statuses");
+        assertEquals(4, statuses.size());
+        assertEquals(new HashSet<>(Arrays.asList("user", "entities")), statuses.getJsonObject(0).keySet());
+        assertEquals(Collections.singleton("id"), statuses.getJsonObject(0).getJsonObject("user").keySet());
+        assertTrue(statuses.getJsonObject(1).isEmpty());
+        assertEquals(JsonValue.NULL, statuses.get(2));
+    }
+
+    public void testSelectedPointersValues() throws Exception {
+        JsonReaderFactory factory = Json.createReaderFactory(Collections.singletonMap(
+                JsonConfig.SELECTED_POINTERS, Arrays.asList("/a/1/b", Json.createPointer("/c"), "/d/0", "/01", "/5")));
+        String json = "{\"x\":{\"a\":[1]},\"a\":[{\"b\":0},{\"b\":[1,{}],\"c\":2},3],\"c\":\"s\",\"d\":7,\"01\":true}";
+        try (JsonReader reader = factory.createReader(new StringReader(json))) {
+            assertEquals(Json.createReader(new StringReader(
+                    "{\"a\":[null,{\"b\":[1,{}]}],\"c\":\"s\",\"01\":true}")).readObject(),
+                    reader.readObject());
+        }
+        try (JsonReader reader = factory.createReader(new StringReader("[[5,6],[7],{\"b\":1}]"))) {
+            assertEquals(Json.createReader(new StringReader("[null,null,null]")).readArray(),
+                    reader.readArray());
+        }
+        try (JsonReader reader = factory.createReader(new StringReader("\"s\""))) {
+            assertEquals(Json.createValue("s"), reader.readValue());
+        }
+        try (JsonReader reader = factory.createReader(new StringReader("[]"))) {
+            reader.readObject();
+            fail("Expected JsonParsingException");
+        } catch (JsonParsingException expected) {
+            // no-op
+        }
+        factory = Json.createReaderFactory(Collections.singletonMap(
+                JsonConfig.SELECTED_POINTERS, Collections.singleton("")));
+        try (JsonReader reader = factory.createReader(new StringReader(json))) {
+            assertEquals(Json.createReader(new StringReader(json)).read(), reader.read());
+        }
+        try {
+            Json.createReaderFactory(Collections.singletonMap(
+                    JsonConfig.SELECTED_POINTERS, Collections.singleton(1)));
+            fail("Expected JsonException");
+        } catch (JsonException expected) {
+            // no-op
+        }
+    }
+
+    public void testMappedReader() throws Exception {
+        String json = "{\"a\":[1,2.5,\"x\"],\"b\":{\"c\":null}}";
+        JsonObject expected = Json.createReader(new StringReader(json)).readObject();
+        JsonMappedReaderFactory factory = (JsonMappedReaderFactory) Json.createReaderFactory(null);
+        Path file = Files.createTempFile("reader", ".json");
+        try {
+            Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+            try (JsonReader reader = factory.createReader(file)) {
+                assertEquals(expected, reader.readObject());
+            }
+
+            // from the position of the channel
+            Files.write(file, ("  xx" + json).getBytes(StandardCharsets.UTF_8));
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            channel.position(4);
+            try (JsonReader reader = factory.createReader(channel)) {
+                assertEquals(expected, reader.readObject());
+            }
+            assertFalse(channel.isOpen());
+
+            // encoding is detected
+            Files.write(file, json.getBytes(StandardCharsets.UTF_16LE));
+            try (JsonReader reader = factory.createReader(file)) {
+                assertEquals(expected, reader.readObject());
+            }
+
+            // lazy reading
+            Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+            JsonMappedReaderFactory lazy = (JsonMappedReaderFactory) Json.createReaderFactory(
+                    Collections.singletonMap(JsonConfig.LAZY_READING, true));
+            try (JsonReader reader = lazy.createReader(file)) {
+                assertEquals(expected, reader.readObject());
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        try {
+            factory.createReader(file);
+            fail("Expected JsonException for a missing file");
+        } catch (JsonException expected2) {
+            // no-op
+        }
+
+        ByteBuffer input = ByteBuffer.wrap(("[" + json + "]").getBytes(StandardCharsets.UTF_8));
+        input.position(1).limit(input.limit() - 1);
+        try (JsonReader reader = factory.createReader(input)) {
+            assertEquals(expected, reader.readObject());
+        }
+        assertEquals(1, input.position());
+    }
+
 }
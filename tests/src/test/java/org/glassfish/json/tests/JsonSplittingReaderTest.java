@@ -0,0 +1,219 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package org.glassfish.json.tests;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParsingException;
+
+import org.glassfish.json.api.JsonSplittingReaderFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests JsonSplittingReaderFactory
+ */
+public class JsonSplittingReaderTest extends TestCase {
+
+    private static final JsonSplittingReaderFactory FACTORY =
+            (JsonSplittingReaderFactory) Json.createReaderFactory(null);
+
+    // records with strings that have the delimiters in them
+    private static List<JsonValue> records(int count) {
+        List<JsonValue> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            JsonObject record = Json.createObjectBuilder()
+                    .add("id", i)
+                    .add("text", "a, [b] {c} \"d\\\" ,] " + i)
+                    .add("values", Json.createArrayBuilder().add(i).add(i * 0.5).add("x,y"))
+                    .build();
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static ByteBuffer lines(List<JsonValue> records) {
+        StringBuilder sb = new StringBuilder();
+        for (JsonValue record : records) {
+            sb.append(record).append('\n');
+        }
+        return ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ByteBuffer array(List<JsonValue> records) {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        records.forEach(builder::add);
+        String json = " \n" + builder.build() + "\r\n";
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<JsonValue> parallel(Spliterator<JsonValue> spliterator) {
+        return StreamSupport.stream(spliterator, true).collect(Collectors.toList());
+    }
+
+    public void testLines() {
+        List<JsonValue> records = records(20000);
+        ByteBuffer input = lines(records);
+        assertEquals(records, parallel(FACTORY.createLinesSpliterator(input)));
+        assertEquals(0, input.position());
+
+        List<JsonValue> sequential = new ArrayList<>();
+        FACTORY.createLinesSpliterator(input).forEachRemaining(sequential::add);
+        assertEquals(records, sequential);
+    }
+
+    public void testArray() {
+        List<JsonValue> records = records(20000);
+        ByteBuffer input = array(records);
+        assertEquals(records, parallel(FACTORY.createArraySpliterator(input)));
+        assertEquals(0, input.position());
+
+        // the array of a reader
+        JsonArray array = Json.createReader(new StringReader(
+                new String(input.array(), StandardCharsets.UTF_8))).readArray();
+        assertEquals(array, parallel(FACTORY.createArraySpliterator(input)));
+    }
+
+    public void testSplits() {
+        ByteBuffer input = array(records(20000));
+        Spliterator<JsonValue> spliterator = FACTORY.createArraySpliterator(input);
+        long size = spliterator.estimateSize();
+        Spliterator<JsonValue> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(size, prefix.estimateSize() + spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+
+        // not split once reading started
+        assertTrue(spliterator.tryAdvance(v -> { }));
+        assertNull(spliterator.trySplit());
+
+        Spliterator<JsonValue> lines = FACTORY.createLinesSpliterator(lines(records(20000)));
+        assertNotNull(lines.trySplit());
+    }
+
+    public void testSmallInput() {
+        assertEquals(0, parallel(FACTORY.createArraySpliterator(bytes("[]"))).size());
+        assertEquals(0, parallel(FACTORY.createLinesSpliterator(bytes(""))).size());
+        assertEquals(3, parallel(FACTORY.createArraySpliterator(bytes("[1, \"2\", [3]]"))).size());
+        assertEquals(2, parallel(FACTORY.createLinesSpliterator(bytes("\n1\n\n[2]"))).size());
+
+        // from the position of the buffer, after a byte order mark
+        ByteBuffer input = ByteBuffer.wrap(new byte[] {
+                'x', 'x', 'x', (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', 't', 'r', 'u', 'e', ']' });
+        input.position(3);
+        assertEquals(1, parallel(FACTORY.createArraySpliterator(input)).size());
+        assertEquals(3, input.position());
+    }
+
+    public void testNotArray() {
+        String[] inputs = { "", "{}", "[1,2", "[1,2} ", "[1] [2]", "[\"]" };
+        for (String json : inputs) {
+            try {
+                FACTORY.createArraySpliterator(bytes(json));
+                fail("Expected JsonParsingException for " + json);
+            } catch (JsonParsingException expected) {
+                // expected
+            }
+        }
+    }
+
+    public void testMalformedChunk() {
+        String[] inputs = { "[1,]", "[1 2]", "[{\"a\":}]", "[1,{]}]" };
+        for (String json : inputs) {
+            try {
+                parallel(FACTORY.createArraySpliterator(bytes(json)));
+                fail("Expected JsonParsingException for " + json);
+            } catch (JsonParsingException expected) {
+                // expected
+            }
+        }
+        try {
+            parallel(FACTORY.createLinesSpliterator(bytes("1\n{\n")));
+            fail("Expected JsonParsingException for a malformed record");
+        } catch (JsonParsingException expected) {
+            // expected
+        }
+    }
+
+    public void testMissingElementAtBoundary() {
+        char[] chars = new char[70000];
+        Arrays.fill(chars, 'a');
+        String large = "\"" + new String(chars) + "\"";
+        Arrays.fill(chars, ' ');
+        String spaces = new String(chars);
+        String[] inputs = { "[" + large + ",]", "[" + large + ", \n]",
+                "[" + large + "," + spaces + ",1]", "[" + spaces + ",1]" };
+        for (String json : inputs) {
+            try {
+                Json.createReader(new StringReader(json)).readArray();
+                fail("Expected JsonParsingException from the reader");
+            } catch (JsonParsingException expected) {
+                // expected
+            }
+            try {
+                parallel(FACTORY.createArraySpliterator(bytes(json)));
+                fail("Expected JsonParsingException from the spliterator");
+            } catch (JsonParsingException expected) {
+                // expected
+            }
+        }
+        assertEquals(2, parallel(FACTORY.createArraySpliterator(bytes("[" + large + ", 1 ]"))).size());
+    }
+
+    private static ByteBuffer bytes(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
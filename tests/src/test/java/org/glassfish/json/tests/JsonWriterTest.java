@@ -1,7 +1,7 @@
 /*
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
  *
- * Copyright (c) 2012-2017 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012-2026 Oracle and/or its affiliates. All rights reserved.
  *
  * The contents of this file are subject to the terms of either the GNU
  * General Public License Version 2 only ("GPL") or the Common Development
@@ -44,6 +44,13 @@ import javax.json.*;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.glassfish.json.api.JsonBufferWriterFactory;
 
 import junit.framework.TestCase;
 
@@ -238,6 +245,38 @@ public class JsonWriterTest extends TestCase {
         assertTrue(baos.isClosed());
     }
 
+    public void testByteBufferWriter() throws Exception {
+        JsonObject object = Json.createObjectBuilder()
+                .add("name", "value")
+                .add("array", Json.createArrayBuilder().add(1).add(true))
+                .build();
+        JsonBufferWriterFactory factory = (JsonBufferWriterFactory) Json.createWriterFactory(null);
+
+        List<ByteBuffer> buffers = new ArrayList<>();
+        ByteBuffer first = ByteBuffer.allocateDirect(8);
+        JsonWriter writer = factory.createWriter(first, full -> {
+            buffers.add(full);
+            return ByteBuffer.allocateDirect(8);
+        });
+        writer.write(object);
+        writer.close();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer.get());
+            }
+        }
+        assertEquals(object.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        MyByteStream baos = new MyByteStream();
+        writer = factory.createWriter(Channels.newChannel(baos));
+        writer.write(object);
+        writer.close();
+        assertEquals(object.toString(), baos.toString("UTF-8"));
+        assertTrue(baos.isClosed());
+    }
+
     private static final class MyByteStream extends ByteArrayOutputStream {
         boolean closed;
 
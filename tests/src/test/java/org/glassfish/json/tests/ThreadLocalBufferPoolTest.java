@@ -0,0 +1,177 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package org.glassfish.json.tests;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.json.Json;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonStructure;
+
+import org.glassfish.json.api.BufferPool;
+import org.glassfish.json.api.ThreadLocalBufferPool;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests ThreadLocalBufferPool
+ */
+public class ThreadLocalBufferPoolTest extends TestCase {
+
+    public void testSizeClasses() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool();
+        char[] buf = pool.take();
+        assertEquals(4096, buf.length);
+        pool.recycle(buf);
+        assertSame(buf, pool.take());
+
+        byte[] bytes = pool.takeBytes();
+        assertEquals(8192, bytes.length);
+        pool.recycleBytes(bytes);
+        assertSame(bytes, pool.takeBytes());
+
+        // rounded up to the next class, and reused for that class
+        char[] grown = pool.take(5000);
+        assertEquals(8192, grown.length);
+        pool.recycle(grown);
+        assertSame(grown, pool.take(8192));
+        assertNotSame(grown, pool.take());
+
+        // not pooled
+        char[] odd = new char[5000];
+        pool.recycle(odd);
+        assertNotSame(odd, pool.take(5000));
+        char[] large = pool.take(4096 * 1024);
+        assertEquals(4096 * 1024, large.length);
+        pool.recycle(large);
+        assertNotSame(large, pool.take(4096 * 1024));
+    }
+
+    public void testThreadLimit() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(3 * 8192, 0);
+        char[] buf1 = pool.take();
+        char[] buf2 = pool.take();
+        char[] buf3 = pool.take();
+        pool.recycle(buf1);
+        pool.recycle(buf2);
+        pool.recycle(buf3);         // only two per class
+        byte[] bytes1 = pool.takeBytes();
+        byte[] bytes2 = pool.takeBytes();
+        pool.recycleBytes(bytes1);
+        pool.recycleBytes(bytes2);  // over the limit
+        assertSame(bytes1, pool.takeBytes());
+        assertNotSame(bytes2, pool.takeBytes());
+        assertSame(buf2, pool.take());
+        assertSame(buf1, pool.take());
+        assertNotSame(buf3, pool.take());
+    }
+
+    public void testSharedOverflow() throws Exception {
+        final ThreadLocalBufferPool pool = new ThreadLocalBufferPool(0, 8192);
+        final char[] buf1 = pool.take();
+        final char[] buf2 = pool.take();
+        pool.recycle(buf1);
+        pool.recycle(buf2);         // over the shared limit
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertSame(buf1, executor.submit(() -> pool.take()).get());
+            assertNotSame(buf2, executor.submit(() -> pool.take()).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testPoolCollected() throws Exception {
+        WeakReference<ThreadLocalBufferPool> ref = usedPool();
+        // the buffers kept by this thread don't keep the pool reachable
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+    }
+
+    private static WeakReference<ThreadLocalBufferPool> usedPool() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool();
+        pool.recycle(pool.take());
+        pool.recycleBytes(pool.takeBytes());
+        return new WeakReference<>(pool);
+    }
+
+    public void testConcurrentReading() throws Exception {
+        final JsonReaderFactory factory = Json.createReaderFactory(Collections.singletonMap(
+                BufferPool.class.getName(), new ThreadLocalBufferPool()));
+        final JsonStructure expected = read(factory, false);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JsonStructure>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                final boolean chars = (i & 1) == 0;
+                results.add(executor.submit(() -> read(factory, chars)));
+            }
+            for (Future<JsonStructure> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static JsonStructure read(JsonReaderFactory factory, boolean chars) {
+        InputStream in = ThreadLocalBufferPoolTest.class.getResourceAsStream("/twitter.json");
+        try (JsonReader reader = chars
+                ? factory.createReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : factory.createReader(in, StandardCharsets.UTF_8)) {
+            return reader.read();
+        }
+    }
+
+}